@@ -0,0 +1,66 @@
+"""분석 규칙 공유 fixture 생성
+
+backend 의 TextAnalyzer 가 이 서비스와 같은 결과를 내는지 검증하는 데 쓰는 입력/기대값을 만든다.
+해시태그는 Python set 순서가 실행마다 달라질 수 있어 정렬해 저장한다 (5개 이하인 입력만 둔다).
+
+    cd ai && python -m scripts.export_analysis_fixtures
+"""
+import json
+from pathlib import Path
+
+from app.main import analyze_sentiment, extract_hashtags
+
+OUTPUT = Path(__file__).resolve().parents[2] / "backend/src/test/resources/analysis/fixtures.json"
+
+INPUTS = [
+    "",
+    "그냥 평범한 하루",
+    "오늘 날씨 최고! 너무 행복해",
+    "진짜 최악이다. 짜증나고 힘들어",
+    "좋아 좋아 좋아 하지만 별로",
+    "좋아하는데 실망했어",
+    "Great day, love it, awesome!",
+    "This is BAD. I HATE it and it's terrible",
+    "good but bad",
+    "good and great but sad",
+    "good, great, happy but sad",
+    "good great happy love but sad bad",
+    "맛있는 커피 먹고 여행 계획",
+    "#주말 #Spring 코딩 공부 중",
+    "#dup #dup 운동 gym",
+    "비가 오고 눈도 와서 흐림",
+    "worst travel ever, disappointed and angry",
+    "happyhappy nicest bestest",
+    "최고최악",
+    "HELLO WORLD",
+    "devops programming",
+    "#태그_1 오늘도 좋은 하루",
+    "amazing wonderful nice best thanks",
+    "awful horrible difficult sad",
+    "좋아 최고 행복 감사 싫어",
+    "좋아 최고 싫어 최악 슬프",
+    "좋아 싫어 최악 슬프",
+    "good bad sad hate worst",
+]
+
+
+def main() -> None:
+    fixtures = []
+    for text in INPUTS:
+        sentiment, score, emoji = analyze_sentiment(text)
+        hashtags = extract_hashtags(text)
+        assert len(hashtags) < 5 or len(set(hashtags)) == 5, "5개 초과 해시태그는 순서가 비결정적"
+        fixtures.append({
+            "content": text,
+            "sentiment": sentiment,
+            "score": score,
+            "emoji": emoji,
+            "hashtags": sorted(hashtags),
+        })
+    OUTPUT.parent.mkdir(parents=True, exist_ok=True)
+    OUTPUT.write_text(json.dumps(fixtures, ensure_ascii=False, indent=2) + "\n", encoding="utf-8")
+    print(f"{len(fixtures)} fixtures -> {OUTPUT}")
+
+
+if __name__ == "__main__":
+    main()
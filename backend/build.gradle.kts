@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -30,6 +31,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.0")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("io.jsonwebtoken:jjwt-api:0.12.3")
 	runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.3")
 	runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.3")
@@ -40,12 +44,37 @@ dependencies {
 	testImplementation("org.springframework.security:spring-security-test")
 	runtimeOnly("com.mysql:mysql-connector-j")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+	jmhImplementation("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+jmh {
+	jmhVersion = "1.37"
+	includeTests = false
+}
+
+// 벤치마크 실행: ./gradlew jmhRun -PjmhIncludes=JwtTokenProviderBenchmark [-PjmhArgs="-wi 1 -i 2"]
+// jmhJar(fat jar)는 스프링 자동 설정 목록(META-INF/spring/*.imports)을 하나만 남기므로 클래스패스로 직접 실행한다.
+// 결과는 커밋 간 비교를 위해 build/results/jmh/results.json 으로 저장
+tasks.register<JavaExec>("jmhRun") {
+	group = "benchmark"
+	description = "Runs JMH benchmarks from the classpath and writes JSON results."
+	dependsOn("jmhCompileGeneratedClasses")
+	val resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+	mainClass = "org.openjdk.jmh.Main"
+	classpath = files(
+		layout.buildDirectory.dir("jmh-generated-classes"),
+		layout.buildDirectory.dir("jmh-generated-resources")
+	) + sourceSets["jmh"].runtimeClasspath
+	val runArgs = (findProperty("jmhArgs") as String? ?: "-f 1 -wi 3 -i 5").split(" ").filter { it.isNotBlank() }
+	args = listOfNotNull(findProperty("jmhIncludes") as String?) + runArgs +
+		listOf("-rf", "json", "-rff", resultsFile.get().asFile.absolutePath)
+	doFirst { resultsFile.get().asFile.parentFile.mkdirs() }
+}
+
 tasks.jar{
     enabled = false
 }
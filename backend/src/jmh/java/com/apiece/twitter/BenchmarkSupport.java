@@ -0,0 +1,69 @@
+package com.apiece.twitter;
+
+import com.apiece.twitter.global.jpa.entity.BaseEntity;
+import com.apiece.twitter.post.domain.Post;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 헬퍼 - H2 프로필로 애플리케이션 컨텍스트/서버 기동, 테스트용 엔티티 생성
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    // 웹 서버 없이 H2 로 컨텍스트 기동 (커맨드라인 인자라 application.yaml 보다 우선)
+    public static ConfigurableApplicationContext startH2Context(String... extraArgs) {
+        return start(WebApplicationType.NONE, "h2", extraArgs);
+    }
+
+    // 임의 포트의 내장 Tomcat + H2 로 기동, profiles 는 h2 에 추가할 프로필 (예: "virtual")
+    public static ConfigurableApplicationContext startH2Server(String profiles, String... extraArgs) {
+        String active = profiles.isBlank() ? "h2" : "h2," + profiles;
+        List<String> args = new ArrayList<>(List.of("--server.port=0"));
+        args.addAll(List.of(extraArgs));
+        return start(WebApplicationType.SERVLET, active, args.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType type, String profiles, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=" + profiles,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"
+        ));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(TwitterApplication.class)
+                .web(type)
+                .run(args.toArray(String[]::new));
+    }
+
+    // 저장하지 않은 게시글에 id / 생성·수정 시간 채우기
+    public static Post post(long id, String content, String author) {
+        Post post = Post.builder()
+                .content(content)
+                .author(author)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        setField(Post.class, post, "id", id);
+        setField(BaseEntity.class, post, "createdAt", now);
+        setField(BaseEntity.class, post, "modifiedAt", now);
+        return post;
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
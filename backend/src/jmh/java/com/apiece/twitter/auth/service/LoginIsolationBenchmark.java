@@ -0,0 +1,91 @@
+package com.apiece.twitter.auth.service;
+
+import com.apiece.twitter.BenchmarkSupport;
+import com.apiece.twitter.auth.dto.SignUpRequest;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.repository.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인이 몰릴 때 조회 지연 (H2 프로필, 실제 내장 Tomcat)
+ * 같은 그룹에서 login 스레드 16개가 POST /api/auth/login, read 스레드 4개가 GET /api/posts 를 계속 보낸다.
+ * inline: 요청 스레드에서 해싱 (password.hashing.threads=0) / dedicated: 전용 실행기 (기본 CPU 코어 수의 절반)
+ * SampleTime 결과에서 read 의 p99 를 비교한다 - dedicated 는 해싱이 쓰는 코어가 묶여 있어 조회 p99 가 로그인 부하에 덜 끌려간다.
+ * 전용 실행기 대기열이 차서 거절된 로그인(503)도 정상으로 센다. 동시 처리 한도는 끄고 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginIsolationBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+    private static final String PASSWORD = "password123";
+
+    @Param({"inline", "dedicated"})
+    public String hashing;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest loginRequest;
+    private HttpRequest readRequest;
+
+    @Setup
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of("--concurrency-limit.enabled=false"));
+        if ("inline".equals(hashing)) {
+            args.add("--password.hashing.threads=0");
+        }
+        context = BenchmarkSupport.startH2Server("", args.toArray(String[]::new));
+        context.getBean(AuthService.class).signUp(new SignUpRequest(EMAIL, PASSWORD, "벤치마크"));
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            posts.add(Post.builder().content("게시글 " + i).author("작성자" + (i % 100)).build());
+        }
+        context.getBean(PostRepository.class).saveAll(posts);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newHttpClient();
+        loginRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+        readRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts?cursor=&size=20")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(16)
+    public int login() throws Exception {
+        int status = httpClient.send(loginRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200 && status != 503) {
+            throw new IllegalStateException("login failed with " + status + " in " + hashing + " mode");
+        }
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public int read() throws Exception {
+        int status = httpClient.send(readRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("read failed with " + status + " in " + hashing + " mode");
+        }
+        return status;
+    }
+}
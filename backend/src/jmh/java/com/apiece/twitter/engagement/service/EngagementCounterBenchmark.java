@@ -0,0 +1,72 @@
+package com.apiece.twitter.engagement.service;
+
+import com.apiece.twitter.engagement.config.EngagementProperties;
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import com.apiece.twitter.engagement.domain.EngagementType;
+import com.apiece.twitter.engagement.repository.EngagementCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 누적 처리량 - 게시글별 잠금(행 UPDATE 를 흉내) vs EngagementCounter(LongAdder)
+ * 스레드 수를 바꿔 가며 실행해 코어가 늘 때 처리량이 같이 느는지 본다. posts=1 은 모든 반응이 인기 게시글 하나에 몰린 경우.
+ * ./gradlew jmhRun -PjmhIncludes=EngagementCounterBenchmark -PjmhArgs="-f 1 -wi 3 -i 5 -t 1" (이어서 -t 4, -t 8 ...)
+ * 반영은 10ms 마다 실제로 돌지만 DB 는 거치지 않는다 (UPDATE 비용은 빼고 누적 경합만 비교).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EngagementCounterBenchmark {
+
+    @Param({"1", "1000"})
+    public int posts;
+
+    private EngagementCounter engagementCounter;
+    private LockedCount[] lockedCounts;
+
+    @Setup
+    public void setUp() {
+        EngagementCountRepository noopRepository = new EngagementCountRepository(null) {
+            @Override
+            public void addAll(Map<Long, EngagementCounts> deltas) {
+            }
+        };
+        engagementCounter = new EngagementCounter(noopRepository,
+                new EngagementProperties(Duration.ofMillis(10), 100_000), new SimpleMeterRegistry());
+        engagementCounter.start();
+        lockedCounts = new LockedCount[posts];
+        for (int i = 0; i < posts; i++) {
+            lockedCounts[i] = new LockedCount();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        engagementCounter.stop();
+    }
+
+    @Benchmark
+    public void striped() {
+        engagementCounter.add((long) ThreadLocalRandom.current().nextInt(posts), EngagementType.LIKE, 1);
+    }
+
+    @Benchmark
+    public void rowLock() {
+        lockedCounts[ThreadLocalRandom.current().nextInt(posts)].increment();
+    }
+
+    // 게시글 행 하나 - 증가할 때마다 잠근다
+    private static final class LockedCount {
+
+        private long likes;
+
+        synchronized void increment() {
+            likes++;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.apiece.twitter.follow.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 간선 100만 개 팔로우 그래프 - 팔로우 여부(이진 탐색) / 맞팔로우(galloping 교집합) 비용과 힙 사용량
+ * 사용자 10만 명, 팔로우 대상은 앞쪽 사용자에 몰리게 뽑아(거듭제곱 분포) 팔로워 수십만 명인 사용자와 소수인 사용자가 섞인다.
+ * Setup 에서 추정치(Footprint)와 GC 후 실제 힙 증가량을 함께 출력한다.
+ * 팔로워 100만 명인 사용자의 팔로우/언팔로우 비용은 별도 그래프(HighFollowerTarget)로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FollowGraphBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int EDGES = 1_000_000;
+
+    private FollowGraph graph;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        Random random = new Random(1);
+        for (int i = 0; i < EDGES; i++) {
+            builder.add(i % USERS, popular(random));
+        }
+        graph = builder.build();
+        builder = null;
+        long measured = usedHeap() - before;
+        FollowGraph.Footprint footprint = graph.footprint();
+        System.out.printf("%nFollow graph: %d edges, estimated %d KiB (%.1f bytes/edge), measured %d KiB (%.1f bytes/edge)%n",
+                footprint.edges(), footprint.totalBytes() / 1024, footprint.bytesPerEdge(),
+                measured / 1024, (double) measured / footprint.edges());
+    }
+
+    @Benchmark
+    public boolean follows() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return graph.follows(random.nextInt(USERS), random.nextInt(USERS));
+    }
+
+    // 인기 사용자(팔로워 많음)의 맞팔로우 - 팔로잉은 짧고 팔로워는 길어 galloping 이 대부분을 건너뛴다
+    @Benchmark
+    public long[] mutualsOfPopularUser() {
+        return graph.mutuals(ThreadLocalRandom.current().nextInt(10));
+    }
+
+    @Benchmark
+    public long[] mutualsOfTypicalUser() {
+        return graph.mutuals(ThreadLocalRandom.current().nextInt(USERS));
+    }
+
+    // 팔로워 100만 명인 사용자를 팔로우했다가 언팔로우 - 목록 전체가 아니라 블록 하나와 블록 참조 배열만 복사한다
+    @Benchmark
+    public boolean followAndUnfollowHighFollowerTarget(HighFollowerTarget target) {
+        long follower = 2L * ThreadLocalRandom.current().nextInt(HighFollowerTarget.FOLLOWERS) + 1;
+        target.graph.add(follower, HighFollowerTarget.TARGET);
+        return target.graph.remove(follower, HighFollowerTarget.TARGET);
+    }
+
+    // 사용자 0 을 짝수 ID 100만 명이 팔로우 (벤치마크는 홀수 ID 로 추가/제거해 크기가 유지된다)
+    @State(Scope.Benchmark)
+    public static class HighFollowerTarget {
+
+        static final long TARGET = 0;
+        static final int FOLLOWERS = 1_000_000;
+
+        FollowGraph graph;
+
+        @Setup
+        public void setUp() {
+            FollowGraph.Builder builder = new FollowGraph.Builder();
+            for (int i = 1; i <= FOLLOWERS; i++) {
+                builder.add(2L * i, TARGET);
+            }
+            graph = builder.build();
+        }
+    }
+
+    // 작은 ID 일수록 자주 뽑힌다
+    private static long popular(Random random) {
+        double u = random.nextDouble();
+        return (long) (USERS * u * u * u);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
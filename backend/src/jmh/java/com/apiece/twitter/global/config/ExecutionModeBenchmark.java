@@ -0,0 +1,82 @@
+package com.apiece.twitter.global.config;
+
+import com.apiece.twitter.BenchmarkSupport;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.repository.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 모드별 부하 비교 (H2 프로필, 실제 내장 Tomcat)
+ * 한 번의 호출마다 concurrency 개의 GET /api/posts 요청을 동시에 보내고 모두 끝날 때까지의 시간을 잰다.
+ * platform: Tomcat 플랫폼 스레드 풀(기본 200) / virtual: application-virtual.yaml (가상 스레드 + 풀 크기 조정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutionModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clients;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startH2Server("virtual".equals(mode) ? "virtual" : "");
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            posts.add(Post.builder().content("게시글 " + i).author("작성자" + (i % 100)).build());
+        }
+        postRepository.saveAll(posts);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        // 클라이언트 쪽이 병목이 되지 않도록 요청마다 가상 스레드 사용
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().executor(clients).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts?cursor=&size=20")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        clients.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentReads() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(clients.submit(() -> httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+        }
+        int ok = 0;
+        for (Future<Integer> response : responses) {
+            if (response.get() == 200) {
+                ok++;
+            }
+        }
+        if (ok != concurrency) {
+            throw new IllegalStateException((concurrency - ok) + " of " + concurrency + " requests failed in " + mode + " mode");
+        }
+        return ok;
+    }
+}
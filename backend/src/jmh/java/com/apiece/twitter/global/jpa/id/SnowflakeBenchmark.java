@@ -0,0 +1,84 @@
+package com.apiece.twitter.global.jpa.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 수별 ID 생성 처리량 - CAS 기반 Snowflake vs 같은 규칙을 synchronized 로 구현한 기준선
+ * 실행: ./gradlew jmhRun -PjmhIncludes=SnowflakeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnowflakeBenchmark {
+
+    private final Snowflake snowflake = new Snowflake(1);
+    private final SynchronizedSnowflake synchronizedSnowflake = new SynchronizedSnowflake(1);
+
+    @Benchmark
+    @Threads(1)
+    public long casThreads1() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long casThreads4() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long casThreads16() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long casThreads64() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long synchronizedThreads1() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long synchronizedThreads4() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long synchronizedThreads16() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long synchronizedThreads64() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    // 비교용 기준선: 같은 비트 배치와 시계 역행/시퀀스 자리올림 규칙, 락만 다르다
+    static final class SynchronizedSnowflake {
+
+        private final long node;
+        private long state;
+
+        SynchronizedSnowflake(int nodeId) {
+            this.node = (long) nodeId << Snowflake.SEQUENCE_BITS;
+        }
+
+        synchronized long nextId() {
+            long now = System.currentTimeMillis() - Snowflake.EPOCH;
+            state = now > (state >>> Snowflake.SEQUENCE_BITS) ? now << Snowflake.SEQUENCE_BITS : state + 1;
+            return ((state >>> Snowflake.SEQUENCE_BITS) << (Snowflake.NODE_BITS + Snowflake.SEQUENCE_BITS))
+                    | node | (state & Snowflake.SEQUENCE_MASK);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.apiece.twitter.global.security.jwt;
+
+import com.apiece.twitter.global.cache.CacheProperties;
+import com.apiece.twitter.global.security.CustomUserDetailsService;
+import com.apiece.twitter.user.domain.User;
+import com.apiece.twitter.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JwtAuthenticationFilter 요청당 지연 시간 - 인증 주체 캐시 사용/미사용 비교
+ * users 조회는 dbLatencyMicros 만큼 대기하는 가짜 UserRepository로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    @Param({"true", "false"})
+    public boolean principalCache;
+
+    @Param({"250"})
+    public long dbLatencyMicros;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .email(EMAIL)
+                .password("{noop}password")
+                .nickname("bench")
+                .build();
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        long maximumSize = principalCache ? 10_000 : 0;
+        Cache<String, UserDetails> cache = new CacheProperties.Spec(maximumSize, Duration.ofMinutes(5))
+                .toBuilder()
+                .executor(Runnable::run)
+                .build();
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository, cache, new SimpleMeterRegistry());
+
+        JwtProperties jwtProperties = new JwtProperties("benchmark-secret-key-must-be-at-least-32-characters-long", 3_600_000);
+        Cache<String, VerifiedToken> verifiedTokenCache = new CacheProperties.Spec(10_000, null)
+                .toBuilder()
+                .expireAfter(VerifiedToken.untilExpiration())
+                .build();
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties, userDetailsService, verifiedTokenCache, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+        authorizationHeader = "Bearer " + jwtTokenProvider.createAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.apiece.twitter.global.security.jwt;
+
+import com.apiece.twitter.global.cache.CacheProperties;
+import com.apiece.twitter.global.security.CustomUserDetails;
+import com.apiece.twitter.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급/검증/인증 객체 생성 비용
+ * verifiedTokenCache=false 면 매 호출마다 HMAC 검증과 파싱을 수행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    @Param({"true", "false"})
+    public boolean verifiedTokenCache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        UserDetails userDetails = new CustomUserDetails(User.builder()
+                .email(EMAIL)
+                .password("{noop}password")
+                .nickname("bench")
+                .build());
+        UserDetailsService userDetailsService = username -> userDetails;
+
+        Cache<String, VerifiedToken> cache = new CacheProperties.Spec(verifiedTokenCache ? 10_000 : 0, null)
+                .toBuilder()
+                .executor(Runnable::run)
+                .expireAfter(VerifiedToken.untilExpiration())
+                .build();
+        JwtProperties jwtProperties = new JwtProperties("benchmark-secret-key-must-be-at-least-32-characters-long", 3_600_000);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, userDetailsService, cache, new SimpleMeterRegistry());
+        token = jwtTokenProvider.createAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtTokenProvider.verify(token);
+    }
+}
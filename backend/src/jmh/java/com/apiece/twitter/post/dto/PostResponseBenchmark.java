@@ -0,0 +1,50 @@
+package com.apiece.twitter.post.dto;
+
+import com.apiece.twitter.BenchmarkSupport;
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.post.domain.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답 변환(PostResponse.from) + ApiResponse<Page<PostResponse>> 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Post> posts;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Post> content = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(BenchmarkSupport.post(i + 1, "오늘 날씨가 좋네요! 게시글 " + i, "작성자" + i));
+        }
+        posts = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public Page<PostResponse> from() {
+        return posts.map(PostResponse::from);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(posts.map(PostResponse::from)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.BenchmarkSupport;
+import com.apiece.twitter.post.dto.PostRequest;
+import com.apiece.twitter.post.dto.PostResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성 처리량 vs 지연 - 요청마다 커밋(off) / 그룹 커밋(window 별)
+ * 32개 스레드가 동시에 작성한다. Throughput 은 초당 작성 수, SampleTime 은 요청별 지연 분포(p50/p99)를 보여준다.
+ * window 가 길수록 배치가 커져 커밋 횟수는 줄지만, 부하가 낮을 때는 window 만큼 지연이 늘어난다.
+ * H2 메모리 DB 는 커밋 시 fsync 가 없으므로 MySQL 에서의 이득은 이보다 크다 (커밋 비용 비교는 MySQL 로 따로 확인).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class PostGroupCommitBenchmark {
+
+    private static final PostRequest REQUEST = new PostRequest("그룹 커밋 벤치마크 게시글 #벤치마크", "작성자");
+
+    @Param({"off", "0ms", "1ms", "5ms"})
+    public String window;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostGroupCommitter postGroupCommitter;
+
+    @Setup
+    public void setUp() {
+        context = "off".equals(window)
+                ? BenchmarkSupport.startH2Context()
+                : BenchmarkSupport.startH2Context(
+                        "--post.group-commit.enabled=true",
+                        "--post.group-commit.window=" + window);
+        postService = context.getBean(PostService.class);
+        postGroupCommitter = context.getBean(PostGroupCommitter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostResponse createPost() {
+        return postGroupCommitter.isEnabled()
+                ? postGroupCommitter.create(REQUEST, null)
+                : postService.createPost(REQUEST, null);
+    }
+}
@@ -0,0 +1,76 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.BenchmarkSupport;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.repository.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 위에서 게시글 목록 조회 비용 - OFFSET 페이징(getAllPosts) vs 커서 페이징(getPostsByCursor)
+ * page 가 깊어질수록 OFFSET 방식은 느려지고, 커서 방식은 일정해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"20000"})
+    public int postCount;
+
+    @Param({"0", "500", "990"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startH2Context();
+        postService = context.getBean(PostService.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < postCount; i++) {
+            posts.add(Post.builder().content("게시글 " + i).author("작성자" + (i % 100)).build());
+            if (posts.size() == 1_000) {
+                postRepository.saveAll(posts);
+                posts.clear();
+            }
+        }
+        postRepository.saveAll(posts);
+
+        // page 번째 페이지 직전까지 커서 이동
+        cursor = "";
+        for (int i = 0; i < page; i++) {
+            cursor = postService.getPostsByCursor(cursor, PAGE_SIZE).nextCursor();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PostResponse> getAllPosts() {
+        return postService.getAllPosts(PageRequest.of(page, PAGE_SIZE, Sort.by("id").descending()));
+    }
+
+    @Benchmark
+    public CursorResponse<PostResponse> getPostsByCursor() {
+        return postService.getPostsByCursor(cursor, PAGE_SIZE);
+    }
+}
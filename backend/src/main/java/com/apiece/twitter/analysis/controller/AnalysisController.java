@@ -0,0 +1,48 @@
+package com.apiece.twitter.analysis.controller;
+
+import com.apiece.twitter.analysis.dto.AnalyzeBatchRequest;
+import com.apiece.twitter.analysis.dto.AnalyzeRequest;
+import com.apiece.twitter.analysis.dto.AnalyzeResponse;
+import com.apiece.twitter.analysis.service.AnalysisService;
+import com.apiece.twitter.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Analysis", description = "본문 분석 API")
+public class AnalysisController {
+
+    private final AnalysisService analysisService;
+
+    // 감정 분석 + 해시태그 추천 API
+    @PostMapping("/api/analyze")
+    @Operation(summary = "본문 분석", description = "감정(긍정/부정/중립)과 추천 해시태그를 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "분석 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "내용 누락 또는 길이 초과")
+    })
+    public ResponseEntity<ApiResponse<AnalyzeResponse>> analyze(@RequestBody AnalyzeRequest request) {
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(analysisService.analyze(request.content())));
+    }
+
+    // 일괄 분석 API
+    @PostMapping("/api/analyze/batch")
+    @Operation(summary = "본문 일괄 분석", description = "여러 본문을 한 번에 분석해 요청 순서대로 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "분석 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "목록이 비었거나 100건 초과, 또는 내용 길이 초과")
+    })
+    public ResponseEntity<ApiResponse<List<AnalyzeResponse>>> analyzeAll(@RequestBody AnalyzeBatchRequest request) {
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(analysisService.analyzeAll(request.contents())));
+    }
+}
@@ -0,0 +1,127 @@
+package com.apiece.twitter.analysis.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Aho-Corasick 다중 문자열 매칭 - 여러 키워드를 하나의 오토마톤으로 컴파일해 본문을 한 번만 훑으며 모두 찾는다.
+ * 노드별 전이는 정렬된 char 배열(이진 탐색), 실패 링크는 BFS 로 미리 계산하고
+ * 각 노드의 출력에는 실패 링크를 따라 도달하는 접미 키워드까지 합쳐 두어 매칭 중에는 링크를 따로 따라가지 않는다.
+ * 생성 후에는 불변이라 여러 스레드에서 공유해도 된다.
+ */
+public final class AhoCorasick<T> {
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final List<List<T>> outputs;
+
+    private AhoCorasick(char[][] keys, int[][] targets, int[] fail, List<List<T>> outputs) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+    }
+
+    // 키워드 -> 값 목록으로 오토마톤 생성 (같은 키워드에 값이 여러 개일 수 있다, 빈 키워드는 무시)
+    public static <T> AhoCorasick<T> compile(Map<String, List<T>> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<T>> outputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        outputs.add(new ArrayList<>());
+
+        for (Map.Entry<String, List<T>> entry : patterns.entrySet()) {
+            String keyword = entry.getKey();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = trie.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    outputs.add(new ArrayList<>());
+                    trie.get(node).put(keyword.charAt(i), next);
+                }
+                node = next;
+            }
+            outputs.get(node).addAll(entry.getValue());
+        }
+
+        int size = trie.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            keys[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[node][i] = edge.getKey();
+                targets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // BFS 순서로 실패 링크 계산 - 부모의 실패 링크가 먼저 정해져 있어야 한다
+        int[] fail = new int[size];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < keys[node].length; i++) {
+                char c = keys[node][i];
+                int child = targets[node][i];
+                int state = fail[node];
+                int next;
+                while ((next = step(keys, targets, state, c)) < 0 && state != 0) {
+                    state = fail[state];
+                }
+                fail[child] = next >= 0 ? next : 0;
+                outputs.get(child).addAll(outputs.get(fail[child]));
+                queue.add(child);
+            }
+        }
+
+        List<List<T>> frozen = new ArrayList<>(size);
+        for (List<T> output : outputs) {
+            frozen.add(List.copyOf(output));
+        }
+        return new AhoCorasick<>(keys, targets, fail, frozen);
+    }
+
+    // 본문을 한 번 훑으며 나타나는 모든 키워드의 값을 전달 (겹치거나 반복되는 출현도 각각 전달)
+    public void scan(CharSequence text, Consumer<T> consumer) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(keys, targets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(next, 0);
+            for (T value : outputs.get(state)) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    // 상태 수 (루트 포함)
+    public int size() {
+        return fail.length;
+    }
+
+    private static int step(char[][] keys, int[][] targets, int state, char c) {
+        int index = Arrays.binarySearch(keys[state], c);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+}
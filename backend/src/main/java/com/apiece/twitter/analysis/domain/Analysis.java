@@ -0,0 +1,9 @@
+package com.apiece.twitter.analysis.domain;
+
+import java.util.List;
+
+/**
+ * 본문 분석 결과 - 감정, 점수(0~1, 소수 둘째 자리), 추천 해시태그(최대 5개)
+ */
+public record Analysis(Sentiment sentiment, double score, List<String> hashtags) {
+}
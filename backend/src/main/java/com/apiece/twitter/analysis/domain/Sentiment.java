@@ -0,0 +1,22 @@
+package com.apiece.twitter.analysis.domain;
+
+import lombok.Getter;
+
+/**
+ * 감정 분류 (AI 서비스의 sentiment/emoji 값과 동일)
+ */
+@Getter
+public enum Sentiment {
+
+    POSITIVE("positive", "😊"),
+    NEGATIVE("negative", "😢"),
+    NEUTRAL("neutral", "😐");
+
+    private final String value;
+    private final String emoji;
+
+    Sentiment(String value, String emoji) {
+        this.value = value;
+        this.emoji = emoji;
+    }
+}
@@ -0,0 +1,131 @@
+package com.apiece.twitter.analysis.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 키워드 기반 감정 분석 + 해시태그 추천 (ai/app/main.py 의 analyze_sentiment / extract_hashtags 와 같은 규칙)
+ * 감정 단어와 해시태그 키워드를 하나의 Aho-Corasick 오토마톤으로 컴파일해 소문자 본문을 한 번만 훑는다.
+ * 감정 점수는 본문에 나타난 서로 다른 긍정/부정 단어 수의 비율로 구하고, Python round 와 같게 반올림한다.
+ */
+public final class TextAnalyzer {
+
+    public static final int MAX_HASHTAGS = 5;
+
+    static final List<String> POSITIVE_WORDS = List.of(
+            "좋아", "최고", "행복", "감사", "사랑", "기쁨", "즐거", "멋지", "훌륭", "대박",
+            "good", "great", "happy", "love", "thanks", "awesome", "amazing", "best", "nice", "wonderful");
+
+    static final List<String> NEGATIVE_WORDS = List.of(
+            "싫어", "최악", "슬프", "화나", "짜증", "힘들", "어렵", "나쁘", "별로", "실망",
+            "bad", "hate", "sad", "angry", "terrible", "worst", "difficult", "disappointed", "awful", "horrible");
+
+    // 추천 해시태그 -> 키워드 (순서 = 추천 순서)
+    static final Map<String, List<String>> HASHTAG_KEYWORDS = hashtagKeywords();
+
+    // #뒤의 글자/숫자/_ 연속 (Python re 의 \w 와 같은 범위)
+    private static final Pattern HASHTAG = Pattern.compile("#([\\p{L}\\p{N}_]+)");
+
+    private static final AhoCorasick<Keyword> AUTOMATON = compile();
+    private static final int KEYWORD_COUNT = POSITIVE_WORDS.size() + NEGATIVE_WORDS.size()
+            + HASHTAG_KEYWORDS.values().stream().mapToInt(List::size).sum();
+
+    private TextAnalyzer() {
+    }
+
+    // 키워드 종류 - id 는 키워드마다 고유 (같은 단어의 반복 출현은 한 번만 센다)
+    private record Keyword(int id, Sentiment sentiment, String hashtag) {
+    }
+
+    public static Analysis analyze(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        boolean[] seen = new boolean[KEYWORD_COUNT];
+        int[] counts = new int[2];
+        Set<String> matchedTags = new LinkedHashSet<>();
+        AUTOMATON.scan(lower, keyword -> {
+            if (seen[keyword.id()]) {
+                return;
+            }
+            seen[keyword.id()] = true;
+            if (keyword.sentiment() == Sentiment.POSITIVE) {
+                counts[0]++;
+            } else if (keyword.sentiment() == Sentiment.NEGATIVE) {
+                counts[1]++;
+            } else {
+                matchedTags.add(keyword.hashtag());
+            }
+        });
+
+        Set<String> hashtags = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG.matcher(text);
+        while (matcher.find()) {
+            hashtags.add(matcher.group(1));
+        }
+        // 키워드 태그는 정의 순서대로
+        for (String tag : HASHTAG_KEYWORDS.keySet()) {
+            if (matchedTags.contains(tag)) {
+                hashtags.add(tag);
+            }
+        }
+
+        return withSentiment(counts[0], counts[1], List.copyOf(hashtags).subList(0, Math.min(MAX_HASHTAGS, hashtags.size())));
+    }
+
+    private static Analysis withSentiment(int positive, int negative, List<String> hashtags) {
+        int total = positive + negative;
+        if (total == 0) {
+            return new Analysis(Sentiment.NEUTRAL, 0.5, hashtags);
+        }
+        double positiveRatio = (double) positive / total;
+        if (positiveRatio > 0.6) {
+            return new Analysis(Sentiment.POSITIVE, round(0.5 + (positiveRatio * 0.5)), hashtags);
+        }
+        if (positiveRatio < 0.4) {
+            return new Analysis(Sentiment.NEGATIVE, round(0.5 - ((1 - positiveRatio) * 0.5)), hashtags);
+        }
+        return new Analysis(Sentiment.NEUTRAL, 0.5, hashtags);
+    }
+
+    // Python round(x, 2) 와 동일 - double 의 정확한 십진 값을 기준으로 half-even
+    private static double round(double value) {
+        return new BigDecimal(value).setScale(2, RoundingMode.HALF_EVEN).doubleValue();
+    }
+
+    private static AhoCorasick<Keyword> compile() {
+        Map<String, List<Keyword>> patterns = new LinkedHashMap<>();
+        int id = 0;
+        for (String word : POSITIVE_WORDS) {
+            patterns.computeIfAbsent(word, key -> new ArrayList<>()).add(new Keyword(id++, Sentiment.POSITIVE, null));
+        }
+        for (String word : NEGATIVE_WORDS) {
+            patterns.computeIfAbsent(word, key -> new ArrayList<>()).add(new Keyword(id++, Sentiment.NEGATIVE, null));
+        }
+        for (Map.Entry<String, List<String>> entry : HASHTAG_KEYWORDS.entrySet()) {
+            for (String word : entry.getValue()) {
+                patterns.computeIfAbsent(word, key -> new ArrayList<>()).add(new Keyword(id++, null, entry.getKey()));
+            }
+        }
+        return AhoCorasick.compile(patterns);
+    }
+
+    private static Map<String, List<String>> hashtagKeywords() {
+        Map<String, List<String>> keywords = new LinkedHashMap<>();
+        keywords.put("날씨", List.of("날씨", "weather", "비", "눈", "맑음", "흐림"));
+        keywords.put("음식", List.of("맛있", "먹", "밥", "식사", "커피", "food", "eat", "delicious"));
+        keywords.put("여행", List.of("여행", "travel", "trip", "휴가", "vacation"));
+        keywords.put("일상", List.of("오늘", "today", "daily", "하루"));
+        keywords.put("운동", List.of("운동", "헬스", "gym", "fitness", "workout"));
+        keywords.put("개발", List.of("코딩", "개발", "프로그래밍", "coding", "dev", "programming"));
+        keywords.put("공부", List.of("공부", "study", "학습", "learning"));
+        return keywords;
+    }
+}
@@ -0,0 +1,12 @@
+package com.apiece.twitter.analysis.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "본문 일괄 분석 요청")
+public record AnalyzeBatchRequest(
+        @Schema(description = "분석할 내용 목록 (최대 100건)", example = "[\"오늘 날씨 최고!\", \"코딩 너무 어렵다\"]")
+        List<String> contents
+) {
+}
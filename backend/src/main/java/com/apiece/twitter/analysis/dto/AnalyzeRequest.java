@@ -0,0 +1,10 @@
+package com.apiece.twitter.analysis.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "본문 분석 요청")
+public record AnalyzeRequest(
+        @Schema(description = "분석할 내용", example = "오늘 날씨 최고! #주말")
+        String content
+) {
+}
@@ -0,0 +1,36 @@
+package com.apiece.twitter.analysis.dto;
+
+import com.apiece.twitter.analysis.domain.Analysis;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+// AI 서비스(/api/analyze) 응답과 같은 구조
+@Schema(description = "본문 분석 응답")
+public record AnalyzeResponse(
+        @Schema(description = "감정 분석 결과")
+        SentimentResponse sentiment,
+
+        @Schema(description = "추천 해시태그 (최대 5개)", example = "[\"주말\", \"날씨\"]")
+        List<String> hashtags
+) {
+    @Schema(description = "감정 분석 결과")
+    public record SentimentResponse(
+            @Schema(description = "감정 (positive, negative, neutral)", example = "positive")
+            String sentiment,
+
+            @Schema(description = "점수 (0 부정 ~ 1 긍정)", example = "1.0")
+            double score,
+
+            @Schema(description = "이모지", example = "😊")
+            String emoji
+    ) {
+    }
+
+    public static AnalyzeResponse from(Analysis analysis) {
+        return new AnalyzeResponse(
+                new SentimentResponse(analysis.sentiment().getValue(), analysis.score(), analysis.sentiment().getEmoji()),
+                analysis.hashtags()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.apiece.twitter.analysis.service;
+
+import com.apiece.twitter.analysis.domain.TextAnalyzer;
+import com.apiece.twitter.analysis.dto.AnalyzeResponse;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 본문 분석 (감정 + 해시태그 추천) - DB 를 쓰지 않는 순수 계산이라 트랜잭션 없이 처리
+ */
+@Service
+public class AnalysisService {
+
+    public static final int MAX_CONTENT_LENGTH = 10_000;
+    public static final int MAX_BATCH_SIZE = 100;
+
+    // 단건 분석
+    public AnalyzeResponse analyze(String content) {
+        validate(content);
+        return AnalyzeResponse.from(TextAnalyzer.analyze(content));
+    }
+
+    // 일괄 분석 (요청 순서 유지)
+    public List<AnalyzeResponse> analyzeAll(List<String> contents) {
+        if (contents == null || contents.isEmpty() || contents.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_ANALYZE_REQUEST);
+        }
+        contents.forEach(this::validate);
+        return contents.stream()
+                .map(content -> AnalyzeResponse.from(TextAnalyzer.analyze(content)))
+                .toList();
+    }
+
+    private void validate(String content) {
+        if (content == null || content.length() > MAX_CONTENT_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_ANALYZE_REQUEST);
+        }
+    }
+}
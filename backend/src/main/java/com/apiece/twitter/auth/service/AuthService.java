@@ -5,49 +5,90 @@ import com.apiece.twitter.auth.dto.SignUpRequest;
 import com.apiece.twitter.auth.dto.TokenResponse;
 import com.apiece.twitter.global.exception.BusinessException;
 import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.global.security.PasswordHasher;
 import com.apiece.twitter.global.security.jwt.JwtTokenProvider;
 import com.apiece.twitter.user.domain.User;
 import com.apiece.twitter.user.dto.UserResponse;
+import com.apiece.twitter.user.event.UserChangedEvent;
 import com.apiece.twitter.user.repository.UserRepository;
+import com.apiece.twitter.user.service.RegisteredEmailFilter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
-    @Transactional
+    // BCrypt 해싱은 수십 ms 가 걸리므로 트랜잭션(커넥션)을 잡지 않은 채 전용 스레드에서 수행하고, 저장은 repository 트랜잭션으로 처리
+    // 확실히 새 이메일이면(필터에 없음) 중복 조회 없이 저장하고, 동시 가입 등으로 unique 제약에 걸리면 중복으로 응답
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signUp(SignUpRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
+        if (registeredEmailFilter.exists(request.email())) {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
+        String encodedPassword = passwordHasher.encode(request.password());
         User user = User.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(encodedPassword)
                 .nickname(request.nickname())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 제약 위반은 그대로 던진다 (실패 경로에서만 한 번 더 조회)
+            if (!userRepository.existsByEmail(request.email())) {
+                throw e;
+            }
+            registeredEmailFilter.add(request.email());
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        registeredEmailFilter.add(savedUser.getEmail());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getEmail()));
         return UserResponse.from(savedUser);
     }
 
+    // 조회 후 커넥션을 바로 반납하고 비밀번호 검증(BCrypt)은 트랜잭션 밖에서 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            rehash(user, request.password());
+        }
 
         String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
         return TokenResponse.of(accessToken);
     }
+
+    // 해시 정책(cost)이 바뀐 뒤 처음 로그인하면 검증한 평문으로 다시 해싱해 저장 - 실패해도 로그인은 성공시키고 다음 로그인 때 다시 시도
+    private void rehash(User user, String rawPassword) {
+        try {
+            String rehashed = passwordHasher.encode(rawPassword);
+            if (userRepository.updatePassword(user.getId(), user.getPassword(), rehashed) > 0) {
+                eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Password rehash failed for user {}", user.getId(), e);
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package com.apiece.twitter.engagement.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EngagementProperties.class)
+public class EngagementConfig {
+}
@@ -0,0 +1,22 @@
+package com.apiece.twitter.engagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 좋아요/리포스트 수 반영 설정 (engagement.*)
+ *
+ * @param flushInterval  메모리에 모은 증감을 게시글 행에 반영하는 주기
+ * @param flushThreshold 반영을 기다리는 게시글 수가 이만큼 되면 주기를 기다리지 않고 바로 반영
+ */
+@ConfigurationProperties(prefix = "engagement")
+public record EngagementProperties(
+        Duration flushInterval,
+        int flushThreshold
+) {
+    public EngagementProperties {
+        flushInterval = flushInterval != null && flushInterval.isPositive() ? flushInterval : Duration.ofSeconds(1);
+        flushThreshold = flushThreshold > 0 ? flushThreshold : 10_000;
+    }
+}
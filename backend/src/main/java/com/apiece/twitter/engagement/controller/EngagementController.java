@@ -0,0 +1,94 @@
+package com.apiece.twitter.engagement.controller;
+
+import com.apiece.twitter.engagement.dto.EngagementResponse;
+import com.apiece.twitter.engagement.service.EngagementService;
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.global.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Engagement", description = "좋아요/리포스트 API")
+public class EngagementController {
+
+    private final EngagementService engagementService;
+
+    // 반응 현황 조회 API
+    @GetMapping("/api/posts/{id}/engagement")
+    @Operation(summary = "반응 현황 조회", description = "게시글의 좋아요/리포스트 수와 로그인한 사용자의 반응 여부를 조회합니다. 수는 최대 반영 주기만큼 늦게 저장되지만 조회에는 바로 보입니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글 없음",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"404\", \"message\": \"존재하지 않는 게시글입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<EngagementResponse>> getEngagement(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(engagementService.getEngagement(id, userId)));
+    }
+
+    // 좋아요 API (이미 좋아요한 게시글이면 아무것도 바꾸지 않는다)
+    @PostMapping("/api/posts/{id}/likes")
+    @Operation(summary = "좋아요", description = "게시글에 좋아요를 누릅니다. 여러 번 요청해도 한 번만 셉니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "좋아요 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글 없음",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"404\", \"message\": \"존재하지 않는 게시글입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<Void>> like(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        engagementService.like(userDetails.getUserId(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success());
+    }
+
+    // 좋아요 취소 API
+    @DeleteMapping("/api/posts/{id}/likes")
+    @Operation(summary = "좋아요 취소", description = "게시글의 좋아요를 취소합니다. 좋아요하지 않은 게시글이면 아무것도 바꾸지 않습니다.")
+    public ResponseEntity<ApiResponse<Void>> unlike(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        engagementService.unlike(userDetails.getUserId(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success());
+    }
+
+    // 리포스트 API (이미 리포스트한 게시글이면 아무것도 바꾸지 않는다)
+    @PostMapping("/api/posts/{id}/reposts")
+    @Operation(summary = "리포스트", description = "게시글을 리포스트합니다. 여러 번 요청해도 한 번만 셉니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리포스트 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글 없음",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"404\", \"message\": \"존재하지 않는 게시글입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<Void>> repost(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        engagementService.repost(userDetails.getUserId(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success());
+    }
+
+    // 리포스트 취소 API
+    @DeleteMapping("/api/posts/{id}/reposts")
+    @Operation(summary = "리포스트 취소", description = "게시글의 리포스트를 취소합니다. 리포스트하지 않은 게시글이면 아무것도 바꾸지 않습니다.")
+    public ResponseEntity<ApiResponse<Void>> unrepost(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        engagementService.unrepost(userDetails.getUserId(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success());
+    }
+}
@@ -0,0 +1,41 @@
+package com.apiece.twitter.engagement.domain;
+
+import com.apiece.twitter.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 반응 기록 - 유니크 키가 사용자별 중복 방지 집합 역할을 해 같은 반응은 한 번만 센다
+ * (게시글 행은 잠그지 않는 INSERT/DELETE 라 인기 게시글에 반응이 몰려도 서로 기다리지 않는다)
+ */
+@Entity
+@Table(name = "engagements",
+        uniqueConstraints = @UniqueConstraint(name = "uk_engagements_user_post_type", columnNames = {"user_id", "post_id", "type"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Engagement extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EngagementType type;
+
+    @Builder
+    public Engagement(Long userId, Long postId, EngagementType type) {
+        this.userId = userId;
+        this.postId = postId;
+        this.type = type;
+    }
+}
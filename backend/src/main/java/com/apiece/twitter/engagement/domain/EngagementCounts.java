@@ -0,0 +1,17 @@
+package com.apiece.twitter.engagement.domain;
+
+/**
+ * 게시글의 좋아요/리포스트 수 (또는 아직 반영하지 않은 증감)
+ */
+public record EngagementCounts(long likes, long reposts) {
+
+    public static final EngagementCounts ZERO = new EngagementCounts(0, 0);
+
+    public EngagementCounts plus(EngagementCounts other) {
+        return new EngagementCounts(likes + other.likes, reposts + other.reposts);
+    }
+
+    public boolean isZero() {
+        return likes == 0 && reposts == 0;
+    }
+}
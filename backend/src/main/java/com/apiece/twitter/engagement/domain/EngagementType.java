@@ -0,0 +1,9 @@
+package com.apiece.twitter.engagement.domain;
+
+/**
+ * 게시글 반응 종류
+ */
+public enum EngagementType {
+    LIKE,
+    REPOST
+}
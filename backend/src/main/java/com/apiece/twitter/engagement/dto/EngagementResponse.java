@@ -0,0 +1,21 @@
+package com.apiece.twitter.engagement.dto;
+
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 게시글 반응 현황 - liked/reposted 는 로그인한 사용자 기준 (비로그인이면 false)
+ */
+public record EngagementResponse(
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long postId,
+        long likeCount,
+        long repostCount,
+        boolean liked,
+        boolean reposted
+) {
+    public static EngagementResponse of(Long postId, EngagementCounts counts, boolean liked, boolean reposted) {
+        return new EngagementResponse(postId, counts.likes(), counts.reposts(), liked, reposted);
+    }
+}
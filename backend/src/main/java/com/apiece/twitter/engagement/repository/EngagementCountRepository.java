@@ -0,0 +1,56 @@
+package com.apiece.twitter.engagement.repository;
+
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 좋아요/리포스트 수 - JDBC 로 증감만 더한다
+ * 엔티티를 읽어 고쳐 쓰지 않고 "col = col + ?" 배치 UPDATE 한 번으로 여러 게시글을 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EngagementCountRepository {
+
+    private static final String ADD_SQL =
+            "UPDATE posts SET like_count = like_count + ?, repost_count = repost_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT like_count, repost_count FROM posts WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글별 증감을 한 트랜잭션으로 반영 (호출 측이 ID 순으로 넘기면 행 잠금 순서가 같아 교착이 없다)
+    @Transactional
+    public void addAll(Map<Long, EngagementCounts> deltas) {
+        List<Map.Entry<Long, EngagementCounts>> entries = List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(ADD_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, EngagementCounts> entry = entries.get(i);
+                ps.setLong(1, entry.getValue().likes());
+                ps.setLong(2, entry.getValue().reposts());
+                ps.setLong(3, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    // 저장된 수 (게시글이 없으면 empty)
+    public Optional<EngagementCounts> findCounts(Long postId) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new EngagementCounts(rs.getLong(1), rs.getLong(2)), postId)
+                .stream()
+                .findFirst();
+    }
+}
@@ -0,0 +1,28 @@
+package com.apiece.twitter.engagement.repository;
+
+import com.apiece.twitter.engagement.domain.Engagement;
+import com.apiece.twitter.engagement.domain.EngagementType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface EngagementRepository extends JpaRepository<Engagement, Long> {
+
+    boolean existsByUserIdAndPostIdAndType(Long userId, Long postId, EngagementType type);
+
+    // 반응 취소 - 지운 행 수 반환 (0 이면 원래 반응하지 않은 상태)
+    @Transactional
+    @Modifying
+    @Query("delete from Engagement e where e.userId = :userId and e.postId = :postId and e.type = :type")
+    int deleteByUserIdAndPostIdAndType(@Param("userId") Long userId,
+                                       @Param("postId") Long postId,
+                                       @Param("type") EngagementType type);
+
+    // 사용자가 게시글에 한 반응 종류
+    @Query("select e.type from Engagement e where e.userId = :userId and e.postId = :postId")
+    List<EngagementType> findTypes(@Param("userId") Long userId, @Param("postId") Long postId);
+}
@@ -0,0 +1,225 @@
+package com.apiece.twitter.engagement.service;
+
+import com.apiece.twitter.engagement.config.EngagementProperties;
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import com.apiece.twitter.engagement.domain.EngagementType;
+import com.apiece.twitter.engagement.repository.EngagementCountRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 좋아요/리포스트 수 누적기
+ * 반응마다 게시글 행을 UPDATE 하면 인기 게시글의 행 잠금에서 모든 요청이 줄을 서므로,
+ * 증감은 게시글별 LongAdder(스레드별로 나뉜 셀)에 더하고 반영 스레드 하나가 flushInterval 마다
+ * (또는 대기 게시글이 flushThreshold 에 닿으면 바로) 게시글 ID 순 배치 UPDATE 한 번으로 반영한다.
+ * 반영이 실패하면 증감을 다시 쌓아 다음 반영 때 재시도한다. 조회는 저장된 수에 아직 반영하지 않은 증감을 더해 보여준다.
+ * 조회(저장된 수 + 대기 증감)는 반영과 StampedLock 으로 순서를 맞춘다 - 평소에는 잠금 없이 읽고,
+ * 반영(떼어 내기~커밋)과 겹친 조회만 읽기 잠금으로 다시 읽어 같은 증감을 두 번 더하거나 빠뜨리지 않는다.
+ */
+@Slf4j
+@Component
+public class EngagementCounter implements SmartLifecycle {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final EngagementCountRepository engagementCountRepository;
+    private final EngagementProperties properties;
+
+    // 게시글 ID -> 아직 반영하지 않은 증감
+    private final ConcurrentHashMap<Long, PendingCounts> pending = new ConcurrentHashMap<>();
+    // 반영 중인 증감 - pending 에서 떼기 전에 먼저 넣고 커밋 후 비운다
+    private final ConcurrentHashMap<Long, EngagementCounts> flushing = new ConcurrentHashMap<>();
+    // 반영 스레드가 떼어 내기부터 커밋 후 flushing 을 비울 때까지 쓰기 잠금을 잡는다
+    private final StampedLock flushLock = new StampedLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final DistributionSummary flushSizeSummary;
+    private final Timer flushTimer;
+    private ScheduledExecutorService flusher;
+    private volatile boolean running;
+
+    public EngagementCounter(EngagementCountRepository engagementCountRepository,
+                             EngagementProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.engagementCountRepository = engagementCountRepository;
+        this.properties = properties;
+        meterRegistry.gauge("engagement.pending.posts", pending, Map::size);
+        this.flushSizeSummary = meterRegistry.summary("engagement.flush.posts");
+        this.flushTimer = meterRegistry.timer("engagement.flush");
+    }
+
+    // 증감 누적 (lock 없이 LongAdder 에 더한다)
+    public void add(Long postId, EngagementType type, long delta) {
+        while (delta != 0) {
+            PendingCounts counts = pending.get(postId);
+            if (counts == null) {
+                counts = pending.computeIfAbsent(postId, id -> new PendingCounts());
+                if (pending.size() >= properties.flushThreshold()) {
+                    requestFlush();
+                }
+            }
+            LongAdder adder = counts.of(type);
+            adder.add(delta);
+            if (!counts.retired) {
+                return;
+            }
+            // 반영 스레드가 이 항목을 이미 떼어 갔다 - 남은 몫을 되찾아 새 항목에 다시 더한다 (셀은 getAndSet 으로 비우므로 중복/유실 없음)
+            delta = adder.sumThenReset();
+        }
+    }
+
+    // 저장된 수 + 아직 반영하지 않은 증감 (게시글이 없으면 empty)
+    public Optional<EngagementCounts> counts(Long postId) {
+        long stamp = flushLock.tryOptimisticRead();
+        if (stamp != 0) {
+            Optional<EngagementCounts> counts = readCounts(postId);
+            if (flushLock.validate(stamp)) {
+                return counts;
+            }
+        }
+        // 반영과 겹쳤다 - 커밋 직후 DB 와 flushing 양쪽에 있던 증감을 두 번 셌을 수 있으므로 반영이 끝난 뒤 다시 읽는다
+        stamp = flushLock.readLock();
+        try {
+            return readCounts(postId);
+        } finally {
+            flushLock.unlockRead(stamp);
+        }
+    }
+
+    private Optional<EngagementCounts> readCounts(Long postId) {
+        return engagementCountRepository.findCounts(postId)
+                .map(persisted -> persisted.plus(pending(postId)));
+    }
+
+    // 아직 게시글 행에 반영되지 않은 증감 (반영 중인 것 포함, 반영과 겹치면 정확하지 않으므로 조회는 counts 로)
+    EngagementCounts pending(Long postId) {
+        EngagementCounts counts = flushing.getOrDefault(postId, EngagementCounts.ZERO);
+        PendingCounts current = pending.get(postId);
+        return current != null ? counts.plus(current.sum()) : counts;
+    }
+
+    // 모인 증감을 게시글 ID 순 배치 UPDATE 로 반영 (반영 스레드 또는 종료 시 호출 스레드에서, 한 번에 하나만)
+    synchronized void flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+        long stamp = flushLock.writeLock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlockWrite(stamp);
+        }
+    }
+
+    private void flushLocked() {
+        for (Map.Entry<Long, PendingCounts> entry : pending.entrySet()) {
+            PendingCounts counts = entry.getValue();
+            counts.retired = true;
+            EngagementCounts delta = counts.drain();
+            if (!delta.isZero()) {
+                flushing.put(entry.getKey(), delta);
+            }
+            pending.remove(entry.getKey(), counts);
+        }
+        if (flushing.isEmpty()) {
+            return;
+        }
+        // ID 순으로 잠가 여러 인스턴스가 동시에 반영해도 교착이 생기지 않게 한다
+        Map<Long, EngagementCounts> deltas = new TreeMap<>(flushing);
+        Timer.Sample sample = Timer.start();
+        try {
+            engagementCountRepository.addAll(deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush engagement counts of {} posts, retrying on next flush", deltas.size(), e);
+            // 되돌려 쌓는 동안은 즉시 반영을 막는다 (DB 장애 중 바로 다시 반영하며 도는 것 방지, 다음 주기에 재시도)
+            flushRequested.set(true);
+            deltas.forEach((postId, delta) -> {
+                add(postId, EngagementType.LIKE, delta.likes());
+                add(postId, EngagementType.REPOST, delta.reposts());
+            });
+            flushRequested.set(false);
+        } finally {
+            flushing.clear();
+            flushSizeSummary.record(deltas.size());
+            sample.stop(flushTimer);
+        }
+    }
+
+    // 대기 게시글이 많으면 주기를 기다리지 않고 반영 (이미 요청돼 있으면 무시)
+    private void requestFlush() {
+        if (running && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RuntimeException e) {
+                // 멈추는 중 - 남은 증감은 stop 에서 반영한다
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        long period = properties.flushInterval().toMillis();
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("engagement-flush").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flush, period, period, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    // 멈춘 뒤 남은 증감은 호출 스레드에서 마저 반영한다
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 게시글 하나의 반영 대기 증감 - retired 는 반영 스레드가 map 에서 뗀 뒤 true
+    private static final class PendingCounts {
+
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder reposts = new LongAdder();
+        private volatile boolean retired;
+
+        LongAdder of(EngagementType type) {
+            return type == EngagementType.LIKE ? likes : reposts;
+        }
+
+        EngagementCounts sum() {
+            return new EngagementCounts(likes.sum(), reposts.sum());
+        }
+
+        EngagementCounts drain() {
+            return new EngagementCounts(likes.sumThenReset(), reposts.sumThenReset());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.apiece.twitter.engagement.service;
+
+import com.apiece.twitter.engagement.domain.Engagement;
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import com.apiece.twitter.engagement.domain.EngagementType;
+import com.apiece.twitter.engagement.dto.EngagementResponse;
+import com.apiece.twitter.engagement.repository.EngagementRepository;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 좋아요/리포스트
+ * 사용자별 반응은 engagements 행(유니크 키)으로 한 번만 기록하고, 게시글의 수는 EngagementCounter 에 증감만 쌓는다.
+ * 같은 요청을 여러 번 보내도 결과가 같다 (이미 한 반응/하지 않은 반응의 취소는 아무것도 바꾸지 않는다).
+ * 저장 실패(중복 키)를 잡아야 하므로 트랜잭션으로 묶지 않고 저장소 호출마다 커밋한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EngagementService {
+
+    private final EngagementRepository engagementRepository;
+    private final PostRepository postRepository;
+    private final EngagementCounter engagementCounter;
+
+    public void like(Long userId, Long postId) {
+        engage(userId, postId, EngagementType.LIKE);
+    }
+
+    public void unlike(Long userId, Long postId) {
+        disengage(userId, postId, EngagementType.LIKE);
+    }
+
+    public void repost(Long userId, Long postId) {
+        engage(userId, postId, EngagementType.REPOST);
+    }
+
+    public void unrepost(Long userId, Long postId) {
+        disengage(userId, postId, EngagementType.REPOST);
+    }
+
+    // 반응 현황 - 저장된 수 + 아직 반영하지 않은 증감 (userId 가 null 이면 liked/reposted 는 false)
+    public EngagementResponse getEngagement(Long postId, Long userId) {
+        EngagementCounts counts = engagementCounter.counts(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_POST));
+        List<EngagementType> types = userId != null ? engagementRepository.findTypes(userId, postId) : List.of();
+        return EngagementResponse.of(postId, counts,
+                types.contains(EngagementType.LIKE), types.contains(EngagementType.REPOST));
+    }
+
+    // 처음 하는 반응만 기록하고 +1
+    private void engage(Long userId, Long postId, EngagementType type) {
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_POST);
+        }
+        if (engagementRepository.existsByUserIdAndPostIdAndType(userId, postId, type)) {
+            return;
+        }
+        try {
+            engagementRepository.saveAndFlush(Engagement.builder()
+                    .userId(userId)
+                    .postId(postId)
+                    .type(type)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 반응이 동시에 들어왔다 - 먼저 저장된 쪽만 센다
+            return;
+        }
+        engagementCounter.add(postId, type, 1);
+    }
+
+    // 기록이 지워졌을 때만 -1
+    private void disengage(Long userId, Long postId, EngagementType type) {
+        if (engagementRepository.deleteByUserIdAndPostIdAndType(userId, postId, type) > 0) {
+            engagementCounter.add(postId, type, -1);
+        }
+    }
+}
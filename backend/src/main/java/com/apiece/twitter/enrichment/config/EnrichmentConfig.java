@@ -0,0 +1,9 @@
+package com.apiece.twitter.enrichment.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+}
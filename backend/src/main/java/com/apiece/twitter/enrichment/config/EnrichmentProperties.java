@@ -0,0 +1,26 @@
+package com.apiece.twitter.enrichment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 비동기 분석 설정 (enrichment.*)
+ *
+ * @param queueCapacity 대기열 최대 크기 - 가득 차면 새 작업은 버리고 backfill 로 나중에 처리한다
+ * @param workers       대기열을 비우는 작업 스레드 수
+ * @param batchSize     한 번에 꺼내 한 JDBC 배치로 저장할 최대 게시글 수
+ * @param maxAttempts   게시글별 저장 실패가 이 횟수에 닿으면 backfill 대상에서 뺀다 (작성/수정 이벤트로는 계속 분석한다)
+ */
+@ConfigurationProperties(prefix = "enrichment")
+public record EnrichmentProperties(
+        int queueCapacity,
+        int workers,
+        int batchSize,
+        int maxAttempts
+) {
+    public EnrichmentProperties {
+        queueCapacity = queueCapacity > 0 ? queueCapacity : 10_000;
+        workers = workers > 0 ? workers : 2;
+        batchSize = batchSize > 0 ? batchSize : 100;
+        maxAttempts = maxAttempts > 0 ? maxAttempts : 3;
+    }
+}
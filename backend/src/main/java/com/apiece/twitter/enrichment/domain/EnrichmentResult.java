@@ -0,0 +1,36 @@
+package com.apiece.twitter.enrichment.domain;
+
+import com.apiece.twitter.analysis.domain.Analysis;
+import com.apiece.twitter.analysis.domain.Sentiment;
+
+import java.util.List;
+
+/**
+ * 게시글 분석 결과 (hashtags 는 쉼표 구분, 컬럼 길이를 넘으면 넘치는 태그를 뺀다)
+ */
+public record EnrichmentResult(long postId, String content, Sentiment sentiment, double score, String hashtags) {
+
+    // posts.hashtags 컬럼 길이
+    static final int MAX_HASHTAGS_LENGTH = 320;
+
+    public static EnrichmentResult of(EnrichmentTask task, Analysis analysis) {
+        return new EnrichmentResult(task.postId(), task.content(), analysis.sentiment(), analysis.score(),
+                joinHashtags(analysis.hashtags()));
+    }
+
+    // 앞에서부터 컬럼 길이 안에 들어가는 태그까지만 잇는다
+    static String joinHashtags(List<String> hashtags) {
+        StringBuilder joined = new StringBuilder();
+        for (String hashtag : hashtags) {
+            int length = joined.isEmpty() ? hashtag.length() : joined.length() + 1 + hashtag.length();
+            if (length > MAX_HASHTAGS_LENGTH) {
+                break;
+            }
+            if (!joined.isEmpty()) {
+                joined.append(',');
+            }
+            joined.append(hashtag);
+        }
+        return joined.toString();
+    }
+}
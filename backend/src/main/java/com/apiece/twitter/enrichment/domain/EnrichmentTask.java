@@ -0,0 +1,7 @@
+package com.apiece.twitter.enrichment.domain;
+
+/**
+ * 분석 대기 게시글 - 분석한 본문이 저장 시점에도 같을 때만 결과를 반영한다
+ */
+public record EnrichmentTask(long postId, String content) {
+}
@@ -0,0 +1,74 @@
+package com.apiece.twitter.enrichment.repository;
+
+import com.apiece.twitter.enrichment.domain.EnrichmentResult;
+import com.apiece.twitter.enrichment.domain.EnrichmentTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 게시글 분석 결과 저장 (JDBC 배치)
+ * 분석 후 본문이 수정됐으면(content 불일치) 갱신하지 않는다 - 수정 이벤트로 새 작업이 다시 들어온다.
+ * modified_at 은 사용자 수정 시간이므로 건드리지 않는다.
+ * 저장에 실패한 게시글은 enrichment_attempts 를 올려 두고, backfill 은 maxAttempts 미만인 게시글만 다시 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostEnrichmentRepository {
+
+    private static final String UPDATE_SQL =
+            "UPDATE posts SET sentiment = ?, sentiment_score = ?, hashtags = ? WHERE id = ? AND content = ?";
+
+    private static final String MARK_FAILED_SQL =
+            "UPDATE posts SET enrichment_attempts = enrichment_attempts + 1 WHERE id = ?";
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT id, content FROM posts WHERE id > ? AND sentiment IS NULL AND enrichment_attempts < ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 배치를 한 트랜잭션으로 갱신하고 게시글별 갱신 행 수(0 또는 1)를 입력 순서대로 반환
+    @Transactional
+    public int[] updateAll(List<EnrichmentResult> results) {
+        return jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EnrichmentResult result = results.get(i);
+                ps.setString(1, result.sentiment().name());
+                ps.setDouble(2, result.score());
+                ps.setString(3, result.hashtags());
+                ps.setLong(4, result.postId());
+                ps.setString(5, result.content());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return results.size();
+            }
+        });
+    }
+
+    // 게시글 하나 갱신 (배치가 실패해 게시글별로 다시 저장할 때), 갱신 행 수(0 또는 1) 반환
+    public int update(EnrichmentResult result) {
+        return jdbcTemplate.update(UPDATE_SQL, result.sentiment().name(), result.score(), result.hashtags(),
+                result.postId(), result.content());
+    }
+
+    // 저장 실패 횟수 증가
+    public void markFailed(long postId) {
+        jdbcTemplate.update(MARK_FAILED_SQL, postId);
+    }
+
+    // 아직 분석되지 않았고 실패가 maxAttempts 미만인 게시글 (afterId 이후, id 오름차순)
+    public List<EnrichmentTask> findPending(long afterId, int maxAttempts, int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL,
+                (rs, rowNum) -> new EnrichmentTask(rs.getLong("id"), rs.getString("content")),
+                afterId, maxAttempts, limit);
+    }
+}
@@ -0,0 +1,269 @@
+package com.apiece.twitter.enrichment.service;
+
+import com.apiece.twitter.analysis.domain.TextAnalyzer;
+import com.apiece.twitter.enrichment.config.EnrichmentProperties;
+import com.apiece.twitter.enrichment.domain.EnrichmentResult;
+import com.apiece.twitter.enrichment.domain.EnrichmentTask;
+import com.apiece.twitter.enrichment.repository.PostEnrichmentRepository;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.event.PostUpdatedEvent;
+import com.apiece.twitter.post.event.PostsEnrichedEvent;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 비동기 분석 (감정 + 해시태그)
+ * 작성/수정 커밋 후 작업을 고정 크기 대기열에 넣기만 하고(요청 스레드는 기다리지 않음), 작업 스레드가 batchSize 단위로 꺼내
+ * 분석한 뒤 한 JDBC 배치로 저장한다.
+ * 대기열이 가득 차면 작업을 버리고(게시글은 미분석 상태로 남는다) 대기열이 비었을 때 backfill 로 DB 에서 다시 채운다.
+ * backfill 은 대기열에 자리가 날 때까지 기다리며 넣으므로(backpressure) 작업 스레드 속도를 넘지 않는다.
+ * 기동 시에도 backfill 을 돌려 재시작 전에 처리되지 못한 게시글을 이어서 분석한다.
+ * 배치 저장이 실패하면 게시글별로 다시 저장해 문제가 된 게시글만 실패로 남기고, 그 게시글은 실패 횟수를 올려
+ * maxAttempts 에 닿으면 backfill 이 더 이상 집어 오지 않게 한다 (같은 게시글로 backfill 이 계속 실패하며 도는 것 방지).
+ */
+@Slf4j
+@Service
+public class PostEnrichmentPipeline implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 1_000;
+
+    private final PostEnrichmentRepository postEnrichmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrichmentProperties enrichmentProperties;
+
+    private final BlockingQueue<EnrichmentTask> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicBoolean dropped = new AtomicBoolean();
+    private final AtomicBoolean backfilling = new AtomicBoolean();
+    private volatile Thread backfillThread;
+    private volatile boolean running;
+
+    private final Counter droppedCounter;
+    private final Counter enrichedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public PostEnrichmentPipeline(PostEnrichmentRepository postEnrichmentRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  EnrichmentProperties enrichmentProperties,
+                                  MeterRegistry meterRegistry) {
+        this.postEnrichmentRepository = postEnrichmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.enrichmentProperties = enrichmentProperties;
+        this.queue = new ArrayBlockingQueue<>(enrichmentProperties.queueCapacity());
+        meterRegistry.gauge("enrichment.queue.size", queue, BlockingQueue::size);
+        this.droppedCounter = meterRegistry.counter("enrichment.dropped");
+        this.enrichedCounter = meterRegistry.counter("enrichment.enriched");
+        this.failedCounter = meterRegistry.counter("enrichment.failed");
+        this.batchTimer = meterRegistry.timer("enrichment.batch");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        Post post = event.post();
+        enqueue(new EnrichmentTask(post.getId(), post.getContent()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        Post post = event.post();
+        enqueue(new EnrichmentTask(post.getId(), post.getContent()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsImported(PostsImportedEvent event) {
+        for (int i = 0; i < event.postIds().size(); i++) {
+            enqueue(new EnrichmentTask(event.postIds().get(i), event.contents().get(i)));
+        }
+    }
+
+    // 기동 후 미분석 게시글 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startBackfill();
+    }
+
+    // 대기열에 넣기 (기다리지 않음) - 가득 차면 버리고 backfill 대상으로 표시
+    public boolean enqueue(EnrichmentTask task) {
+        if (queue.offer(task)) {
+            return true;
+        }
+        dropped.set(true);
+        droppedCounter.increment();
+        return false;
+    }
+
+    // 한 배치 분석 후 저장, 배치 저장이 실패하면 게시글별로 다시 저장
+    void process(List<EnrichmentTask> batch) {
+        List<EnrichmentResult> results = new ArrayList<>(batch.size());
+        for (EnrichmentTask task : batch) {
+            results.add(EnrichmentResult.of(task, TextAnalyzer.analyze(task.content())));
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            postEnrichmentRepository.updateAll(results);
+            enriched(results.stream().map(EnrichmentResult::postId).toList());
+        } catch (DataAccessException e) {
+            if (results.size() == 1) {
+                failed(results.getFirst(), e);
+            } else {
+                log.warn("Enrichment batch update failed for {} posts, retrying one by one", results.size(), e);
+                updateOneByOne(results);
+            }
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private void updateOneByOne(List<EnrichmentResult> results) {
+        List<Long> postIds = new ArrayList<>(results.size());
+        for (EnrichmentResult result : results) {
+            try {
+                postEnrichmentRepository.update(result);
+                postIds.add(result.postId());
+            } catch (DataAccessException e) {
+                failed(result, e);
+            }
+        }
+        if (!postIds.isEmpty()) {
+            enriched(postIds);
+        }
+    }
+
+    private void enriched(List<Long> postIds) {
+        enrichedCounter.increment(postIds.size());
+        eventPublisher.publishEvent(new PostsEnrichedEvent(postIds));
+    }
+
+    // 게시글 하나의 저장 실패 - 실패 횟수를 올리고 backfill 로 다시 시도 (표시도 실패하면 DB 장애로 보고 횟수 없이 다시 시도)
+    private void failed(EnrichmentResult result, DataAccessException cause) {
+        log.error("Enrichment update failed for post {}", result.postId(), cause);
+        failedCounter.increment();
+        dropped.set(true);
+        try {
+            postEnrichmentRepository.markFailed(result.postId());
+        } catch (DataAccessException e) {
+            log.warn("Failed to record enrichment failure of post {}", result.postId(), e);
+        }
+    }
+
+    // 미분석 게시글을 id 순으로 읽어 대기열에 넣는다 (자리가 날 때까지 대기)
+    void backfill() throws InterruptedException {
+        int batchSize = enrichmentProperties.batchSize();
+        long lastId = 0;
+        int enqueued = 0;
+        List<EnrichmentTask> pending;
+        do {
+            pending = postEnrichmentRepository.findPending(lastId, enrichmentProperties.maxAttempts(), batchSize);
+            for (EnrichmentTask task : pending) {
+                queue.put(task);
+                lastId = task.postId();
+                enqueued++;
+            }
+        } while (pending.size() == batchSize && running);
+        if (enqueued > 0) {
+            log.info("Enrichment backfill enqueued {} posts", enqueued);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < enrichmentProperties.workers(); i++) {
+            workers.add(Thread.ofPlatform().name("post-enrichment-" + i).daemon().start(this::work));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        Thread backfiller = backfillThread;
+        if (backfiller != null) {
+            backfiller.interrupt();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(POLL_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 대기열 크기
+    public int queueSize() {
+        return queue.size();
+    }
+
+    // 작업 스레드 - 하나를 기다려 꺼낸 뒤 이미 쌓인 것을 batchSize 까지 함께 꺼내 처리, 대기열이 비면 버린 작업 backfill
+    private void work() {
+        int batchSize = enrichmentProperties.batchSize();
+        List<EnrichmentTask> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                EnrichmentTask first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (dropped.compareAndSet(true, false)) {
+                        startBackfill();
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Enrichment worker failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // backfill 은 한 번에 하나만 (별도 스레드, 대기열이 차면 그 스레드만 기다린다)
+    private void startBackfill() {
+        if (!running || !backfilling.compareAndSet(false, true)) {
+            return;
+        }
+        backfillThread = Thread.ofPlatform().name("post-enrichment-backfill").daemon().start(() -> {
+            try {
+                backfill();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Enrichment backfill failed", e);
+                dropped.set(true);
+            } finally {
+                backfilling.set(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.apiece.twitter.follow.controller;
+
+import com.apiece.twitter.follow.dto.FollowUserResponse;
+import com.apiece.twitter.follow.service.FollowGraphService;
+import com.apiece.twitter.follow.service.FollowService;
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.global.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Follow", description = "팔로우 API")
+public class FollowController {
+
+    private final FollowService followService;
+    private final FollowGraphService followGraphService;
+
+    // 팔로우 API
+    @PostMapping("/api/users/{id}/follow")
+    @Operation(summary = "팔로우", description = "특정 사용자를 팔로우합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "팔로우 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 팔로우 중",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"409\", \"message\": \"이미 팔로우 중인 사용자입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<Void>> follow(
+            @Parameter(description = "팔로우할 사용자 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        followService.follow(userDetails.getUserId(), id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success());
+    }
+
+    // 언팔로우 API
+    @DeleteMapping("/api/users/{id}/follow")
+    @Operation(summary = "언팔로우", description = "특정 사용자에 대한 팔로우를 취소합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "언팔로우 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "팔로우 중이 아님",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"404\", \"message\": \"팔로우 중인 사용자가 아닙니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<Void>> unfollow(
+            @Parameter(description = "언팔로우할 사용자 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        followService.unfollow(userDetails.getUserId(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success());
+    }
+
+    // 팔로우 여부 조회 API (로그인한 사용자가 특정 사용자를 팔로우 중인지)
+    @GetMapping("/api/users/{id}/follow")
+    @Operation(summary = "팔로우 여부 조회", description = "로그인한 사용자가 특정 사용자를 팔로우 중인지 조회합니다.")
+    public ResponseEntity<ApiResponse<Boolean>> isFollowing(
+            @Parameter(description = "대상 사용자 ID") @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(followGraphService.isFollowing(userDetails.getUserId(), id)));
+    }
+
+    // 팔로워 목록 조회 API
+    @GetMapping("/api/users/{id}/followers")
+    @Operation(summary = "팔로워 목록 조회", description = "특정 사용자를 팔로우하는 사용자를 사용자 ID 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"유효하지 않은 커서입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<FollowUserResponse>>> getFollowers(
+            @Parameter(description = "사용자 ID") @PathVariable Long id,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(followGraphService.getFollowers(id, cursor, size)));
+    }
+
+    // 팔로잉 목록 조회 API
+    @GetMapping("/api/users/{id}/following")
+    @Operation(summary = "팔로잉 목록 조회", description = "특정 사용자가 팔로우하는 사용자를 사용자 ID 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"유효하지 않은 커서입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<FollowUserResponse>>> getFollowing(
+            @Parameter(description = "사용자 ID") @PathVariable Long id,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(followGraphService.getFollowing(id, cursor, size)));
+    }
+
+    // 맞팔로우 목록 조회 API
+    @GetMapping("/api/users/{id}/mutuals")
+    @Operation(summary = "맞팔로우 목록 조회", description = "특정 사용자와 서로 팔로우하는 사용자를 사용자 ID 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"유효하지 않은 커서입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<FollowUserResponse>>> getMutuals(
+            @Parameter(description = "사용자 ID") @PathVariable Long id,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(followGraphService.getMutuals(id, cursor, size)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.apiece.twitter.follow.domain;
+
+import com.apiece.twitter.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "follows",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_followee", columnNames = {"follower_id", "followee_id"}),
+        indexes = @Index(name = "idx_follows_followee_id", columnList = "followee_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Follow extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 팔로우 하는 사용자
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
+
+    // 팔로우 당하는 사용자
+    @Column(name = "followee_id", nullable = false)
+    private Long followeeId;
+
+    @Builder
+    public Follow(Long followerId, Long followeeId) {
+        this.followerId = followerId;
+        this.followeeId = followeeId;
+    }
+}
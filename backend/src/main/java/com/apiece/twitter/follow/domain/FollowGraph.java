@@ -0,0 +1,561 @@
+package com.apiece.twitter.follow.domain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 팔로우 관계 인접 목록 - 사용자별 팔로워/팔로잉 ID 를 정렬된 long[] 로 보관한다
+ * 간선마다 객체를 두지 않아 간선당 16바이트(양방향 8바이트씩) + 사용자별 배열/맵 항목만 쓴다.
+ * BLOCK_SIZE 를 넘는 목록(팔로워가 많은 사용자)은 BLOCK_SIZE 이하 블록들로 나눠 두어, 쓰기 한 번에 블록 하나와 블록 참조 배열만 복사한다.
+ * 포함 여부는 이진 탐색, 교집합(맞팔로우)은 작은 쪽을 기준으로 큰 쪽을 지수 탐색(galloping)하며 병합한다.
+ * 배열은 바꾸지 않고 쓰기 때마다 새 배열로 교체하므로(copy-on-write) 조회는 잠그지 않는다.
+ * 쓰기는 사용자 ID 로 나눈 스트라이프 락(가상 스레드에서 실행될 수 있어 ReentrantLock)을 두 사용자 것만 잡으므로
+ * 서로 다른 사용자의 팔로우/언팔로우는 동시에 반영된다.
+ */
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    // 블록 하나의 최대 ID 수 - 넘으면 둘로 나눈다 (쓰기 한 번의 복사량 상한 8KB)
+    static final int BLOCK_SIZE = 1024;
+    private static final int STRIPES = 64;
+
+    // 맵 항목 하나의 대략적인 크기 (Node 32 + Long 키 16 + 테이블 슬롯), 압축 포인터 기준 추정치
+    private static final long MAP_ENTRY_BYTES = 56;
+    // long[] 헤더 (압축 포인터 기준)
+    private static final long ARRAY_HEADER_BYTES = 16;
+    // Blocks 객체 (헤더 12 + 참조 4 + int 4 + 정렬) 와 블록 참조 하나 (압축 포인터 기준)
+    private static final long BLOCKS_OBJECT_BYTES = 24;
+    private static final long REFERENCE_BYTES = 4;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    // 사용자 ID -> 팔로우하는 사용자 ID (오름차순)
+    private final Adjacency following = new Adjacency();
+    // 사용자 ID -> 팔로워 ID (오름차순)
+    private final Adjacency followers = new Adjacency();
+    private final LongAdder edgeCount = new LongAdder();
+
+    public FollowGraph() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // 팔로우 추가 (이미 있으면 false)
+    public boolean add(long followerId, long followeeId) {
+        return locked(followerId, followeeId, () -> {
+            if (!following.insert(followerId, followeeId)) {
+                return false;
+            }
+            followers.insert(followeeId, followerId);
+            edgeCount.increment();
+            return true;
+        });
+    }
+
+    // 팔로우 제거 (없으면 false)
+    public boolean remove(long followerId, long followeeId) {
+        return locked(followerId, followeeId, () -> {
+            if (!following.delete(followerId, followeeId)) {
+                return false;
+            }
+            followers.delete(followeeId, followerId);
+            edgeCount.decrement();
+            return true;
+        });
+    }
+
+    // followerId 가 followeeId 를 팔로우하는지 - 블록 단위 이진 탐색이라 목록 길이와 관계없이 O(log n)
+    public boolean follows(long followerId, long followeeId) {
+        return following.contains(followerId, followeeId);
+    }
+
+    // 팔로워 ID 전체 (오름차순, 바꾸지 말 것) - 블록으로 나뉜 큰 목록은 복사하므로 페이지 조회는 followersAfter 로
+    public long[] followers(long userId) {
+        return followers.ids(userId);
+    }
+
+    // 팔로우하는 사용자 ID 전체 (오름차순, 바꾸지 말 것)
+    public long[] following(long userId) {
+        return following.ids(userId);
+    }
+
+    // 팔로워 중 afterId 보다 큰 ID 를 최대 limit 개 (오름차순, 목록 전체를 복사하지 않는다)
+    public long[] followersAfter(long userId, long afterId, int limit) {
+        return followers.after(userId, afterId, limit);
+    }
+
+    // 팔로우하는 사용자 중 afterId 보다 큰 ID 를 최대 limit 개 (오름차순)
+    public long[] followingAfter(long userId, long afterId, int limit) {
+        return following.after(userId, afterId, limit);
+    }
+
+    public int followerCount(long userId) {
+        return followers.size(userId);
+    }
+
+    // 맞팔로우 - 팔로우하면서 팔로워이기도 한 사용자 ID (오름차순)
+    // 둘 다 배열 하나면 galloping 교집합, 블록으로 나뉜 목록이 있으면 짧은 쪽 ID 마다 긴 쪽에서 이진 탐색
+    public long[] mutuals(long userId) {
+        if (!following.isBlocked(userId) && !followers.isBlocked(userId)) {
+            return intersect(following.ids(userId), followers.ids(userId));
+        }
+        boolean followingShorter = following.size(userId) <= followers.size(userId);
+        Adjacency shorter = followingShorter ? following : followers;
+        Adjacency longer = followingShorter ? followers : following;
+        return Arrays.stream(shorter.ids(userId))
+                .filter(id -> longer.contains(userId, id))
+                .toArray();
+    }
+
+    public long edgeCount() {
+        return edgeCount.sum();
+    }
+
+    // 팔로우하거나 팔로워가 있는 사용자 수 (양쪽에 있으면 두 번 센다)
+    public int adjacencyCount() {
+        return following.users() + followers.users();
+    }
+
+    // 힙 사용량 추정 - 배열은 정확히, 맵 항목은 MAP_ENTRY_BYTES 로 어림 (사용자 수에 비례해 순회)
+    public Footprint footprint() {
+        long arrayBytes = following.bytes() + followers.bytes();
+        long mapBytes = MAP_ENTRY_BYTES * adjacencyCount();
+        return new Footprint(following.users(), followers.users(), edgeCount(), arrayBytes, mapBytes);
+    }
+
+    // 두 사용자의 스트라이프 락을 인덱스 순서로 잡고 실행 (같은 스트라이프면 재진입)
+    private boolean locked(long followerId, long followeeId, BooleanSupplier action) {
+        int a = stripe(followerId);
+        int b = stripe(followeeId);
+        ReentrantLock first = stripes[Math.min(a, b)];
+        ReentrantLock second = stripes[Math.max(a, b)];
+        first.lock();
+        second.lock();
+        try {
+            return action.getAsBoolean();
+        } finally {
+            second.unlock();
+            first.unlock();
+        }
+    }
+
+    private static int stripe(long userId) {
+        return Math.floorMod(Long.hashCode(userId), STRIPES);
+    }
+
+    // 오름차순 ids 에서 afterId 보다 큰 ID 를 최대 limit 개
+    public static long[] after(long[] ids, long afterId, int limit) {
+        int from = upperBound(ids, afterId);
+        return Arrays.copyOfRange(ids, from, (int) Math.min(ids.length, (long) from + limit));
+    }
+
+    // 오름차순 두 배열의 교집합 - 짧은 쪽 원소마다 긴 쪽에서 직전 위치부터 지수 탐색 후 이진 탐색
+    // 길이가 비슷하면 선형 병합과 같고, 크게 차이 나면 O(m log(n/m)) 로 긴 쪽 대부분을 건너뛴다
+    public static long[] intersect(long[] a, long[] b) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+        long[] result = new long[small.length];
+        int count = 0;
+        int position = 0;
+        for (long id : small) {
+            position = gallop(large, position, id);
+            if (position == large.length) {
+                break;
+            }
+            if (large[position] == id) {
+                result[count++] = id;
+                position++;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    // from 이후에서 id 이상인 첫 위치 (없으면 ids.length) - from, from+1, from+2, from+4 ... 로 범위를 넓힌 뒤 이진 탐색
+    static int gallop(long[] ids, int from, long id) {
+        int low = from;
+        int high = from;
+        int step = 1;
+        while (high < ids.length && ids[high] < id) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(ids, low, Math.min(high, ids.length), id);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // id 보다 큰 첫 위치
+    private static int upperBound(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static long[] insertAt(long[] ids, int position, long id) {
+        long[] inserted = new long[ids.length + 1];
+        System.arraycopy(ids, 0, inserted, 0, position);
+        inserted[position] = id;
+        System.arraycopy(ids, position, inserted, position + 1, ids.length - position);
+        return inserted;
+    }
+
+    private static long[] removeAt(long[] ids, int position) {
+        long[] removed = new long[ids.length - 1];
+        System.arraycopy(ids, 0, removed, 0, position);
+        System.arraycopy(ids, position + 1, removed, position, ids.length - position - 1);
+        return removed;
+    }
+
+    /**
+     * 한 방향(팔로잉 또는 팔로워)의 사용자별 목록 - BLOCK_SIZE 이하는 배열 하나(small), 넘으면 블록들(blocked)
+     * 한 사용자의 목록은 그 사용자의 스트라이프 락을 잡은 쓰기 하나만 바꾼다.
+     * 배열 하나가 커지면 blocked 에 먼저 넣고 small 에서 지우므로, small -> blocked 순서로 읽으면 둘 중 하나에서 찾는다.
+     * 블록으로 나뉜 목록은 작아져도 배열 하나로 되돌리지 않는다 (비면 지운다).
+     */
+    private static final class Adjacency {
+
+        private final ConcurrentHashMap<Long, long[]> small = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Blocks> blocked = new ConcurrentHashMap<>();
+
+        long[] ids(long userId) {
+            long[] ids = small.get(userId);
+            if (ids != null) {
+                return ids;
+            }
+            Blocks blocks = blocked.get(userId);
+            return blocks != null ? blocks.toArray() : EMPTY;
+        }
+
+        long[] after(long userId, long afterId, int limit) {
+            long[] ids = small.get(userId);
+            if (ids != null) {
+                return FollowGraph.after(ids, afterId, limit);
+            }
+            Blocks blocks = blocked.get(userId);
+            return blocks != null ? blocks.after(afterId, limit) : EMPTY;
+        }
+
+        int size(long userId) {
+            long[] ids = small.get(userId);
+            if (ids != null) {
+                return ids.length;
+            }
+            Blocks blocks = blocked.get(userId);
+            return blocks != null ? blocks.size() : 0;
+        }
+
+        boolean contains(long userId, long id) {
+            long[] ids = small.get(userId);
+            if (ids != null) {
+                return Arrays.binarySearch(ids, id) >= 0;
+            }
+            Blocks blocks = blocked.get(userId);
+            return blocks != null && blocks.contains(id);
+        }
+
+        boolean isBlocked(long userId) {
+            return blocked.containsKey(userId);
+        }
+
+        // 추가 (이미 있으면 false)
+        boolean insert(long userId, long id) {
+            Blocks blocks = blocked.get(userId);
+            if (blocks != null) {
+                Blocks inserted = blocks.insert(id);
+                if (inserted == null) {
+                    return false;
+                }
+                blocked.put(userId, inserted);
+                return true;
+            }
+            long[] ids = small.getOrDefault(userId, EMPTY);
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                return false;
+            }
+            long[] inserted = insertAt(ids, -index - 1, id);
+            if (inserted.length <= BLOCK_SIZE) {
+                small.put(userId, inserted);
+            } else {
+                blocked.put(userId, Blocks.of(inserted));
+                small.remove(userId);
+            }
+            return true;
+        }
+
+        // 제거 (없으면 false) - 비면 항목째 지운다
+        boolean delete(long userId, long id) {
+            Blocks blocks = blocked.get(userId);
+            if (blocks != null) {
+                Blocks removed = blocks.remove(id);
+                if (removed == null) {
+                    return false;
+                }
+                if (removed.size() == 0) {
+                    blocked.remove(userId);
+                } else {
+                    blocked.put(userId, removed);
+                }
+                return true;
+            }
+            long[] ids = small.getOrDefault(userId, EMPTY);
+            int position = Arrays.binarySearch(ids, id);
+            if (position < 0) {
+                return false;
+            }
+            if (ids.length == 1) {
+                small.remove(userId);
+            } else {
+                small.put(userId, removeAt(ids, position));
+            }
+            return true;
+        }
+
+        // 일괄 적재용 - 정렬된(중복 없는) 목록을 그대로 넣는다
+        void put(long userId, long[] ids) {
+            if (ids.length <= BLOCK_SIZE) {
+                small.put(userId, ids);
+            } else {
+                blocked.put(userId, Blocks.of(ids));
+            }
+        }
+
+        int users() {
+            return small.size() + blocked.size();
+        }
+
+        long bytes() {
+            long bytes = 0;
+            for (long[] ids : small.values()) {
+                bytes += ARRAY_HEADER_BYTES + 8L * ids.length;
+            }
+            for (Blocks blocks : blocked.values()) {
+                bytes += blocks.bytes();
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * 블록으로 나뉜 정렬된 목록 (바꾸지 않는다) - 블록은 각각 정렬돼 있고 앞 블록의 ID 가 모두 뒤 블록보다 작다
+     * 쓰기는 바뀌는 블록 하나와 블록 참조 배열만 새로 만든다. 블록이 BLOCK_SIZE 를 넘으면 둘로 나누고,
+     * BLOCK_SIZE / 4 보다 작아지면 이웃 블록과 합쳐 BLOCK_SIZE 이하가 될 때 합친다 (빈 블록은 항상 합쳐진다).
+     *
+     * @param blocks 블록들 (비어 있지 않음, 목록이 비면 size 0 인 EMPTY)
+     * @param size   전체 ID 수
+     */
+    private record Blocks(long[][] blocks, int size) {
+
+        private static final Blocks EMPTY_BLOCKS = new Blocks(new long[][]{EMPTY}, 0);
+
+        // BLOCK_SIZE 씩 잘라 만든다
+        static Blocks of(long[] ids) {
+            long[][] blocks = new long[(ids.length + BLOCK_SIZE - 1) / BLOCK_SIZE][];
+            for (int i = 0; i < blocks.length; i++) {
+                blocks[i] = Arrays.copyOfRange(ids, i * BLOCK_SIZE, Math.min(ids.length, (i + 1) * BLOCK_SIZE));
+            }
+            return new Blocks(blocks, ids.length);
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(blocks[blockOf(id)], id) >= 0;
+        }
+
+        // 추가한 목록 (이미 있으면 null)
+        Blocks insert(long id) {
+            int b = blockOf(id);
+            long[] block = blocks[b];
+            int index = Arrays.binarySearch(block, id);
+            if (index >= 0) {
+                return null;
+            }
+            long[] inserted = insertAt(block, -index - 1, id);
+            if (inserted.length <= BLOCK_SIZE) {
+                long[][] replaced = blocks.clone();
+                replaced[b] = inserted;
+                return new Blocks(replaced, size + 1);
+            }
+            int half = inserted.length / 2;
+            long[][] split = new long[blocks.length + 1][];
+            System.arraycopy(blocks, 0, split, 0, b);
+            split[b] = Arrays.copyOfRange(inserted, 0, half);
+            split[b + 1] = Arrays.copyOfRange(inserted, half, inserted.length);
+            System.arraycopy(blocks, b + 1, split, b + 2, blocks.length - b - 1);
+            return new Blocks(split, size + 1);
+        }
+
+        // 제거한 목록 (없으면 null)
+        Blocks remove(long id) {
+            int b = blockOf(id);
+            long[] block = blocks[b];
+            int index = Arrays.binarySearch(block, id);
+            if (index < 0) {
+                return null;
+            }
+            if (size == 1) {
+                return EMPTY_BLOCKS;
+            }
+            long[] removed = removeAt(block, index);
+            if (removed.length < BLOCK_SIZE / 4 && blocks.length > 1) {
+                // 양옆 중 짧은 이웃과 합친다
+                int neighbor = b == 0 ? 1
+                        : b == blocks.length - 1 ? b - 1
+                        : blocks[b - 1].length <= blocks[b + 1].length ? b - 1 : b + 1;
+                if (removed.length + blocks[neighbor].length <= BLOCK_SIZE) {
+                    int first = Math.min(b, neighbor);
+                    long[] merged = first == b ? concat(removed, blocks[neighbor]) : concat(blocks[neighbor], removed);
+                    long[][] result = new long[blocks.length - 1][];
+                    System.arraycopy(blocks, 0, result, 0, first);
+                    result[first] = merged;
+                    System.arraycopy(blocks, first + 2, result, first + 1, blocks.length - first - 2);
+                    return new Blocks(result, size - 1);
+                }
+            }
+            long[][] replaced = blocks.clone();
+            replaced[b] = removed;
+            return new Blocks(replaced, size - 1);
+        }
+
+        // afterId 보다 큰 ID 를 최대 limit 개 - afterId 가 들어 있을 블록부터 필요한 만큼만 복사
+        long[] after(long afterId, int limit) {
+            long[] result = new long[Math.min(limit, size)];
+            int count = 0;
+            for (int b = blockOf(afterId); b < blocks.length && count < result.length; b++) {
+                long[] block = blocks[b];
+                int from = upperBound(block, afterId);
+                int length = Math.min(block.length - from, result.length - count);
+                System.arraycopy(block, from, result, count, length);
+                count += length;
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        }
+
+        long[] toArray() {
+            long[] ids = new long[size];
+            int position = 0;
+            for (long[] block : blocks) {
+                System.arraycopy(block, 0, ids, position, block.length);
+                position += block.length;
+            }
+            return ids;
+        }
+
+        long bytes() {
+            long bytes = BLOCKS_OBJECT_BYTES + ARRAY_HEADER_BYTES + REFERENCE_BYTES * blocks.length;
+            for (long[] block : blocks) {
+                bytes += ARRAY_HEADER_BYTES + 8L * block.length;
+            }
+            return bytes;
+        }
+
+        // id 가 들어 있을(들어갈) 블록 - 첫 ID 가 id 이하인 마지막 블록 (없으면 0)
+        private int blockOf(long id) {
+            int low = 0;
+            int high = blocks.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (blocks[mid][0] <= id) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        private static long[] concat(long[] first, long[] second) {
+            long[] joined = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, joined, first.length, second.length);
+            return joined;
+        }
+    }
+
+    /**
+     * 힙 사용량 추정 결과
+     *
+     * @param followingUsers 팔로우하는 사용자가 있는 사용자 수
+     * @param followedUsers  팔로워가 있는 사용자 수
+     * @param edges          팔로우 관계 수
+     * @param arrayBytes     ID 배열 크기 (헤더, 블록 참조 배열 포함)
+     * @param mapBytes       사용자별 맵 항목 크기 (추정)
+     */
+    public record Footprint(int followingUsers, int followedUsers, long edges, long arrayBytes, long mapBytes) {
+
+        public long totalBytes() {
+            return arrayBytes + mapBytes;
+        }
+
+        public double bytesPerEdge() {
+            return edges == 0 ? 0 : (double) totalBytes() / edges;
+        }
+    }
+
+    /**
+     * 기동 시 일괄 적재용 - 간선을 원시 배열에 모았다가 사용자별 배열을 한 번에 만든다
+     * (간선마다 add 하면 목록을 매번 복사하므로 적재에는 쓰지 않는다)
+     */
+    public static final class Builder {
+
+        private long[] followerIds = new long[1024];
+        private long[] followeeIds = new long[1024];
+        private int size;
+
+        public Builder add(long followerId, long followeeId) {
+            if (size == followerIds.length) {
+                followerIds = Arrays.copyOf(followerIds, size * 2);
+                followeeIds = Arrays.copyOf(followeeIds, size * 2);
+            }
+            followerIds[size] = followerId;
+            followeeIds[size] = followeeId;
+            size++;
+            return this;
+        }
+
+        public FollowGraph build() {
+            FollowGraph graph = new FollowGraph();
+            graph.edgeCount.add(fill(graph.following, followerIds, followeeIds));
+            fill(graph.followers, followeeIds, followerIds);
+            return graph;
+        }
+
+        // keys[i] -> values[i] 를 사용자별 정렬된(중복 없는) 목록으로 모으고 간선 수 반환
+        private long fill(Adjacency target, long[] keys, long[] values) {
+            // 사용자별 간선 수를 세어 배열을 정확한 크기로 한 번만 할당 (카운터는 채울 위치로 다시 쓴다)
+            Map<Long, int[]> counts = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                counts.computeIfAbsent(keys[i], key -> new int[1])[0]++;
+            }
+            Map<Long, long[]> arrays = new HashMap<>(counts.size() * 4 / 3 + 1);
+            counts.forEach((key, count) -> {
+                arrays.put(key, new long[count[0]]);
+                count[0] = 0;
+            });
+            for (int i = 0; i < size; i++) {
+                arrays.get(keys[i])[counts.get(keys[i])[0]++] = values[i];
+            }
+            long edges = 0;
+            for (Map.Entry<Long, long[]> entry : arrays.entrySet()) {
+                long[] ids = sortedUnique(entry.getValue());
+                target.put(entry.getKey(), ids);
+                edges += ids.length;
+            }
+            return edges;
+        }
+
+        private static long[] sortedUnique(long[] ids) {
+            Arrays.sort(ids);
+            int unique = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[unique - 1]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            return unique == ids.length ? ids : Arrays.copyOf(ids, unique);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.apiece.twitter.follow.dto;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 팔로워/팔로잉 목록 커서 - 마지막으로 조회한 사용자 ID (목록은 사용자 ID 오름차순)
+ */
+public record FollowCursor(long afterId) {
+
+    public static final FollowCursor FIRST = new FollowCursor(Long.MIN_VALUE);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(afterId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FollowCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new FollowCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.apiece.twitter.follow.dto;
+
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "팔로워/팔로잉 사용자 응답")
+public record FollowUserResponse(
+        @Schema(description = "사용자 ID", type = "string", example = "1234567890123456789")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long id,
+
+        @Schema(description = "닉네임 (탈퇴한 사용자는 null)", example = "테스터")
+        String nickname
+) {
+    public static FollowUserResponse of(Long id, Map<Long, AuthorProfile> profiles) {
+        AuthorProfile profile = profiles.get(id);
+        return new FollowUserResponse(id, profile != null ? profile.nickname() : null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.apiece.twitter.follow.event;
+
+/**
+ * 팔로우/언팔로우가 발생했음을 알리는 이벤트
+ */
+public record FollowChangedEvent(Long followerId, Long followeeId, boolean following) {
+}
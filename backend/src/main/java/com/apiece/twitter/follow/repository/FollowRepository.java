@@ -0,0 +1,36 @@
+package com.apiece.twitter.follow.repository;
+
+import com.apiece.twitter.follow.domain.Follow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    Optional<Follow> findByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    // 특정 사용자를 팔로우하는 사용자 ID 목록
+    @Query("select f.followerId from Follow f where f.followeeId = :followeeId")
+    List<Long> findFollowerIds(@Param("followeeId") Long followeeId);
+
+    // 특정 사용자가 팔로우하는 사용자 ID 목록
+    @Query("select f.followeeId from Follow f where f.followerId = :followerId")
+    List<Long> findFolloweeIds(@Param("followerId") Long followerId);
+
+    // 팔로워 수 (idx_follows_followee_id 로 센다)
+    long countByFolloweeId(Long followeeId);
+
+    // 특정 사용자가 팔로우하는 사용자 중 팔로워가 threshold 명보다 많은 사용자 ID
+    @Query("select f.followeeId from Follow f where f.followerId = :followerId"
+            + " and (select count(g) from Follow g where g.followeeId = f.followeeId) > :threshold")
+    List<Long> findFolloweeIdsWithFollowersOver(@Param("followerId") Long followerId, @Param("threshold") long threshold);
+
+    // id 오름차순 순회 (팔로우 그래프 적재용, PK 범위 탐색)
+    List<Follow> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
@@ -0,0 +1,223 @@
+package com.apiece.twitter.follow.service;
+
+import com.apiece.twitter.follow.domain.Follow;
+import com.apiece.twitter.follow.domain.FollowGraph;
+import com.apiece.twitter.follow.dto.FollowCursor;
+import com.apiece.twitter.follow.dto.FollowUserResponse;
+import com.apiece.twitter.follow.event.FollowChangedEvent;
+import com.apiece.twitter.follow.repository.FollowRepository;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팔로우 그래프 조회 (팔로워/팔로잉/맞팔로우, 팔로우 여부)
+ * 기동 후 follows 를 ID 순으로 읽어 메모리 그래프(FollowGraph)를 만들고, 이후 팔로우/언팔로우 커밋마다 반영한다.
+ * 적재가 끝나기 전에는 DB 로 조회하고, 적재 중 들어온 변경은 모아 두었다가 적재한 그래프에 순서대로 다시 적용한다.
+ * 다른 인스턴스에서 일어난 변경은 반영되지 않으므로 팔로우/언팔로우 자체의 검사는 FollowService 가 DB 로 한다.
+ */
+@Slf4j
+@Service
+public class FollowGraphService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final FollowRepository followRepository;
+    private final AuthorProfileLoader authorProfileLoader;
+
+    // 적재 전에는 null
+    private volatile FollowGraph graph;
+    // 적재 중 들어온 변경 (lock 으로 보호, 적재가 끝나거나 실패하면 더 모으지 않는다)
+    // 적재 후의 변경은 lock 없이 그래프에 바로 반영한다 (그래프가 사용자별 스트라이프 락으로 동시 반영)
+    private final List<FollowChangedEvent> changedDuringLoad = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean buffering = true;
+
+    public FollowGraphService(FollowRepository followRepository,
+                              AuthorProfileLoader authorProfileLoader,
+                              MeterRegistry meterRegistry) {
+        this.followRepository = followRepository;
+        this.authorProfileLoader = authorProfileLoader;
+        Gauge.builder("follow.graph.edges", this, service -> service.graph != null ? service.graph.edgeCount() : 0)
+                .description("Follow edges held in the in-memory follow graph")
+                .register(meterRegistry);
+    }
+
+    // 팔로워 목록 (사용자 ID 오름차순, 커서 기반) - 그래프에서는 커서 다음 페이지만 꺼낸다
+    public CursorResponse<FollowUserResponse> getFollowers(Long userId, String cursor, int size) {
+        long afterId = FollowCursor.decode(cursor).afterId();
+        FollowGraph current = graph;
+        long[] ids = current != null
+                ? current.followersAfter(userId, afterId, size + 1)
+                : FollowGraph.after(followerIds(userId), afterId, size + 1);
+        return page(ids, size);
+    }
+
+    // 팔로잉 목록 (사용자 ID 오름차순, 커서 기반)
+    public CursorResponse<FollowUserResponse> getFollowing(Long userId, String cursor, int size) {
+        long afterId = FollowCursor.decode(cursor).afterId();
+        FollowGraph current = graph;
+        long[] ids = current != null
+                ? current.followingAfter(userId, afterId, size + 1)
+                : FollowGraph.after(followingIds(userId), afterId, size + 1);
+        return page(ids, size);
+    }
+
+    // 맞팔로우 목록 (사용자 ID 오름차순, 커서 기반)
+    public CursorResponse<FollowUserResponse> getMutuals(Long userId, String cursor, int size) {
+        long afterId = FollowCursor.decode(cursor).afterId();
+        FollowGraph current = graph;
+        long[] mutuals = current != null
+                ? current.mutuals(userId)
+                : FollowGraph.intersect(followingIds(userId), followerIds(userId));
+        return page(FollowGraph.after(mutuals, afterId, size + 1), size);
+    }
+
+    // followerId 가 followeeId 를 팔로우하는지
+    public boolean isFollowing(Long followerId, Long followeeId) {
+        FollowGraph current = graph;
+        return current != null
+                ? current.follows(followerId, followeeId)
+                : followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId);
+    }
+
+    // 팔로워 수 (팔로워 ID 를 읽지 않는다)
+    public long followerCount(Long userId) {
+        FollowGraph current = graph;
+        return current != null ? current.followerCount(userId) : followRepository.countByFolloweeId(userId);
+    }
+
+    // 팔로우 중인 사용자 중 팔로워가 threshold 명보다 많은 사용자 ID
+    public List<Long> highFollowerFollowees(Long userId, long threshold) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return followRepository.findFolloweeIdsWithFollowersOver(userId, threshold);
+        }
+        return Arrays.stream(current.following(userId))
+                .filter(id -> current.followerCount(id) > threshold)
+                .boxed()
+                .toList();
+    }
+
+    public boolean isLoaded() {
+        return graph != null;
+    }
+
+    // 팔로우/언팔로우 커밋 후 그래프에 반영 (적재 중이면 모아 둔다)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        FollowGraph loaded = graph;
+        if (loaded != null) {
+            apply(loaded, event);
+            return;
+        }
+        lock.lock();
+        try {
+            // 기다리는 사이 적재가 끝났을 수 있다 (graph 는 lock 안에서 한 번만 설정된다)
+            FollowGraph current = graph;
+            if (current != null) {
+                apply(current, event);
+            } else if (buffering) {
+                changedDuringLoad.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 기동 후 모든 팔로우 관계로 그래프 적재 (요청 처리와 분리해 비동기 실행)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        FollowGraph loaded;
+        try {
+            loaded = read();
+        } catch (RuntimeException e) {
+            log.error("Failed to load follow graph, follow queries keep using the database", e);
+            lock.lock();
+            try {
+                buffering = false;
+                changedDuringLoad.clear();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        lock.lock();
+        try {
+            // 읽는 동안 커밋된 변경을 순서대로 다시 적용 (이미 읽힌 변경은 다시 적용해도 결과가 같다)
+            changedDuringLoad.forEach(event -> apply(loaded, event));
+            changedDuringLoad.clear();
+            buffering = false;
+            graph = loaded;
+        } finally {
+            lock.unlock();
+        }
+        FollowGraph.Footprint footprint = loaded.footprint();
+        log.info("Follow graph loaded: {} edges, {} KiB ({} bytes/edge)",
+                footprint.edges(), footprint.totalBytes() / 1024, String.format("%.1f", footprint.bytesPerEdge()));
+    }
+
+    private FollowGraph read() {
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        long lastId = 0;
+        List<Follow> batch;
+        do {
+            batch = followRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Follow follow : batch) {
+                builder.add(follow.getFollowerId(), follow.getFolloweeId());
+                lastId = follow.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return builder.build();
+    }
+
+    private static void apply(FollowGraph graph, FollowChangedEvent event) {
+        if (event.following()) {
+            graph.add(event.followerId(), event.followeeId());
+        } else {
+            graph.remove(event.followerId(), event.followeeId());
+        }
+    }
+
+    // 팔로워 ID 전체 (오름차순)
+    public long[] followerIds(Long userId) {
+        FollowGraph current = graph;
+        return current != null ? current.followers(userId) : sorted(followRepository.findFollowerIds(userId));
+    }
+
+    private long[] followingIds(Long userId) {
+        FollowGraph current = graph;
+        return current != null ? current.following(userId) : sorted(followRepository.findFolloweeIds(userId));
+    }
+
+    // 커서 다음 최대 size + 1 개 ID 로 size 개 + 닉네임 (닉네임은 페이지 단위로 한 번에 조회)
+    private CursorResponse<FollowUserResponse> page(long[] pageIds, int size) {
+        boolean hasNext = pageIds.length > size;
+        List<Long> userIds = Arrays.stream(pageIds, 0, Math.min(pageIds.length, size)).boxed().toList();
+        Map<Long, AuthorProfile> profiles = authorProfileLoader.loadAll(userIds);
+        List<FollowUserResponse> content = userIds.stream()
+                .map(id -> FollowUserResponse.of(id, profiles))
+                .toList();
+        return CursorResponse.of(content, hasNext, user -> new FollowCursor(user.id()).encode());
+    }
+
+    private static long[] sorted(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
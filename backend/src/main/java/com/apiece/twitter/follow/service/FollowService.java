@@ -0,0 +1,51 @@
+package com.apiece.twitter.follow.service;
+
+import com.apiece.twitter.follow.domain.Follow;
+import com.apiece.twitter.follow.event.FollowChangedEvent;
+import com.apiece.twitter.follow.repository.FollowRepository;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 팔로우
+    @Transactional
+    public void follow(Long followerId, Long followeeId) {
+        if (followerId.equals(followeeId)) {
+            throw new BusinessException(ErrorCode.SELF_FOLLOW);
+        }
+        if (!userRepository.existsById(followeeId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (followRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)) {
+            throw new BusinessException(ErrorCode.ALREADY_FOLLOWING);
+        }
+
+        followRepository.save(Follow.builder()
+                .followerId(followerId)
+                .followeeId(followeeId)
+                .build());
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, true));
+    }
+
+    // 언팔로우
+    @Transactional
+    public void unfollow(Long followerId, Long followeeId) {
+        Follow follow = followRepository.findByFollowerIdAndFolloweeId(followerId, followeeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOLLOWING));
+        followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followeeId, false));
+    }
+}
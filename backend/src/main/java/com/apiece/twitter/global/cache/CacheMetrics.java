@@ -0,0 +1,24 @@
+package com.apiece.twitter.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 로컬 캐시 지표 등록 (cache.gets/puts/evictions + cache.hit.ratio)
+ */
+public final class CacheMetrics {
+
+    private CacheMetrics() {
+    }
+
+    public static <K, V> Cache<K, V> monitor(MeterRegistry meterRegistry, Cache<K, V> cache, String cacheName) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", cacheName)
+                .description("The ratio of cache requests which were hits")
+                .register(meterRegistry);
+        return cache;
+    }
+}
@@ -0,0 +1,43 @@
+package com.apiece.twitter.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로컬 캐시 설정 (cache.*)
+ * maximum-size 가 0 이면 해당 캐시는 사실상 비활성화된다.
+ */
+@ConfigurationProperties(prefix = "cache")
+public record CacheProperties(
+        Spec principal,
+        Spec token,
+        Spec post,
+        Spec profile
+) {
+
+    public CacheProperties {
+        principal = principal != null ? principal : new Spec(10_000, Duration.ofMinutes(5));
+        // 검증된 토큰 캐시는 항목별로 토큰 exp 까지만 유지하므로 TTL 을 두지 않는다
+        token = token != null ? token : new Spec(10_000, null);
+        post = post != null ? post : new Spec(10_000, Duration.ofMinutes(10));
+        // 작성자 프로필은 닉네임 변경을 곧 반영하도록 짧게 유지한다
+        profile = profile != null ? profile : new Spec(100_000, Duration.ofMinutes(1));
+    }
+
+    public record Spec(
+            long maximumSize,
+            Duration expireAfterWrite
+    ) {
+        public Caffeine<Object, Object> toBuilder() {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .recordStats();
+            if (expireAfterWrite != null) {
+                builder.expireAfterWrite(expireAfterWrite);
+            }
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.apiece.twitter.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화 - 실행기는 스프링 부트 기본 applicationTaskExecutor 를 사용한다.
+ * virtual 프로필(spring.threads.virtual.enabled)에서는 가상 스레드, 그 외에는 플랫폼 스레드 풀에서 실행된다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,48 @@
+package com.apiece.twitter.global.config;
+
+import com.apiece.twitter.global.cache.CacheMetrics;
+import com.apiece.twitter.global.cache.CacheProperties;
+import com.apiece.twitter.global.security.jwt.VerifiedToken;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    // 인증 주체 캐시 (email -> UserDetails), 요청마다 users 조회를 피하기 위함
+    @Bean
+    public Cache<String, UserDetails> principalCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        Cache<String, UserDetails> cache = cacheProperties.principal().toBuilder().build();
+        return CacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    // 검증된 JWT 캐시 (서명 -> 토큰/claims), 같은 토큰의 반복 요청에서 HMAC 검증 생략
+    @Bean
+    public Cache<String, VerifiedToken> verifiedTokenCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        Cache<String, VerifiedToken> cache = cacheProperties.token().toBuilder()
+                .expireAfter(VerifiedToken.untilExpiration())
+                .build();
+        return CacheMetrics.monitor(meterRegistry, cache, "verified-tokens");
+    }
+
+    // 게시글 단건 캐시 (id -> PostResponse), 크기 제한 + 빈도 기반(W-TinyLFU) 축출
+    @Bean
+    public Cache<Long, PostResponse> postCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        Cache<Long, PostResponse> cache = cacheProperties.post().toBuilder().build();
+        return CacheMetrics.monitor(meterRegistry, cache, "posts");
+    }
+
+    // 작성자 프로필 캐시 (userId -> id/nickname), 게시글 페이지의 작성자 조회를 줄이기 위함
+    @Bean
+    public Cache<Long, AuthorProfile> authorProfileCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        Cache<Long, AuthorProfile> cache = cacheProperties.profile().toBuilder().build();
+        return CacheMetrics.monitor(meterRegistry, cache, "author-profiles");
+    }
+}
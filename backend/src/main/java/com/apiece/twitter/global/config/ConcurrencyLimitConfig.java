@@ -0,0 +1,20 @@
+package com.apiece.twitter.global.config;
+
+import com.apiece.twitter.global.limit.AdaptiveConcurrencyLimiter;
+import com.apiece.twitter.global.limit.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    // 지연 시간 기반 동시 처리 한도 (concurrency.limit / concurrency.inflight / concurrency.rejected 지표)
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties concurrencyLimitProperties,
+                                                                 MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(concurrencyLimitProperties, meterRegistry);
+    }
+}
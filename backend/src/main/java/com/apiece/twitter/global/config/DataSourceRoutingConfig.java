@@ -0,0 +1,96 @@
+package com.apiece.twitter.global.config;
+
+import com.apiece.twitter.global.datasource.DataSourceRoutingProperties;
+import com.apiece.twitter.global.datasource.ReadWriteRoutingDataSource;
+import com.apiece.twitter.global.datasource.ReadYourWritesFilter;
+import com.apiece.twitter.global.security.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 (datasource.routing.enabled=true 일 때만, 아니면 스프링 부트 기본 단일 데이터소스)
+ * 주 DB / 복제본 풀을 따로 만들고(풀마다 Hikari 설정), JPA/JdbcTemplate 은 둘을 감싼 라우팅 데이터소스를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    // 주 DB 풀 - 접속 정보 spring.datasource.*, 풀 설정 spring.datasource.hikari.* (단일 데이터소스일 때와 같은 키)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본 풀 - 접속 정보 datasource.routing.replica.*, 풀 설정 datasource.routing.replica.hikari.*
+    // 풀은 첫 커넥션 요청 때 초기화되므로 복제본이 내려가 있어도 기동은 된다 (읽기는 주 DB 로 넘어간다)
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceRoutingProperties routingProperties) {
+        DataSourceRoutingProperties.Replica replica = routingProperties.replica();
+        if (replica.url() == null || replica.url().isBlank()) {
+            throw new IllegalStateException("datasource.routing.replica.url is required when datasource.routing.enabled=true");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password())
+                .driverClassName(replica.driverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // JPA / JdbcTemplate 이 쓰는 데이터소스 - 트랜잭션 readOnly 가 정해진 뒤 커넥션을 고르도록 지연 프록시로 감싼다
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 DataSourceRoutingProperties routingProperties,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, routingProperties, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 요청 스레드를 인증 사용자로 묶어 read-your-writes 기준으로 삼는다 - 인증이 끝난 뒤이므로 시큐리티 필터(-100) 다음에 실행
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(DataSourceRoutingConfig::currentUserId));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    // 현재 요청의 인증 사용자 ID (인증 없으면 null)
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
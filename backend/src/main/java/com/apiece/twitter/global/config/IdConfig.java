@@ -0,0 +1,16 @@
+package com.apiece.twitter.global.config;
+
+import com.apiece.twitter.global.jpa.id.Snowflake;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdConfig {
+
+    // 게시글/사용자 ID 생성기 (@SnowflakeId, JDBC 배치 저장이 공유), 노드 번호는 인스턴스마다 달라야 한다
+    @Bean
+    public Snowflake snowflake(@Value("${id.node-id:0}") int nodeId) {
+        return new Snowflake(nodeId);
+    }
+}
@@ -1,8 +1,13 @@
 package com.apiece.twitter.global.config;
 
+import com.apiece.twitter.global.limit.ConcurrencyLimitFilter;
 import com.apiece.twitter.global.security.AuthenticationEntryPointImpl;
+import com.apiece.twitter.global.security.PasswordHasher;
+import com.apiece.twitter.global.security.PasswordHashingProperties;
 import com.apiece.twitter.global.security.jwt.JwtAuthenticationFilter;
 import com.apiece.twitter.global.security.jwt.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +18,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -21,19 +27,33 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashingProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final AuthenticationEntryPointImpl authenticationEntryPoint;
 
+    // 새 해시는 {bcrypt} 접두사 + 설정한 cost, 접두사 없는 기존 해시도 BCrypt 로 검증한다 (로그인 성공 시 새 정책으로 다시 해싱)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordHashingProperties.strength());
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    // 로그인/회원가입 해싱은 요청 스레드가 아닌 전용 스레드에서
+    @Bean
+    public PasswordHasher passwordHasher(PasswordEncoder passwordEncoder,
+                                         PasswordHashingProperties passwordHashingProperties,
+                                         MeterRegistry meterRegistry) {
+        return new PasswordHasher(passwordEncoder, passwordHashingProperties, meterRegistry);
     }
 
     @Bean
@@ -46,15 +66,25 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(일괄 등록/내보내기)의 ASYNC 재디스패치 - 최초 요청에서 이미 인가했고 stateless 라 인증 정보가 없다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 전체 내보내기는 조회지만 인증 필요 (아래 GET /api/posts/** 보다 먼저 매칭)
+                        .requestMatchers(HttpMethod.GET, "/api/posts/export").authenticated()
                         // 인증 불필요
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/trends").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/analyze", "/api/analyze/batch").permitAll()
                         // Swagger
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // 헬스 체크 / Prometheus 수집
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         // 그 외 인증 필요
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 한도를 넘는 요청은 토큰 검증 전에 거절
+                .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 
@@ -0,0 +1,55 @@
+package com.apiece.twitter.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * 가상 스레드 모드 기동 시 캐리어 스레드 고정(pinning) 위험 점검
+ * synchronized 로 I/O 를 감싸는 드라이버는 그 안에서 블로킹하는 동안 캐리어를 붙잡는다.
+ * 동시에 드라이버에 들어가는 스레드는 커넥션 풀 크기로 제한되므로, 풀이 캐리어 수 이상이면 모든 캐리어가 묶일 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningGuard {
+
+    // synchronized 구간에서 블로킹하는 드라이버 (mysql-connector-j 9.x 는 ReentrantLock 으로 전환되어 제외)
+    private static final Set<String> PINNING_DRIVERS = Set.of(
+            "org.h2.Driver",
+            "org.mariadb.jdbc.Driver"
+    );
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return;
+        }
+        int carriers = carrierParallelism();
+        int poolSize = hikari.getMaximumPoolSize();
+        String driver = hikari.getDriverClassName();
+        log.info("virtual threads enabled: carriers={}, maximumPoolSize={}, driver={}", carriers, poolSize, driver);
+
+        if (driver != null && PINNING_DRIVERS.contains(driver) && poolSize >= carriers) {
+            log.warn("JDBC driver {} may pin carrier threads inside synchronized blocks; maximumPoolSize({}) >= carriers({}) "
+                    + "allows every carrier to be pinned at once. Lower the pool size or run with -Djdk.tracePinnedThreads=short to verify.",
+                    driver, poolSize, carriers);
+        }
+    }
+
+    private static int carrierParallelism() {
+        String parallelism = System.getProperty("jdk.virtualThreadScheduler.parallelism");
+        return parallelism != null ? Integer.parseInt(parallelism) : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,79 @@
+package com.apiece.twitter.global.datasource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 스레드별 라우팅 힌트 - ReadWriteRoutingDataSource 가 커넥션을 고를 때 본다 (라우팅이 꺼져 있으면 아무 효과 없음)
+ * - onPrimary: 읽기 전용 트랜잭션이어도 주 DB 에서 읽는다 (주 DB 기준 버전으로 검증자를 만드는 응답 등)
+ * - asUsers: read-your-writes 대상 사용자. 안에서 커밋한 쓰기는 이 사용자들의 쓰기로 기록되고,
+ *   읽기는 이 중 최근에 쓰기를 커밋한 사용자가 있으면 주 DB 로 간다.
+ * 요청 스레드는 ReadYourWritesFilter 가 인증 사용자로 묶고, 요청 밖 스레드(그룹 커밋, 비동기 리스너)는 호출하는 쪽이 직접 넘긴다.
+ */
+public final class DataSourceRouting {
+
+    private static final Hint NONE = new Hint(false, List.of());
+    private static final ThreadLocal<Hint> HINT = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    // action 안의 읽기를 주 DB 로
+    public static <T> T onPrimary(Supplier<T> action) {
+        return with(new Hint(true, current().userIds()), action);
+    }
+
+    // action 안의 읽기/쓰기를 userId 기준으로 read-your-writes 처리 (null 이면 추적하지 않음)
+    public static <T> T asUser(Long userId, Supplier<T> action) {
+        return asUsers(userId != null ? List.of(userId) : List.of(), action);
+    }
+
+    // 여러 사용자의 쓰기를 한 트랜잭션으로 커밋할 때 (null 은 무시)
+    public static <T> T asUsers(Collection<Long> userIds, Supplier<T> action) {
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        return with(new Hint(current().primary(), ids), action);
+    }
+
+    // 지금 스레드의 읽기가 주 DB 로 가도록 요청됐는지 (onPrimary 안인지)
+    public static boolean isOnPrimary() {
+        return current().primary();
+    }
+
+    static Hint current() {
+        Hint hint = HINT.get();
+        return hint != null ? hint : NONE;
+    }
+
+    // 검사 예외를 던지는 곳(필터)에서 직접 묶고 되돌릴 때 - 반환값을 restore 에 넘긴다
+    static Hint bind(Hint hint) {
+        Hint previous = HINT.get();
+        HINT.set(hint);
+        return previous;
+    }
+
+    static void restore(Hint previous) {
+        if (previous == null) {
+            HINT.remove();
+        } else {
+            HINT.set(previous);
+        }
+    }
+
+    private static <T> T with(Hint hint, Supplier<T> action) {
+        Hint previous = bind(hint);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * @param primary 읽기도 주 DB 로
+     * @param userIds read-your-writes 대상 사용자 ID (중복/null 없음)
+     */
+    record Hint(boolean primary, List<Long> userIds) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.apiece.twitter.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정 (datasource.routing.*)
+ * 주 DB 는 spring.datasource.* (풀 설정 spring.datasource.hikari.*), 복제본은 replica.* (풀 설정 replica.hikari.*) 로 따로 둔다.
+ *
+ * @param enabled        켜면 읽기 전용 트랜잭션을 복제본으로 보낸다 (기본 꺼짐 - 모두 주 DB)
+ * @param readYourWrites 사용자가 쓰기를 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 주 DB 로 보낸다 (0 이면 사용 안 함)
+ * @param replicaRetry   복제본 커넥션 획득이 실패하면 이 시간 동안 주 DB 로 보낸 뒤 다시 시도한다
+ * @param replica        복제본 접속 정보
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        Duration readYourWrites,
+        Duration replicaRetry,
+        Replica replica
+) {
+    public DataSourceRoutingProperties {
+        readYourWrites = readYourWrites != null && !readYourWrites.isNegative() ? readYourWrites : Duration.ZERO;
+        replicaRetry = replicaRetry != null && replicaRetry.isPositive() ? replicaRetry : Duration.ofSeconds(5);
+        replica = replica != null ? replica : new Replica(null, null, null, null);
+    }
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            String driverClassName
+    ) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.apiece.twitter.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 읽기/쓰기 분리 데이터소스
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 나머지(쓰기 트랜잭션, 트랜잭션 밖)는 주 DB 로 보낸다.
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 쓸 때 정해지므로 LazyConnectionDataSourceProxy 뒤에 두어야 한다.
+ * - 복제본 커넥션 획득이 실패하면 replicaRetry 동안 주 DB 로 보내고, 그 뒤 다시 복제본을 시도한다.
+ * - readYourWrites 가 있으면 쓰기를 커밋한 사용자의 읽기는 그 시간 동안 주 DB 로 보내 복제 지연으로 자기 글이 안 보이는 일을 막는다.
+ *   사용자는 보안 컨텍스트가 아니라 스레드의 DataSourceRouting 힌트로 받는다 (요청 밖 스레드도 명시적으로 넘길 수 있게, 힌트가 없으면 추적하지 않음)
+ * - DataSourceRouting.onPrimary 안의 읽기는 항상 주 DB 로 보낸다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final LongSupplier nanoClock;
+    private final long replicaRetryNanos;
+    private final Cache<Long, Boolean> recentWriters;
+    private volatile long replicaDownUntil;
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, DataSourceRoutingProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this(primary, replica, properties, meterRegistry, System::nanoTime);
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, DataSourceRoutingProperties properties,
+                               MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.nanoClock = nanoClock;
+        this.replicaRetryNanos = properties.replicaRetry().toNanos();
+        this.recentWriters = properties.readYourWrites().isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(properties.readYourWrites())
+                .ticker(nanoClock::getAsLong)
+                .build();
+        this.replicaDownUntil = nanoClock.getAsLong();
+        this.primaryCounter = meterRegistry.counter("datasource.routing.connections", "target", "primary");
+        this.replicaCounter = meterRegistry.counter("datasource.routing.connections", "target", "replica");
+        this.fallbackCounter = meterRegistry.counter("datasource.routing.replica.fallback");
+        meterRegistry.gauge("datasource.routing.replica.available", this, ds -> ds.isReplicaAvailable() ? 1 : 0);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    // 복제본 사용 가능 여부 (획득 실패 후 replicaRetry 가 지나지 않았으면 false)
+    public boolean isReplicaAvailable() {
+        return nanoClock.getAsLong() - replicaDownUntil >= 0;
+    }
+
+    // 읽기 전용 트랜잭션이고, 주 DB 힌트가 없고, 복제본이 살아 있고, 힌트의 사용자 중 최근에 쓰기를 커밋한 사용자가 없으면 복제본
+    private boolean routeToReplica() {
+        DataSourceRouting.Hint hint = DataSourceRouting.current();
+        if (hint.primary() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !isReplicaAvailable()) {
+            return false;
+        }
+        if (recentWriters == null) {
+            return true;
+        }
+        for (Long userId : hint.userIds()) {
+            if (recentWriters.getIfPresent(userId) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 쓰기 트랜잭션이면 커밋 후 힌트의 사용자들을 최근 쓰기 사용자로 기록
+    private void trackWrite() {
+        if (recentWriters == null
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<Long> userIds = DataSourceRouting.current().userIds();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userIds.forEach(userId -> recentWriters.put(userId, Boolean.TRUE));
+            }
+        });
+    }
+
+    // 복제본 대상이면 복제본에서 먼저 얻고, 실패하면 복제본을 잠시 제외하고 주 DB 에서 얻는다
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (routeToReplica()) {
+            try {
+                Connection connection = source.get(replica);
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException e) {
+                markReplicaDown(e);
+            }
+        }
+        trackWrite();
+        primaryCounter.increment();
+        return source.get(primary);
+    }
+
+    private void markReplicaDown(SQLException e) {
+        replicaDownUntil = nanoClock.getAsLong() + replicaRetryNanos;
+        fallbackCounter.increment();
+        log.warn("Replica connection failed, routing reads to primary for {}", Duration.ofNanos(replicaRetryNanos), e);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+}
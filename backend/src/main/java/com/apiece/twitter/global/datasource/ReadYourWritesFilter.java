@@ -0,0 +1,40 @@
+package com.apiece.twitter.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드를 인증 사용자로 묶는다 (DataSourceRouting 힌트) - 인증이 끝난 뒤 실행되도록 시큐리티 필터 다음에 등록한다.
+ * 요청 스레드 밖에서 하는 일에는 따라가지 않으므로 그쪽은 DataSourceRouting.asUser 로 직접 넘긴다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Supplier<Long> currentUserId;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = currentUserId.get();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        DataSourceRouting.Hint previous = DataSourceRouting.bind(
+                new DataSourceRouting.Hint(DataSourceRouting.current().primary(), List.of(userId)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRouting.restore(previous);
+        }
+    }
+}
@@ -3,18 +3,24 @@ package com.apiece.twitter.global.exception;
 import com.apiece.twitter.global.response.ApiResponse;
 import com.apiece.twitter.global.response.ErrorCode;
 import com.apiece.twitter.global.response.ResponseCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 /**
  * 전역 예외 처리 핸들러
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * BusinessException 처리 - 도메인별 ErrorCode 사용
      */
@@ -22,19 +28,40 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
         ErrorCode errorCode = e.getErrorCode();
         log.warn("BusinessException: {} - {}", errorCode.getCode(), errorCode.getMessage());
+        countError(errorCode.getCode(), errorCode.getStatus().value());
         return ResponseEntity
                 .status(errorCode.getStatus())
                 .body(ApiResponse.error(errorCode));
     }
 
+    /**
+     * 요청 파라미터 제약(@Min, @Max 등) 위반 - 400
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleHandlerMethodValidationException(HandlerMethodValidationException e) {
+        log.warn("Invalid request parameter: {}", e.getMessage());
+        countError(ResponseCode.BAD_REQUEST.getCode(), ResponseCode.BAD_REQUEST.getStatus().value());
+        return ResponseEntity
+                .status(ResponseCode.BAD_REQUEST.getStatus())
+                .body(ApiResponse.error(ResponseCode.BAD_REQUEST));
+    }
+
     /**
      * 예상치 못한 예외 처리
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
         log.error("Unexpected exception: ", e);
+        countError(ResponseCode.INTERNAL_SERVER_ERROR.getCode(), ResponseCode.INTERNAL_SERVER_ERROR.getStatus().value());
         return ResponseEntity
                 .status(ResponseCode.INTERNAL_SERVER_ERROR.getStatus())
                 .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR));
     }
+
+    /**
+     * 응답한 에러 코드별 카운터 - api.errors{code, status}
+     */
+    private void countError(String code, int status) {
+        meterRegistry.counter("api.errors", "code", code, "status", String.valueOf(status)).increment();
+    }
 }
@@ -0,0 +1,71 @@
+package com.apiece.twitter.global.jpa.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 64비트 ID 생성기 (Snowflake 방식)
+ * [부호 1비트 | 타임스탬프 41비트(EPOCH 기준 ms) | 노드 10비트 | 시퀀스 12비트]
+ *
+ * 마지막 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS 로 갱신하므로 락이 없다.
+ * 같은 ms 이거나 시계가 뒤로 가면 시퀀스만 올리고, 시퀀스가 넘치면 다음 ms 를 미리 사용한다.
+ * 따라서 한 노드 안에서 ID 는 시계와 무관하게 항상 증가하고, 시계가 따라잡으면 다시 벽시계 기준으로 돌아온다.
+ */
+public final class Snowflake {
+
+    // 2025-01-01T00:00:00Z, 41비트로 약 69년 사용
+    public static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public Snowflake(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    Snowflake(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong() - EPOCH;
+            // 시계가 앞서 있으면 새 ms 의 0번, 아니면 +1 (시퀀스가 넘치면 타임스탬프로 자리올림)
+            long next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+            if (state.compareAndSet(current, next)) {
+                return compose(next);
+            }
+        }
+    }
+
+    private long compose(long next) {
+        long timestamp = next >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Snowflake timestamp overflow: " + timestamp);
+        }
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | node | (next & SEQUENCE_MASK);
+    }
+
+    // ID 에 담긴 생성 시각 (ms)
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
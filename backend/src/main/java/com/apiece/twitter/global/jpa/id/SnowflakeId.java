@@ -0,0 +1,17 @@
+package com.apiece.twitter.global.jpa.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID 를 INSERT 전에 Snowflake 로 할당 (IDENTITY 와 달리 키 조회 왕복이 없어 INSERT 배치 가능)
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,34 @@
+package com.apiece.twitter.global.jpa.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.EnumSet;
+
+/**
+ * @SnowflakeId 용 Hibernate ID 생성기
+ * hibernate.cdi.extensions=true 일 때 Hibernate 가 스프링 빈 컨테이너로 생성하므로 Snowflake 빈(IdConfig)을 주입받아
+ * JDBC 배치 저장과 같은 인스턴스를 쓴다 (설정이 없으면 리플렉션으로 만들다 생성자를 찾지 못해 실패한다).
+ * 빈이 없는 슬라이스 테스트(@DataJpaTest 등)에서는 노드 0 으로 생성한다.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdentifierGenerator(ObjectProvider<Snowflake> snowflake) {
+        this.snowflake = snowflake.getIfAvailable(() -> new Snowflake(0));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return snowflake.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,113 @@
+package com.apiece.twitter.global.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간으로 한도를 조정하는 동시 처리 제한기 (gradient 방식)
+ * 장기 평균 지연(longRtt) 대비 최근 지연(shortRtt)이 tolerance 배를 넘으면 그 비율만큼 한도를 줄이고, 아니면 sqrt(limit) 씩 늘린다.
+ * - gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0), 새 한도 = limit * gradient + sqrt(limit) 를 smoothing 비율로 반영
+ * - 처리 중 요청이 한도의 절반에 못 미치면 한도를 바꾸지 않는다 (한가할 때 한도가 상한까지 부풀지 않도록)
+ * - 최근 지연이 장기 평균의 절반 아래로 떨어지면 장기 평균을 빠르게 낮춰 회복된 기준선을 따라간다
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int SHORT_WINDOW = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, Counter> rejectedCounters = new EnumMap<>(RequestPriority.class);
+    private volatile double limit;
+
+    // update() 안에서만 읽고 쓴다
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.tolerance = properties.tolerance();
+        this.smoothing = properties.smoothing();
+        this.longWindow = properties.longWindow();
+        this.limit = properties.initialLimit();
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive in-flight request limit")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejectedCounters.put(priority, Counter.builder("concurrency.rejected")
+                    .description("Requests shed by the concurrency limiter")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 우선순위 몫(한도 x share) 안이면 자리를 잡는다, false 면 바로 거절해야 한다
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.getShare()));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejectedCounters.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 처리를 마치고 자리를 반납하며 걸린 시간을 한도 조정에 반영
+    public void release(long rttNanos) {
+        int current = inflight.getAndDecrement();
+        update(rttNanos, current);
+    }
+
+    // 지연 시간이 의미 없는 요청(비동기 응답, 예외)은 반납만 한다
+    public void releaseWithoutSample() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    synchronized void update(long rttNanos, int inflightAtRelease) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+        longRtt += (shortRtt - longRtt) / longWindow;
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+        if (inflightAtRelease < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,116 @@
+package com.apiece.twitter.global.limit;
+
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 처리 한도를 넘는 요청을 DB 까지 가기 전에 503 으로 돌려보내는 필터
+ * 토큰 검증 비용도 아끼도록 시큐리티 체인에서 JwtAuthenticationFilter 바로 앞에 둔다 (SecurityConfig).
+ * 오래 유지되는 연결(SSE 구독)과 운영용 경로(actuator, swagger)는 제한하지 않는다.
+ * 비동기 응답(일괄 등록/내보내기 스트림)은 스트림 내내 DB 커넥션을 쓰므로 비동기 처리가 끝날 때(완료/오류/타임아웃)까지 자리를 잡고 있는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!concurrencyLimitProperties.enabled()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/actuator/")
+                || path.startsWith("/swagger-ui/")
+                || path.startsWith("/v3/api-docs")
+                || path.equals("/api/posts/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!concurrencyLimiter.tryAcquire(RequestPriority.of(request))) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // 비동기 응답은 끝날 때 반납한다 (스트림 길이는 요청 지연과 무관하므로 한도 조정에는 쓰지 않는다)
+                request.getAsyncContext().addListener(new ReleaseOnAsyncEnd());
+            } else if (completed) {
+                concurrencyLimiter.release(System.nanoTime() - start);
+            } else {
+                concurrencyLimiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    // 비동기 처리의 끝(완료/오류/타임아웃 중 먼저 오는 것)에 한 번만 반납
+    private class ReleaseOnAsyncEnd implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        // 같은 요청에서 비동기를 다시 시작하면 리스너가 지워지므로 다시 등록한다
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVER_BUSY;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponse.error(errorCode)
+        ));
+    }
+}
@@ -0,0 +1,34 @@
+package com.apiece.twitter.global.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동시 처리 한도 설정 (concurrency-limit.*)
+ *
+ * @param enabled      켜면 처리 중 요청 수를 한도 안으로 제한하고 넘치는 요청은 바로 503 으로 돌려보낸다 (기본 꺼짐)
+ * @param initialLimit 기동 직후 한도 (이후 지연 시간을 보고 조정)
+ * @param minLimit     한도 하한
+ * @param maxLimit     한도 상한 (플랫폼 스레드 모드에서는 Tomcat 최대 스레드 수 이하)
+ * @param tolerance    장기 평균 대비 이 배수까지의 지연 증가는 한도를 줄이지 않는다
+ * @param smoothing    새 한도를 반영하는 비율 (0~1, 작을수록 완만)
+ * @param longWindow   기준 지연(장기 평균)을 구하는 샘플 수
+ */
+@ConfigurationProperties(prefix = "concurrency-limit")
+public record ConcurrencyLimitProperties(
+        boolean enabled,
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double tolerance,
+        double smoothing,
+        int longWindow
+) {
+    public ConcurrencyLimitProperties {
+        minLimit = minLimit > 0 ? minLimit : 10;
+        maxLimit = maxLimit >= minLimit ? maxLimit : Math.max(200, minLimit);
+        initialLimit = initialLimit > 0 ? Math.min(Math.max(initialLimit, minLimit), maxLimit) : Math.min(Math.max(20, minLimit), maxLimit);
+        tolerance = tolerance >= 1.0 ? tolerance : 1.5;
+        smoothing = smoothing > 0 && smoothing <= 1.0 ? smoothing : 0.2;
+        longWindow = longWindow > 0 ? longWindow : 600;
+    }
+}
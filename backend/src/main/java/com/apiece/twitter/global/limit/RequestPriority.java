@@ -0,0 +1,36 @@
+package com.apiece.twitter.global.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+/**
+ * 요청 우선순위 - 한도의 share 비율까지만 받으므로 부하가 오르면 share 가 작은 요청부터 거절된다
+ */
+@Getter
+public enum RequestPriority {
+
+    // 로그인/회원가입
+    CRITICAL(1.0),
+    // 쓰기 등 나머지
+    NORMAL(0.9),
+    // 게시글 조회 (목록, 단건, 검색)
+    SHEDDABLE(0.75);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public static RequestPriority of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/")) {
+            return CRITICAL;
+        }
+        if (HttpMethod.GET.matches(request.getMethod()) && (path.equals("/api/posts") || path.startsWith("/api/posts/"))) {
+            return SHEDDABLE;
+        }
+        return NORMAL;
+    }
+}
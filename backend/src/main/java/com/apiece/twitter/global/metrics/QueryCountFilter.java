@@ -0,0 +1,47 @@
+package com.apiece.twitter.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 Hibernate 쿼리 수를 http.server.requests.queries{method, uri} 분포로 기록
+ * 인증 필터의 사용자 조회까지 포함하도록 시큐리티 필터보다 먼저 등록한다 (MetricsConfig).
+ */
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountInspector.stop();
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("Hibernate statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriOf(request))
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+
+    // http.server.requests 와 같은 경로 패턴 (/api/posts/{id}), 매핑되지 않은 요청은 UNKNOWN 으로 묶는다
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,33 @@
+package com.apiece.twitter.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문 수를 현재 스레드 기준으로 센다.
+ * QueryCountFilter 가 요청 시작 시 start(), 끝날 때 stop() 으로 요청당 쿼리 수를 얻는다.
+ * (요청 스레드 밖에서 실행되는 쿼리 - @Async, 스트리밍 응답, JdbcTemplate - 는 포함되지 않는다)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    // 집계 종료 후 센 쿼리 수 반환 (start 하지 않았으면 0)
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.apiece.twitter.global.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이징 응답 (Slice 형태, 전체 개수 조회 없음)
+ */
+@Schema(description = "커서 기반 페이징 응답")
+public record CursorResponse<T>(
+        @Schema(description = "조회 데이터")
+        List<T> content,
+
+        @Schema(description = "조회된 개수", example = "10")
+        int size,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNC0wMS0xNVQxMDozMDowMHwx")
+        String nextCursor
+) {
+    public static <T> CursorResponse<T> of(List<T> content, boolean hasNext, Function<T, String> cursorOf) {
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+}
@@ -9,12 +9,16 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum ErrorCode {
 
+    // 공통 (C)
+    SERVER_BUSY("C001", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
     // 인증 (A)
     INVALID_TOKEN("A001", HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN("A002", HttpStatus.UNAUTHORIZED, "만료된 토큰입니다."),
     UNSUPPORTED_TOKEN("A003", HttpStatus.UNAUTHORIZED, "지원하지 않는 토큰 형식입니다."),
     EMPTY_TOKEN("A004", HttpStatus.UNAUTHORIZED, "토큰이 비어있습니다."),
     UNAUTHORIZED("A005", HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
+    AUTH_BUSY("A006", HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // 사용자 (U)
     DUPLICATE_EMAIL("U001", HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
@@ -24,7 +28,25 @@ public enum ErrorCode {
     // 게시글 (P)
     NOT_FOUND_POST("P001", HttpStatus.NOT_FOUND, "존재하지 않는 게시글입니다."),
     INVALID_POST_CONTENT("P002", HttpStatus.BAD_REQUEST, "게시글 내용은 1자 이상 280자 이하여야 합니다."),
-    UNAUTHORIZED_POST_ACCESS("P003", HttpStatus.FORBIDDEN, "해당 게시글에 대한 권한이 없습니다.");
+    UNAUTHORIZED_POST_ACCESS("P003", HttpStatus.FORBIDDEN, "해당 게시글에 대한 권한이 없습니다."),
+    INVALID_CURSOR("P004", HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_BULK_LINE("P005", HttpStatus.BAD_REQUEST, "게시글 형식(JSON 한 줄, content/author 필수)이 올바르지 않습니다."),
+    BULK_INSERT_FAILED("P006", HttpStatus.INTERNAL_SERVER_ERROR, "게시글 일괄 저장에 실패했습니다."),
+    STREAM_UNAVAILABLE("P007", HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_EXPORT_FORMAT("P008", HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (ndjson, csv)"),
+    POST_WRITE_BUSY("P009", HttpStatus.SERVICE_UNAVAILABLE, "게시글 작성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_POST_AUTHOR("P010", HttpStatus.BAD_REQUEST, "작성자는 비어 있을 수 없습니다."),
+
+    // 팔로우 (F)
+    SELF_FOLLOW("F001", HttpStatus.BAD_REQUEST, "자기 자신은 팔로우할 수 없습니다."),
+    ALREADY_FOLLOWING("F002", HttpStatus.CONFLICT, "이미 팔로우 중인 사용자입니다."),
+    NOT_FOLLOWING("F003", HttpStatus.NOT_FOUND, "팔로우 중인 사용자가 아닙니다."),
+
+    // 검색 (S)
+    INVALID_SEARCH_QUERY("S001", HttpStatus.BAD_REQUEST, "검색어는 1자 이상 100자 이하여야 합니다."),
+
+    // 분석 (N)
+    INVALID_ANALYZE_REQUEST("N001", HttpStatus.BAD_REQUEST, "분석할 내용은 1건 이상 100건 이하, 건당 10000자 이하여야 합니다.");
 
     private final String code;
     private final HttpStatus status;
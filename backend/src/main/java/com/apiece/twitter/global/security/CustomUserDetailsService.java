@@ -3,22 +3,40 @@ package com.apiece.twitter.global.security;
 import com.apiece.twitter.global.exception.BusinessException;
 import com.apiece.twitter.global.response.ErrorCode;
 import com.apiece.twitter.user.domain.User;
+import com.apiece.twitter.user.event.UserChangedEvent;
 import com.apiece.twitter.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final Cache<String, UserDetails> principalCache;
+    private final MeterRegistry meterRegistry;
 
+    // 캐시 우선 조회, 미스일 때만 DB 조회 (존재하지 않는 사용자는 캐시하지 않음)
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        return principalCache.get(email, this::loadUser);
+    }
+
+    // 사용자 변경이 커밋된 후 캐시된 인증 주체 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        principalCache.invalidate(event.email());
+    }
+
+    // 캐시 미스 시 DB 조회 시간은 user.lookup 타이머로 기록
+    private UserDetails loadUser(String email) {
+        User user = meterRegistry.timer("user.lookup").record(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         return new CustomUserDetails(user);
     }
@@ -0,0 +1,80 @@
+package com.apiece.twitter.global.security;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 실행기
+ * 해싱은 건당 수십 ms 의 CPU 를 쓰므로 요청 스레드 대신 threads 개의 전용 스레드에서 실행한다.
+ * 로그인이 몰려도 해싱이 쓰는 CPU 는 스레드 수만큼으로 묶여 조회 요청은 나머지 코어에서 처리된다.
+ * 대기열이 가득 차면 기다리지 않고 AUTH_BUSY(503) 로 거절한다.
+ * CPU 작업이므로 virtual 프로필에서도 플랫폼 스레드를 쓴다 (executor{name=password.hash} 지표).
+ */
+public class PasswordHasher implements AutoCloseable {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = properties.threads() == 0 ? null : ExecutorServiceMetrics.monitor(meterRegistry,
+                new ThreadPoolExecutor(properties.threads(), properties.threads(), 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.queueCapacity()),
+                        Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                        new ThreadPoolExecutor.AbortPolicy()),
+                "password.hash");
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시가 현재 정책(알고리즘, cost)보다 약한지 - 해시 문자열만 보므로 요청 스레드에서 바로 판단한다
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 전용 스레드에서 실행하고 결과를 기다린다 (대기열이 가득 차면 AUTH_BUSY)
+    private <T> T call(Supplier<T> task) {
+        if (executor == null) {
+            return task.get();
+        }
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.apiece.twitter.global.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비밀번호 해싱 설정 (password.hashing.*)
+ *
+ * @param strength      BCrypt cost (4~31) - 올리면 이보다 낮은 cost 로 저장된 해시는 다음 로그인 때 새 cost 로 다시 해싱한다
+ * @param threads       해싱 전용 스레드 수 (기본 CPU 코어 수의 절반, 0 이면 전용 스레드 없이 요청 스레드에서 해싱)
+ * @param queueCapacity 해싱을 기다리는 요청 상한 (초과 요청은 기다리지 않고 503)
+ */
+@ConfigurationProperties(prefix = "password.hashing")
+public record PasswordHashingProperties(
+        int strength,
+        Integer threads,
+        int queueCapacity
+) {
+    public PasswordHashingProperties {
+        strength = strength >= 4 && strength <= 31 ? strength : 10;
+        threads = threads != null && threads >= 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        queueCapacity = queueCapacity > 0 ? queueCapacity : 100;
+    }
+}
@@ -1,5 +1,6 @@
 package com.apiece.twitter.global.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,8 +29,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        if (StringUtils.hasText(token)) {
+            // 요청당 한 번만 검증하고 claims 를 인증 단계로 넘긴다
+            Claims claims = jwtTokenProvider.verify(token);
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
@@ -2,9 +2,12 @@ package com.apiece.twitter.global.security.jwt;
 
 import com.apiece.twitter.global.exception.BusinessException;
 import com.apiece.twitter.global.response.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -22,13 +25,31 @@ public class JwtTokenProvider {
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final UserDetailsService userDetailsService;
+    // 파서는 thread-safe 하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+    // 최근 검증된 토큰 (서명 -> 토큰/claims), 토큰 만료 시각까지만 유지
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
+    // 서명 검증 + claims 파싱 시간 (캐시 미스일 때만 발생)
+    private final Timer parseTimer;
 
-    public JwtTokenProvider(JwtProperties jwtProperties, UserDetailsService userDetailsService) {
+    public JwtTokenProvider(JwtProperties jwtProperties,
+                            UserDetailsService userDetailsService,
+                            Cache<String, VerifiedToken> verifiedTokenCache,
+                            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
                 java.util.Base64.getEncoder().encodeToString(jwtProperties.secret().getBytes())
         ));
         this.accessTokenExpiration = jwtProperties.accessTokenExpiration();
         this.userDetailsService = userDetailsService;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.meterRegistry = meterRegistry;
+        this.parseTimer = Timer.builder("jwt.parse")
+                .description("JWT signature verification and claims parsing")
+                .register(meterRegistry);
     }
 
     public String createAccessToken(String email) {
@@ -43,17 +64,55 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+    /**
+     * 토큰을 한 번만 검증하고 claims 를 반환한다.
+     * 최근에 검증된 토큰이면 서명 검증/파싱 없이 캐시된 claims 를 사용한다.
+     */
+    public Claims verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String cache = "miss";
+        try {
+            String signature = signatureOf(token);
+            if (signature != null) {
+                VerifiedToken cached = verifiedTokenCache.getIfPresent(signature);
+                if (cached != null && cached.matches(token) && !cached.isExpired(System.currentTimeMillis())) {
+                    cache = "hit";
+                    return cached.claims();
+                }
+            }
+
+            Claims claims = parseTimer.record(() -> parseClaims(token));
+            if (signature != null && claims.getExpiration() != null) {
+                verifiedTokenCache.put(signature, new VerifiedToken(token, claims));
+            }
+            return claims;
+        } finally {
+            // 캐시 적중 여부별 전체 검증 시간
+            sample.stop(Timer.builder("jwt.verify")
+                    .description("JWT verification including the verified-token cache")
+                    .tag("cache", cache)
+                    .register(meterRegistry));
+        }
+    }
+
+    public Authentication getAuthentication(Claims claims) {
         String email = claims.getSubject();
         UserDetails userDetails = userDetailsService.loadUserByUsername(email);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    public Authentication getAuthentication(String token) {
+        return getAuthentication(verify(token));
+    }
+
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다.");
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
@@ -63,17 +122,24 @@ public class JwtTokenProvider {
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 JWT 토큰입니다.");
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        } catch (JwtException e) {
+            log.warn("서명이 유효하지 않은 JWT 토큰입니다.");
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다.");
             throw new BusinessException(ErrorCode.EMPTY_TOKEN);
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // header.payload.signature 중 signature 부분
+    private static String signatureOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        int index = token.lastIndexOf('.');
+        if (index < 0 || index == token.length() - 1) {
+            return null;
+        }
+        return token.substring(index + 1);
     }
 }
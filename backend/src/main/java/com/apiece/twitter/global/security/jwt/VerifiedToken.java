@@ -0,0 +1,42 @@
+package com.apiece.twitter.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 토큰과 claims
+ * 서명(signature) 부분을 키로 캐시하며, 적중 시 토큰 전체가 일치하는지 다시 확인한다.
+ */
+public record VerifiedToken(String token, Claims claims) {
+
+    public boolean matches(String token) {
+        return this.token.equals(token);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return claims.getExpiration() == null || claims.getExpiration().getTime() <= nowMillis;
+    }
+
+    // 토큰의 exp 시각까지만 캐시에 유지
+    public static Expiry<String, VerifiedToken> untilExpiration() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                long remainingMillis = value.claims().getExpiration().getTime() - System.currentTimeMillis();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
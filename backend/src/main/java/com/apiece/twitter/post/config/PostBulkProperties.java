@@ -0,0 +1,20 @@
+package com.apiece.twitter.post.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 일괄 등록 설정 (post.bulk.*)
+ *
+ * @param batchSize     한 번의 JDBC 배치(= 한 트랜잭션)로 저장할 게시글 수
+ * @param maxLineLength NDJSON 한 줄의 최대 문자 수 (초과하면 읽지 않고 거절해 메모리를 일정하게 유지)
+ */
+@ConfigurationProperties(prefix = "post.bulk")
+public record PostBulkProperties(
+        int batchSize,
+        int maxLineLength
+) {
+    public PostBulkProperties {
+        batchSize = batchSize > 0 ? batchSize : 500;
+        maxLineLength = maxLineLength > 0 ? maxLineLength : 4_096;
+    }
+}
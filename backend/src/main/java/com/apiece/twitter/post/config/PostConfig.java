@@ -0,0 +1,9 @@
+package com.apiece.twitter.post.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({PostBulkProperties.class, PostStreamProperties.class, PostGroupCommitProperties.class})
+public class PostConfig {
+}
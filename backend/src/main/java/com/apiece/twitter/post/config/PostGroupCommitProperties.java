@@ -0,0 +1,27 @@
+package com.apiece.twitter.post.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시글 작성 그룹 커밋 설정 (post.group-commit.*)
+ *
+ * @param enabled       켜면 동시에 들어온 작성 요청을 모아 한 트랜잭션으로 저장한다 (기본 꺼짐 - 요청마다 커밋)
+ * @param window        첫 요청 이후 더 모으기 위해 기다리는 최대 시간 (0 이면 이미 쌓인 것만 함께 저장)
+ * @param maxBatchSize  한 번에 저장할 최대 요청 수 - 도달하면 window 를 기다리지 않는다 (hibernate jdbc.batch_size 이하 권장)
+ * @param queueCapacity 저장을 기다리는 요청 상한 (초과 요청은 503)
+ */
+@ConfigurationProperties(prefix = "post.group-commit")
+public record PostGroupCommitProperties(
+        boolean enabled,
+        Duration window,
+        int maxBatchSize,
+        int queueCapacity
+) {
+    public PostGroupCommitProperties {
+        window = window != null && !window.isNegative() ? window : Duration.ofMillis(2);
+        maxBatchSize = maxBatchSize > 0 ? maxBatchSize : 64;
+        queueCapacity = queueCapacity > 0 ? queueCapacity : 10_000;
+    }
+}
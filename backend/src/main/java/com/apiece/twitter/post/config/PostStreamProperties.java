@@ -0,0 +1,31 @@
+package com.apiece.twitter.post.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 새 게시글 실시간 스트림(SSE) 설정 (post.stream.*)
+ *
+ * @param replaySize     재연결(Last-Event-ID) 시 다시 보내기 위해 보관하는 최근 게시글 수
+ * @param bufferSize     구독자별 미전송 이벤트 상한 - 넘으면 밀린 이벤트를 버리고 reset 하나로 합친다
+ * @param maxSubscribers 동시 구독자 상한 (초과 연결은 503) - 일반 요청이 쓸 연결이 남도록 server.tomcat.max-connections 보다 작게 둔다
+ * @param heartbeat      유휴 연결 유지/끊긴 연결 감지용 주석 전송 주기
+ * @param timeout        연결 최대 유지 시간 (만료 후 클라이언트가 Last-Event-ID 로 재연결)
+ */
+@ConfigurationProperties(prefix = "post.stream")
+public record PostStreamProperties(
+        int replaySize,
+        int bufferSize,
+        int maxSubscribers,
+        Duration heartbeat,
+        Duration timeout
+) {
+    public PostStreamProperties {
+        replaySize = replaySize > 0 ? replaySize : 1_000;
+        bufferSize = bufferSize > 0 ? bufferSize : 64;
+        maxSubscribers = maxSubscribers > 0 ? maxSubscribers : 15_000;
+        heartbeat = heartbeat != null ? heartbeat : Duration.ofSeconds(30);
+        timeout = timeout != null ? timeout : Duration.ofMinutes(30);
+    }
+}
@@ -1,9 +1,18 @@
 package com.apiece.twitter.post.controller;
 
+import com.apiece.twitter.global.datasource.DataSourceRouting;
 import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.global.security.CustomUserDetails;
+import com.apiece.twitter.post.dto.PostExportFormat;
 import com.apiece.twitter.post.dto.PostRequest;
 import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.service.PostBulkService;
+import com.apiece.twitter.post.service.PostExportService;
+import com.apiece.twitter.post.service.PostGroupCommitter;
 import com.apiece.twitter.post.service.PostService;
+import com.apiece.twitter.post.service.PostStreamBroadcaster;
+import com.apiece.twitter.post.service.PostVersionTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,14 +20,26 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,43 +47,152 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final PostBulkService postBulkService;
+    private final PostExportService postExportService;
+    private final PostGroupCommitter postGroupCommitter;
+    private final PostStreamBroadcaster postStreamBroadcaster;
+    private final PostVersionTracker postVersionTracker;
 
-    // 게시글 전체 조회 API (페이징)
+    // 게시글 전체 조회 API (페이징) - 목록 버전이 그대로면 DB 조회 없이 304
+    // 목록 ETag 는 주 DB 커밋 기준 버전이므로 본문도 주 DB 에서 읽는다 (복제본의 지연된 목록이 새 ETag 로 캐시되지 않게)
     @GetMapping("/api/posts")
-    @Operation(summary = "게시글 전체 조회", description = "페이징을 적용하여 게시글 목록을 조회합니다.")
+    @Operation(summary = "게시글 전체 조회", description = "페이징을 적용하여 게시글 목록을 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
     public ResponseEntity<ApiResponse<Page<PostResponse>>> getAllPosts(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(postService.getAllPosts(pageable)));
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(postVersionTracker.listEtag())) {
+            return null;
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(DataSourceRouting.onPrimary(() -> postService.getAllPosts(pageable))));
     }
 
-    // 게시글 단건 조회 API
+    // 게시글 전체 조회 API (커서 기반) - cursor 파라미터가 있으면 이 모드로 동작, 첫 페이지는 빈 값 (ETag 때문에 주 DB 에서 읽음)
+    @GetMapping(value = "/api/posts", params = "cursor")
+    @Operation(summary = "게시글 전체 조회 (커서)", description = "커서 기반으로 게시글 목록을 최신순 조회합니다. 첫 페이지는 cursor를 빈 값으로 요청합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"유효하지 않은 커서입니다.\", \"data\": null}")))
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> getPostsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(postVersionTracker.listEtag())) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(DataSourceRouting.onPrimary(() -> postService.getPostsByCursor(cursor, size))));
+    }
+
+    // 게시글 단건 조회 API - 캐시된 게시글로 검증자를 계산해 변경이 없으면 직렬화 없이 304
     @GetMapping("/api/posts/{id}")
-    @Operation(summary = "게시글 단건 조회", description = "게시글 ID로 특정 게시글을 조회합니다.")
+    @Operation(summary = "게시글 단건 조회", description = "게시글 ID로 특정 게시글을 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
                     content = @Content(examples = @ExampleObject(value = "{\"code\": \"404\", \"message\": \"존재하지 않는 게시글입니다.\", \"data\": null}")))
     })
     public ResponseEntity<ApiResponse<PostResponse>> getPost(
-            @Parameter(description = "게시글 ID") @PathVariable Long id) {
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(postService.getPost(id)));
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            WebRequest webRequest) {
+        PostResponse post = postService.getPost(id);
+        if (webRequest.checkNotModified(PostVersionTracker.etagOf(post), PostVersionTracker.lastModifiedOf(post))) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(post));
     }
 
-    // 게시글 작성 API
+    // 게시글 작성 API (그룹 커밋이 켜져 있으면 동시 요청과 모아 한 트랜잭션으로 저장)
     @PostMapping("/api/posts")
     @Operation(summary = "게시글 작성", description = "새로운 게시글을 작성합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "생성 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청",
-                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"게시글 내용은 1자 이상 280자 이하여야 합니다.\", \"data\": null}")))
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"게시글 내용은 1자 이상 280자 이하여야 합니다.\", \"data\": null}"))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "그룹 커밋 대기열 초과")
+    })
+    public ResponseEntity<ApiResponse<PostResponse>> createPost(
+            @RequestBody PostRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long authorId = userDetails != null ? userDetails.getUserId() : null;
+        PostResponse response = postGroupCommitter.isEnabled()
+                ? postGroupCommitter.create(request, authorId)
+                : postService.createPost(request, authorId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    // 게시글 일괄 등록 API (NDJSON 스트리밍) - 한 줄에 게시글 하나, 줄별 결과를 NDJSON 으로 흘려보낸다
+    @PostMapping(value = "/api/posts/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "게시글 일괄 등록", description = "NDJSON 본문(한 줄에 {\"content\", \"author\"})을 배치 단위로 저장하고 줄별 결과(CREATED/REJECTED/FAILED)를 NDJSON 으로 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 완료 (줄별 결과)",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = @ExampleObject(value =
+                            "{\"line\":1,\"status\":\"CREATED\"}\n{\"line\":2,\"status\":\"REJECTED\",\"code\":\"P002\",\"message\":\"게시글 내용은 1자 이상 280자 이하여야 합니다.\"}")))
+    })
+    public ResponseEntity<StreamingResponseBody> createPosts(
+            InputStream body,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long authorId = userDetails != null ? userDetails.getUserId() : null;
+        StreamingResponseBody stream = out -> postBulkService.ingest(body, authorId, out);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+    // 게시글 전체 내보내기 API (NDJSON / CSV 스트리밍) - 분석/백필용, 페이징 없이 한 번에 흘려보낸다
+    @GetMapping("/api/posts/export")
+    @Operation(summary = "게시글 전체 내보내기", description = "모든 게시글을 id 오름차순으로 NDJSON(기본) 또는 CSV 로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "내보내기 (스트리밍)",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = @ExampleObject(value =
+                                    "{\"id\":\"1234567890123456789\",\"content\":\"오늘 날씨가 좋네요!\",\"author\":\"홍길동\",\"authorId\":\"1\",\"sentiment\":\"positive\",\"sentimentScore\":0.83,\"hashtags\":[\"날씨\"],\"createdAt\":\"2024-01-15T10:30:00\",\"modifiedAt\":\"2024-01-15T10:30:00\"}")),
+                            @Content(mediaType = "text/csv", examples = @ExampleObject(value =
+                                    "id,content,author,authorId,sentiment,sentimentScore,hashtags,createdAt,modifiedAt\r\n1234567890123456789,오늘 날씨가 좋네요!,홍길동,1,positive,0.83,날씨,2024-01-15T10:30:00,2024-01-15T10:30:00"))
+                    }),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 형식",
+                    content = @Content(examples = @ExampleObject(value = "{\"code\": \"400\", \"message\": \"지원하지 않는 내보내기 형식입니다. (ndjson, csv)\", \"data\": null}"))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @Parameter(description = "형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format) {
+        PostExportFormat exportFormat = PostExportFormat.from(format);
+        StreamingResponseBody stream = out -> postExportService.export(exportFormat, out);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("posts." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(stream);
+    }
+
+    // 새 게시글 실시간 스트림 API (SSE)
+    @GetMapping(value = "/api/posts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "새 게시글 실시간 스트림", description = "커밋된 새 게시글을 post 이벤트(id = 게시글 ID)로 보냅니다. "
+            + "재연결 시 Last-Event-ID 이후 게시글부터 이어서 보내며, 놓친 게시글을 알 수 없거나 수신이 밀리면 reset 이벤트를 보냅니다(목록 재조회).")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "구독자 수 초과")
     })
-    public ResponseEntity<ApiResponse<PostResponse>> createPost(@RequestBody PostRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(postService.createPost(request)));
+    public SseEmitter streamPosts(
+            @Parameter(description = "마지막으로 받은 이벤트 ID (브라우저 EventSource 가 재연결 시 자동으로 보냄)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return postStreamBroadcaster.subscribe(lastEventId);
     }
 
     // 게시글 수정 API
@@ -1,20 +1,29 @@
 package com.apiece.twitter.post.domain;
 
+import com.apiece.twitter.analysis.domain.Sentiment;
 import com.apiece.twitter.global.jpa.entity.BaseEntity;
+import com.apiece.twitter.global.jpa.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 작성자별 최신 게시글 조회 (홈 타임라인 재구성 / pull-on-read)
+        @Index(name = "idx_posts_author_id_id", columnList = "author_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
+    // 게시글 최대 길이 (문자 수 기준, MySQL VARCHAR(280) 과 동일하게 코드 포인트로 센다)
+    public static final int MAX_CONTENT_LENGTH = 280;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, length = 280)
@@ -23,14 +32,54 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private String author;
 
+    // 작성한 사용자 ID (인증 없이 작성된 기존 게시글은 null)
+    @Column(name = "author_id")
+    private Long authorId;
+
+    // 감정 분석 결과 (커밋 후 비동기로 채워진다, 분석 전이면 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Sentiment sentiment;
+
+    @Column(name = "sentiment_score")
+    private Double sentimentScore;
+
+    // 추천 해시태그 (쉼표 구분, 최대 5개)
+    @Column(length = 320)
+    private String hashtags;
+
+    // 좋아요/리포스트 수 - EngagementCounter 가 모은 증감을 UPDATE 로 더한다 (엔티티 저장이 덮어쓰지 않도록 updatable = false)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
+
+    @ColumnDefault("0")
+    @Column(name = "repost_count", nullable = false, updatable = false)
+    private long repostCount;
+
+    // 분석 결과 저장에 실패한 횟수 - PostEnrichmentPipeline 이 UPDATE 로 올리고, maxAttempts 에 닿으면 backfill 이 건너뛴다
+    @ColumnDefault("0")
+    @Column(name = "enrichment_attempts", nullable = false, updatable = false)
+    private int enrichmentAttempts;
+
     @Builder
-    public Post(String content, String author) {
+    public Post(String content, String author, Long authorId) {
         this.content = content;
         this.author = author;
+        this.authorId = authorId;
+    }
+
+    // 1자 이상 280자 이하인지 검사
+    public static boolean isValidContent(String content) {
+        return content != null && !content.isBlank()
+                && content.codePointCount(0, content.length()) <= MAX_CONTENT_LENGTH;
     }
 
-    // 게시글 내용 수정
+    // 게시글 내용 수정 (분석 결과는 비우고 다시 분석한다)
     public void updateContent(String content) {
         this.content = content;
+        this.sentiment = null;
+        this.sentimentScore = null;
+        this.hashtags = null;
     }
 }
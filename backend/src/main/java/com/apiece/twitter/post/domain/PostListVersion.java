@@ -0,0 +1,28 @@
+package com.apiece.twitter.post.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스별 게시글 목록 버전 - 목록 ETag 는 모든 행의 합이다 (PostVersionTracker)
+ * 인스턴스마다 자기 행(id.node-id)만 올리므로 인스턴스끼리 같은 행을 두고 기다리지 않는다.
+ * 값은 PostListVersionRepository 가 JDBC 로 더하고, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "post_list_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostListVersion {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    @Column(nullable = false)
+    private long version;
+}
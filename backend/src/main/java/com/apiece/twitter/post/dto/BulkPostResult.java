@@ -0,0 +1,50 @@
+package com.apiece.twitter.post.dto;
+
+import com.apiece.twitter.global.response.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 일괄 등록 줄별 결과 (NDJSON 한 줄)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkPostResult(
+        @Schema(description = "요청 본문의 줄 번호 (1부터)", example = "1")
+        long line,
+
+        @Schema(description = "처리 결과", example = "CREATED")
+        Status status,
+
+        @Schema(description = "생성된 게시글 ID (CREATED 일 때)", type = "string", example = "1234567890123456789")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long id,
+
+        @Schema(description = "실패 코드", example = "P002")
+        String code,
+
+        @Schema(description = "실패 사유", example = "게시글 내용은 1자 이상 280자 이하여야 합니다.")
+        String message
+) {
+    public enum Status {
+        CREATED, REJECTED, FAILED
+    }
+
+    // 검증 통과 - 배치 저장 전에는 id 가 없다
+    public static BulkPostResult accepted(long line) {
+        return new BulkPostResult(line, Status.CREATED, null, null, null);
+    }
+
+    public BulkPostResult withId(long id) {
+        return new BulkPostResult(line, status, id, code, message);
+    }
+
+    // 검증 실패 - 저장하지 않음
+    public static BulkPostResult rejected(long line, ErrorCode errorCode) {
+        return new BulkPostResult(line, Status.REJECTED, null, errorCode.getCode(), errorCode.getMessage());
+    }
+
+    // 검증은 통과했으나 배치 저장 실패
+    public static BulkPostResult failed(long line) {
+        return new BulkPostResult(line, Status.FAILED, null, ErrorCode.BULK_INSERT_FAILED.getCode(), ErrorCode.BULK_INSERT_FAILED.getMessage());
+    }
+}
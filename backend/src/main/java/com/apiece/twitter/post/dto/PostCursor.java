@@ -0,0 +1,31 @@
+package com.apiece.twitter.post.dto;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 - 마지막으로 조회한 게시글의 id (Snowflake ID 라 id 순서 = 작성 시간 순서)
+ * 클라이언트에는 불투명한 Base64 문자열로 전달한다.
+ */
+public record PostCursor(Long id) {
+
+    public static PostCursor from(PostResponse post) {
+        return new PostCursor(post.id());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new PostCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
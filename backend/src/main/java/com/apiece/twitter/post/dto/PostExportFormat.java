@@ -0,0 +1,37 @@
+package com.apiece.twitter.post.dto;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 게시글 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    // 쿼리 파라미터(대소문자 무시)로 형식 결정
+    public static PostExportFormat from(String value) {
+        if (value != null) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            for (PostExportFormat format : values()) {
+                if (format.extension.equals(normalized)) {
+                    return format;
+                }
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -12,9 +12,14 @@ public record PostRequest(
         String author
 ) {
     public Post toEntity() {
+        return toEntity(null);
+    }
+
+    public Post toEntity(Long authorId) {
         return Post.builder()
                 .content(content)
                 .author(author)
+                .authorId(authorId)
                 .build();
     }
 }
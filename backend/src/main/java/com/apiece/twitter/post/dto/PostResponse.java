@@ -1,13 +1,20 @@
 package com.apiece.twitter.post.dto;
 
 import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Schema(description = "게시글 응답")
 public record PostResponse(
-        @Schema(description = "게시글 ID", example = "1")
+        // 64비트 Snowflake ID 는 JS Number(2^53) 범위를 넘으므로 문자열로 직렬화
+        @Schema(description = "게시글 ID", type = "string", example = "1234567890123456789")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "게시글 내용", example = "오늘 날씨가 좋네요!")
@@ -16,6 +23,22 @@ public record PostResponse(
         @Schema(description = "작성자", example = "홍길동")
         String author,
 
+        @Schema(description = "작성자 사용자 ID (인증 없이 작성된 게시글은 null)", type = "string", example = "1234567890123456789")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long authorId,
+
+        @Schema(description = "작성자의 현재 닉네임 (authorId 가 없으면 null)", example = "길동이")
+        String authorNickname,
+
+        @Schema(description = "감정 (positive, negative, neutral, 분석 전이면 null)", example = "positive")
+        String sentiment,
+
+        @Schema(description = "감정 점수 (0 부정 ~ 1 긍정, 분석 전이면 null)", example = "0.83")
+        Double sentimentScore,
+
+        @Schema(description = "추천 해시태그 (분석 전이면 null)", example = "[\"날씨\"]")
+        List<String> hashtags,
+
         @Schema(description = "생성 시간", example = "2024-01-15T10:30:00")
         LocalDateTime createdAt,
 
@@ -27,8 +50,27 @@ public record PostResponse(
                 post.getId(),
                 post.getContent(),
                 post.getAuthor(),
+                post.getAuthorId(),
+                null,
+                post.getSentiment() != null ? post.getSentiment().getValue() : null,
+                post.getSentimentScore(),
+                post.getHashtags() != null ? splitHashtags(post.getHashtags()) : null,
                 post.getCreatedAt(),
                 post.getModifiedAt()
         );
     }
+
+    // 작성자 닉네임을 채운 응답 (profiles 에 작성자가 없으면 그대로)
+    public PostResponse withAuthor(Map<Long, AuthorProfile> profiles) {
+        AuthorProfile profile = authorId != null ? profiles.get(authorId) : null;
+        if (profile == null) {
+            return this;
+        }
+        return new PostResponse(id, content, author, authorId, profile.nickname(),
+                sentiment, sentimentScore, hashtags, createdAt, modifiedAt);
+    }
+
+    private static List<String> splitHashtags(String hashtags) {
+        return hashtags.isEmpty() ? List.of() : List.of(hashtags.split(","));
+    }
 }
@@ -0,0 +1,7 @@
+package com.apiece.twitter.post.event;
+
+/**
+ * 게시글이 삭제되었음을 알리는 이벤트 (커밋 이후 처리용)
+ */
+public record PostDeletedEvent(Long postId) {
+}
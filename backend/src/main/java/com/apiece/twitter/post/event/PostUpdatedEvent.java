@@ -0,0 +1,9 @@
+package com.apiece.twitter.post.event;
+
+import com.apiece.twitter.post.domain.Post;
+
+/**
+ * 게시글이 수정되었음을 알리는 이벤트 (커밋 이후 처리용)
+ */
+public record PostUpdatedEvent(Post post) {
+}
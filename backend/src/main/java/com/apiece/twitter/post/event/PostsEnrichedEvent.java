@@ -0,0 +1,9 @@
+package com.apiece.twitter.post.event;
+
+import java.util.List;
+
+/**
+ * 게시글 분석 결과(감정/해시태그)가 저장되었음을 알리는 이벤트 (수정 시간은 바뀌지 않는다)
+ */
+public record PostsEnrichedEvent(List<Long> postIds) {
+}
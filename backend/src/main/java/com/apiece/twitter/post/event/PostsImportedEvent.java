@@ -0,0 +1,10 @@
+package com.apiece.twitter.post.event;
+
+import java.util.List;
+
+/**
+ * 게시글이 일괄 등록되었음을 알리는 이벤트 (배치 단위, 저장 이후 처리용)
+ * postIds 와 contents 는 같은 순서로 대응한다.
+ */
+public record PostsImportedEvent(List<Long> postIds, List<String> contents) {
+}
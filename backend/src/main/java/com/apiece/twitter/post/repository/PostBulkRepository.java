@@ -0,0 +1,64 @@
+package com.apiece.twitter.post.repository;
+
+import com.apiece.twitter.global.jpa.id.Snowflake;
+import com.apiece.twitter.post.domain.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 일괄 저장 - JDBC 배치 INSERT
+ * 영속성 컨텍스트를 거치지 않도록 JdbcTemplate 로 직접 배치를 보내고, ID 는 @SnowflakeId 와 같은 생성기로 미리 할당한다.
+ * (MySQL 은 rewriteBatchedStatements=true 로 다중 VALUES INSERT 로 재작성된다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO posts (id, content, author, author_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Snowflake snowflake;
+
+    // 한 배치를 한 트랜잭션으로 저장하고 할당한 ID 를 입력 순서대로 반환 (생성/수정 시간은 배치 단위로 동일)
+    @Transactional
+    public long[] insertAll(List<Post> posts) {
+        long[] ids = new long[posts.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = snowflake.nextId();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Post post = posts.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setString(2, post.getContent());
+                ps.setString(3, post.getAuthor());
+                if (post.getAuthorId() != null) {
+                    ps.setLong(4, post.getAuthorId());
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.length;
+            }
+        });
+        return ids;
+    }
+}
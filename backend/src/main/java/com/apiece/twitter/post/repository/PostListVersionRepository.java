@@ -0,0 +1,40 @@
+package com.apiece.twitter.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 목록 버전 (post_list_versions) - 인스턴스별 행에 더하고, 목록 버전은 전체 합으로 읽는다
+ * 버전은 줄지 않으므로 합도 줄지 않아, 목록이 바뀐 뒤에 예전 합이 다시 나오지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostListVersionRepository {
+
+    private static final String INCREMENT_SQL = "UPDATE post_list_versions SET version = version + 1 WHERE node_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO post_list_versions (node_id, version) VALUES (?, 1)";
+    private static final String SUM_SQL = "SELECT COALESCE(SUM(version), 0) FROM post_list_versions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 인스턴스 행의 버전을 1 올린다 (행이 없으면 만든다)
+    public void increment(int nodeId) {
+        if (jdbcTemplate.update(INCREMENT_SQL, nodeId) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, nodeId);
+        } catch (DuplicateKeyException e) {
+            // 같은 인스턴스의 다른 스레드가 먼저 만들었다
+            jdbcTemplate.update(INCREMENT_SQL, nodeId);
+        }
+    }
+
+    // 모든 인스턴스 버전의 합
+    public long sum() {
+        Long sum = jdbcTemplate.queryForObject(SUM_SQL, Long.class);
+        return sum != null ? sum : 0;
+    }
+}
@@ -1,7 +1,35 @@
 package com.apiece.twitter.post.repository;
 
 import com.apiece.twitter.post.domain.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // 커서 첫 페이지 - 최신순 (ID 가 시간순이라 PK 역순 = 최신순, count 쿼리 없음)
+    @Query("select p from Post p order by p.id desc")
+    Slice<Post> findLatest(Pageable pageable);
+
+    // 커서 이후 페이지 - id 기준 seek, OFFSET 없이 PK 인덱스 탐색
+    @Query("select p from Post p where p.id < :id order by p.id desc")
+    Slice<Post> findLatestBefore(@Param("id") Long id, Pageable pageable);
+
+    // id 오름차순 순회 (검색 색인 재구성용, PK 범위 탐색)
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 작성자 목록의 최신 게시글 ID (id 내림차순)
+    @Query("select p.id from Post p where p.authorId in :authorIds order by p.id desc")
+    List<Long> findIdsByAuthorIds(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
+    // 작성자 목록의 beforeId 이전 게시글 ID (id 내림차순)
+    @Query("select p.id from Post p where p.authorId in :authorIds and p.id < :beforeId order by p.id desc")
+    List<Long> findIdsByAuthorIdsBefore(@Param("authorIds") Collection<Long> authorIds,
+                                        @Param("beforeId") Long beforeId,
+                                        Pageable pageable);
 }
@@ -0,0 +1,144 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.config.PostBulkProperties;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.BulkPostResult;
+import com.apiece.twitter.post.dto.PostRequest;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import com.apiece.twitter.post.repository.PostBulkRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 일괄 등록 (NDJSON 스트리밍)
+ * 한 줄씩 읽어 검증하고 batchSize 단위로 JDBC 배치 저장한 뒤, 그 배치의 줄별 결과를 바로 응답으로 흘려보낸다.
+ * 메모리에는 현재 배치와 한 줄 분량만 남으므로 본문 크기와 무관하게 일정하다.
+ * 일괄 등록은 이관/재처리용이라 게시글별 이벤트(타임라인 fan-out)는 발행하지 않고, 배치마다 PostsImportedEvent 만 발행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostBulkService {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final PostBulkRepository postBulkRepository;
+    private final PostBulkProperties postBulkProperties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // NDJSON 본문을 읽어 저장하고, 줄별 결과를 NDJSON 으로 out 에 쓴다 (입력 순서 유지, 빈 줄은 건너뜀)
+    public void ingest(InputStream body, Long authorId, OutputStream out) throws IOException {
+        int batchSize = postBulkProperties.batchSize();
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        StringBuilder line = new StringBuilder();
+        List<Post> posts = new ArrayList<>(batchSize);
+        List<BulkPostResult> results = new ArrayList<>(batchSize);
+
+        long lineNumber = 0;
+        LineStatus status;
+        while ((status = readLine(reader, line, postBulkProperties.maxLineLength())) != LineStatus.END) {
+            lineNumber++;
+            if (status == LineStatus.TOO_LONG) {
+                results.add(BulkPostResult.rejected(lineNumber, ErrorCode.INVALID_POST_CONTENT));
+            } else if (!line.toString().isBlank()) {
+                results.add(parse(lineNumber, line.toString(), authorId, posts));
+            }
+            if (results.size() >= batchSize) {
+                flush(posts, results, out);
+            }
+        }
+        flush(posts, results, out);
+    }
+
+    // 한 줄 검증 - 통과하면 posts 에 담고 CREATED(저장 전, id 없음) 반환
+    private BulkPostResult parse(long lineNumber, String line, Long authorId, List<Post> posts) {
+        PostRequest request;
+        try {
+            request = objectMapper.readValue(line, PostRequest.class);
+        } catch (JsonProcessingException e) {
+            return BulkPostResult.rejected(lineNumber, ErrorCode.INVALID_BULK_LINE);
+        }
+        if (request == null || request.author() == null || request.author().isBlank()) {
+            return BulkPostResult.rejected(lineNumber, ErrorCode.INVALID_BULK_LINE);
+        }
+        if (!Post.isValidContent(request.content())) {
+            return BulkPostResult.rejected(lineNumber, ErrorCode.INVALID_POST_CONTENT);
+        }
+        posts.add(request.toEntity(authorId));
+        return BulkPostResult.accepted(lineNumber);
+    }
+
+    // 모인 게시글을 한 배치로 저장하고 결과에 ID 를 채운다, 저장 실패 시 해당 배치의 CREATED 를 FAILED 로 바꾼다
+    private void flush(List<Post> posts, List<BulkPostResult> results, OutputStream out) throws IOException {
+        if (!posts.isEmpty()) {
+            try {
+                long[] ids = postBulkRepository.insertAll(posts);
+                int next = 0;
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i).status() == BulkPostResult.Status.CREATED) {
+                        results.set(i, results.get(i).withId(ids[next++]));
+                    }
+                }
+                eventPublisher.publishEvent(new PostsImportedEvent(
+                        Arrays.stream(ids).boxed().toList(),
+                        posts.stream().map(Post::getContent).toList()));
+            } catch (DataAccessException e) {
+                log.error("Bulk insert failed for {} posts", posts.size(), e);
+                results.replaceAll(result -> result.status() == BulkPostResult.Status.CREATED
+                        ? BulkPostResult.failed(result.line())
+                        : result);
+            }
+        }
+        for (BulkPostResult result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+        posts.clear();
+        results.clear();
+    }
+
+    private enum LineStatus {
+        LINE, TOO_LONG, END
+    }
+
+    // 한 줄 읽기 (\n 또는 \r\n), maxLength 를 넘으면 나머지를 버리고 TOO_LONG
+    private static LineStatus readLine(Reader reader, StringBuilder line, int maxLength) throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return LineStatus.END;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() < maxLength || c == '\r') {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+            c = reader.read();
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return tooLong ? LineStatus.TOO_LONG : LineStatus.LINE;
+    }
+}
@@ -0,0 +1,205 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostExportFormat;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 전체 내보내기 (NDJSON / CSV 스트리밍)
+ * 전진 전용 JDBC 커서로 한 행씩 읽어 바로 응답에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 떼어낸다.
+ * 메모리에는 fetch size 만큼의 행과 출력 버퍼만 남으므로 테이블 크기와 무관하게 일정하다.
+ * (OFFSET 페이징처럼 페이지마다 앞부분을 다시 읽거나 count 를 세지 않는다)
+ * MySQL 은 이 쿼리에만 fetch size Integer.MIN_VALUE 를 줘 결과를 행 단위로 스트리밍한다.
+ * URL 의 useCursorFetch=true 는 모든 커넥션을 서버 측 prepared statement 로 바꾸므로 쓰지 않는다.
+ */
+@Service
+public class PostExportService {
+
+    // MySQL 외 DB(H2 등)에서 한 번에 가져올 행 수
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    // 응답 스트림은 서블릿 컨테이너가 닫는다, 최상위 값 사이 기본 구분자(공백) 대신 직접 줄바꿈을 쓴다
+    private static final JsonFactory JSON_FACTORY = new JsonFactoryBuilder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .rootValueSeparator((String) null)
+            .build();
+    private static final String CSV_HEADER =
+            "id,content,author,authorId,sentiment,sentimentScore,hashtags,createdAt,modifiedAt\r\n";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public PostExportService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.fetchSize = isMySql(entityManager) ? Integer.MIN_VALUE : EXPORT_FETCH_SIZE;
+    }
+
+    // 전체 게시글을 id 오름차순으로 out 에 쓰고 내보낸 건수를 반환 (커서는 이 트랜잭션 동안만 열려 있다)
+    @Transactional(readOnly = true)
+    public long export(PostExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> exportNdjson(out);
+            case CSV -> exportCsv(out);
+        };
+    }
+
+    // 한 줄에 게시글 하나 - ObjectMapper 로 객체를 만들지 않고 생성기로 필드를 바로 쓴다
+    private long exportNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            return forEachPost(post -> {
+                try {
+                    writeJson(generator, post);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // RFC 4180 (헤더 포함, CRLF 줄바꿈)
+    private long exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        long count = forEachPost(post -> {
+            try {
+                writeCsv(writer, post);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return count;
+    }
+
+    // 커서를 따라가며 한 건씩 처리하고 detach (클라이언트 연결이 끊기면 IOException 으로 중단)
+    private long forEachPost(Consumer<Post> writer) throws IOException {
+        long count = 0;
+        try (Stream<Post> posts = streamAll()) {
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                writer.accept(post);
+                entityManager.detach(post);
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count;
+    }
+
+    // 전체 게시글 전진 전용 커서 (id 오름차순) - 트랜잭션 안에서 소비하고 반드시 close
+    // MySQL 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 보낼 수 없으므로 순회 중에는 detach 외에 DB 를 쓰지 않는다
+    private Stream<Post> streamAll() {
+        return entityManager.createQuery("select p from Post p order by p.id asc", Post.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    private static boolean isMySql(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
+
+    private static void writeJson(JsonGenerator generator, Post post) throws IOException {
+        generator.writeStartObject();
+        // 64비트 Snowflake ID 는 JS Number 범위를 넘으므로 조회 API 와 같이 문자열로
+        generator.writeStringField("id", String.valueOf(post.getId()));
+        generator.writeStringField("content", post.getContent());
+        generator.writeStringField("author", post.getAuthor());
+        if (post.getAuthorId() != null) {
+            generator.writeStringField("authorId", String.valueOf(post.getAuthorId()));
+        } else {
+            generator.writeNullField("authorId");
+        }
+        generator.writeStringField("sentiment", post.getSentiment() != null ? post.getSentiment().getValue() : null);
+        if (post.getSentimentScore() != null) {
+            generator.writeNumberField("sentimentScore", post.getSentimentScore());
+        } else {
+            generator.writeNullField("sentimentScore");
+        }
+        generator.writeFieldName("hashtags");
+        if (post.getHashtags() != null) {
+            generator.writeStartArray();
+            if (!post.getHashtags().isEmpty()) {
+                for (String tag : post.getHashtags().split(",")) {
+                    generator.writeString(tag);
+                }
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeNull();
+        }
+        generator.writeStringField("createdAt", formatTime(post.getCreatedAt()));
+        generator.writeStringField("modifiedAt", formatTime(post.getModifiedAt()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeCsv(Writer writer, Post post) throws IOException {
+        writer.write(String.valueOf(post.getId()));
+        writer.write(',');
+        writeCsvField(writer, post.getContent());
+        writer.write(',');
+        writeCsvField(writer, post.getAuthor());
+        writer.write(',');
+        writeCsvField(writer, post.getAuthorId() != null ? String.valueOf(post.getAuthorId()) : null);
+        writer.write(',');
+        writeCsvField(writer, post.getSentiment() != null ? post.getSentiment().getValue() : null);
+        writer.write(',');
+        writeCsvField(writer, post.getSentimentScore() != null ? String.valueOf(post.getSentimentScore()) : null);
+        writer.write(',');
+        writeCsvField(writer, post.getHashtags());
+        writer.write(',');
+        writeCsvField(writer, formatTime(post.getCreatedAt()));
+        writer.write(',');
+        writeCsvField(writer, formatTime(post.getModifiedAt()));
+        writer.write("\r\n");
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 따옴표는 두 번 쓴다, null 은 빈 칸
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // 조회 API(Jackson LocalDateTime) 와 같은 ISO-8601 형식
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time) : null;
+    }
+}
@@ -0,0 +1,291 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.global.datasource.DataSourceRouting;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.config.PostGroupCommitProperties;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostRequest;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성 그룹 커밋 (post.group-commit.enabled=true 일 때만 동작)
+ * 작성 요청을 대기열에 넣고, 커밋 스레드 하나가 첫 요청 이후 window 동안(또는 maxBatchSize 가 찰 때까지) 더 모아
+ * 한 트랜잭션에서 saveAll 로 저장한다. ID 를 미리 할당하므로 Hibernate INSERT 배치가 동작하고,
+ * MySQL 은 rewriteBatchedStatements 로 다중 VALUES INSERT 한 번 + 커밋(fsync) 한 번이 된다.
+ * 커밋하는 동안 쌓인 요청은 다음 배치로 바로 모이므로 부하가 클수록 배치가 커진다.
+ * 내용/작성자는 대기열에 넣기 전에 검사해 잘못된 요청은 그 요청만 바로 실패하고, 배치 저장이 실패하면
+ * 요청별 트랜잭션으로 다시 저장해 문제가 된 요청만 실패하고 나머지는 성공한다.
+ * 작성 이벤트는 커밋 후 리스너 스레드로 넘겨 발행한다(타임라인 fan-out, 스트림, 분석 리스너가 커밋 스레드를 붙잡지 않는다).
+ * 커밋/리스너 스레드에는 요청의 인증 정보가 없으므로 작성자는 DataSourceRouting 으로 직접 넘기고, 리스너는 post.authorId 를 쓴다.
+ */
+@Slf4j
+@Service
+public class PostGroupCommitter implements SmartLifecycle {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostGroupCommitProperties properties;
+    private final AuthorProfileLoader authorProfileLoader;
+    // 커밋된 게시글의 작성 이벤트 발행 (단일 스레드 - 발행 순서 = 커밋 순서)
+    private final Executor listenerExecutor;
+
+    private final BlockingQueue<PendingPost> queue;
+    private volatile Thread committer;
+    private volatile boolean running;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    @Autowired
+    public PostGroupCommitter(PostRepository postRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              PostGroupCommitProperties properties,
+                              AuthorProfileLoader authorProfileLoader,
+                              MeterRegistry meterRegistry) {
+        this(postRepository, transactionManager, eventPublisher, properties, authorProfileLoader, meterRegistry,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("post-group-commit-listener").daemon().factory()));
+    }
+
+    PostGroupCommitter(PostRepository postRepository,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher,
+                       PostGroupCommitProperties properties,
+                       AuthorProfileLoader authorProfileLoader,
+                       MeterRegistry meterRegistry,
+                       Executor listenerExecutor) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.authorProfileLoader = authorProfileLoader;
+        this.listenerExecutor = listenerExecutor;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        meterRegistry.gauge("post.group.commit.queue.size", queue, BlockingQueue::size);
+        this.batchSizeSummary = meterRegistry.summary("post.group.commit.batch.size");
+        this.batchTimer = meterRegistry.timer("post.group.commit.batch");
+    }
+
+    // 그룹 커밋 사용 여부 (꺼져 있으면 PostService.createPost 로 요청마다 커밋)
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    // 작성 요청을 넣고 저장 결과를 기다린다 (실패 시 원래 예외를 그대로 던진다), 작성자 닉네임은 요청 스레드에서 붙인다
+    public PostResponse create(PostRequest request, Long authorId) {
+        try {
+            PostResponse response = submit(request, authorId).join();
+            return response.withAuthor(authorProfileLoader.loadAll(Collections.singletonList(response.authorId())));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 작성 요청을 넣고 저장되면 완료되는 future 반환
+    // 잘못된 요청은 넣지 않고 INVALID_POST_CONTENT/INVALID_POST_AUTHOR, 대기열이 가득 차거나 멈춘 상태면 POST_WRITE_BUSY
+    public CompletableFuture<PostResponse> submit(PostRequest request, Long authorId) {
+        PendingPost pending = new PendingPost(request, authorId, new CompletableFuture<>());
+        ErrorCode invalid = validate(request);
+        if (invalid != null) {
+            pending.future().completeExceptionally(new BusinessException(invalid));
+        } else if (!running || !queue.offer(pending)) {
+            pending.future().completeExceptionally(new BusinessException(ErrorCode.POST_WRITE_BUSY));
+        }
+        return pending.future();
+    }
+
+    // DB 제약(내용 길이, 작성자 NOT NULL)에 걸릴 요청 - 배치에 섞여 다른 요청까지 다시 저장하게 만들지 않도록 미리 거른다
+    private static ErrorCode validate(PostRequest request) {
+        if (!Post.isValidContent(request.content())) {
+            return ErrorCode.INVALID_POST_CONTENT;
+        }
+        if (request.author() == null || request.author().isBlank()) {
+            return ErrorCode.INVALID_POST_AUTHOR;
+        }
+        return null;
+    }
+
+    // 한 배치를 한 트랜잭션으로 저장하고 요청별 future 완료, 실패하면 요청별로 다시 저장
+    void commit(List<PendingPost> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            List<Post> posts = DataSourceRouting.asUsers(
+                    batch.stream().map(PendingPost::authorId).toList(),
+                    () -> transactionTemplate.execute(status -> save(batch)));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(PostResponse.from(posts.get(i)));
+            }
+            publishCreated(posts);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().future().completeExceptionally(e);
+            } else {
+                log.warn("Group commit of {} posts failed, retrying one by one", batch.size(), e);
+                for (PendingPost pending : batch) {
+                    commitOne(pending);
+                }
+            }
+        } finally {
+            batchSizeSummary.record(batch.size());
+            sample.stop(batchTimer);
+        }
+    }
+
+    private void commitOne(PendingPost pending) {
+        try {
+            List<Post> posts = DataSourceRouting.asUser(pending.authorId(),
+                    () -> transactionTemplate.execute(status -> save(List.of(pending))));
+            pending.future().complete(PostResponse.from(posts.getFirst()));
+            publishCreated(posts);
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    // 트랜잭션 안에서 저장만 한다 (작성 이벤트는 커밋 후 publishCreated 로)
+    // 엔티티는 시도마다 새로 만든다 (실패한 배치의 엔티티는 ID 가 이미 할당돼 다시 persist 할 수 없다)
+    private List<Post> save(List<PendingPost> batch) {
+        return postRepository.saveAll(batch.stream()
+                .map(pending -> pending.request().toEntity(pending.authorId()))
+                .toList());
+    }
+
+    // 커밋된 게시글의 작성 이벤트를 리스너 스레드에서 발행 - 트랜잭션 밖이므로 리스너는 fallbackExecution 으로 바로 실행된다
+    // 리스너의 읽기/쓰기가 작성자 기준 read-your-writes 가 되도록 게시글마다 작성자로 묶는다
+    private void publishCreated(List<Post> posts) {
+        try {
+            listenerExecutor.execute(() -> {
+                for (Post post : posts) {
+                    try {
+                        DataSourceRouting.asUser(post.getAuthorId(), () -> {
+                            eventPublisher.publishEvent(new PostCreatedEvent(post));
+                            return null;
+                        });
+                    } catch (RuntimeException e) {
+                        log.warn("Post created listener failed for post {}", post.getId(), e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Post created listeners skipped for {} posts, listener executor is shut down", posts.size());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        committer = Thread.ofPlatform().name("post-group-commit").daemon().start(this::work);
+    }
+
+    // 멈춘 뒤 남은 요청은 호출 스레드에서 마저 저장한다
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = committer;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            committer = null;
+        }
+        List<PendingPost> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += properties.maxBatchSize()) {
+            commit(remaining.subList(from, Math.min(from + properties.maxBatchSize(), remaining.size())));
+        }
+        // 이미 넘긴 작성 이벤트는 마저 발행한다
+        if (listenerExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 커밋 스레드 - 첫 요청을 기다린 뒤 window 가 끝나거나 maxBatchSize 가 찰 때까지 모아 저장
+    private void work() {
+        int maxBatchSize = properties.maxBatchSize();
+        long windowNanos = properties.window().toNanos();
+        List<PendingPost> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            boolean interrupted = false;
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingPost next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 멈추는 중 - 이미 모은 요청은 저장하고 끝낸다
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                commit(List.copyOf(batch));
+                batch.clear();
+            }
+            if (interrupted) {
+                return;
+            }
+        }
+    }
+
+    record PendingPost(PostRequest request, Long authorId, CompletableFuture<PostResponse> future) {
+    }
+}
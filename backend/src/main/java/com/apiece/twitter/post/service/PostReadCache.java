@@ -0,0 +1,44 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostUpdatedEvent;
+import com.apiece.twitter.post.event.PostsEnrichedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회 캐시 (read-through)
+ * 수정/삭제가 커밋되거나 분석 결과가 저장되면 해당 게시글을 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostReadCache {
+
+    private final Cache<Long, PostResponse> postCache;
+
+    // 캐시 미스면 loader 로 조회, 같은 키에 대한 동시 미스는 loader 를 한 번만 실행
+    public PostResponse get(Long id, Function<Long, PostResponse> loader) {
+        return postCache.get(id, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        postCache.invalidate(event.post().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        postCache.invalidate(event.postId());
+    }
+
+    @EventListener
+    public void onPostsEnriched(PostsEnrichedEvent event) {
+        postCache.invalidateAll(event.postIds());
+    }
+}
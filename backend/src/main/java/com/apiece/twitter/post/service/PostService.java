@@ -1,17 +1,31 @@
 package com.apiece.twitter.post.service;
 
+import com.apiece.twitter.global.datasource.DataSourceRouting;
 import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.CursorResponse;
 import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.dto.PostCursor;
 import com.apiece.twitter.post.dto.PostRequest;
 import com.apiece.twitter.post.dto.PostResponse;
 import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostUpdatedEvent;
 import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -19,26 +33,57 @@ import org.springframework.data.domain.Pageable;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostReadCache postReadCache;
+    private final AuthorProfileLoader authorProfileLoader;
 
     // 전체 게시글을 최신순으로 조회 (페이징)
     public Page<PostResponse> getAllPosts(Pageable pageable) {
-        return postRepository.findAll(pageable)
+        Page<PostResponse> posts = postRepository.findAll(pageable)
                 .map(PostResponse::from);
+        Map<Long, AuthorProfile> authors = loadAuthors(posts.getContent());
+        return posts.map(post -> post.withAuthor(authors));
+    }
+
+    // 전체 게시글을 최신순으로 조회 (커서 기반, count 쿼리 없음)
+    public CursorResponse<PostResponse> getPostsByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findLatest(pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            posts = postRepository.findLatestBefore(postCursor.id(), pageable);
+        }
+        return CursorResponse.of(
+                withAuthors(posts.map(PostResponse::from).getContent()),
+                posts.hasNext(),
+                post -> PostCursor.from(post).encode()
+        );
     }
 
-    // ID로 게시글 단건 조회
+    // ID로 게시글 단건 조회 (캐시 우선, 같은 키의 동시 미스는 한 번만 조회)
+    // 캐시는 주 DB 에서 채운다 - 수정/삭제 직후 무효화된 항목을 복제 지연된 복제본에서 다시 채우면
+    // 옛 내용(또는 지워진 게시글)이 만료까지 강한 ETag 와 함께 나가므로 (미스는 드물어 비용이 작다)
     public PostResponse getPost(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_POST));
-        return PostResponse.from(post);
+        PostResponse post = postReadCache.get(id, postId -> DataSourceRouting.onPrimary(() -> PostResponse.from(
+                postRepository.findById(postId).orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_POST)))));
+        return withAuthor(post);
     }
 
     // 새 게시글 작성
     @Transactional
     public PostResponse createPost(PostRequest request) {
-        Post post = request.toEntity();
+        return createPost(request, null);
+    }
+
+    // 새 게시글 작성 (작성자 ID 연결, 커밋 후 팔로워 타임라인으로 전파)
+    @Transactional
+    public PostResponse createPost(PostRequest request, Long authorId) {
+        Post post = request.toEntity(authorId);
         Post savedPost = postRepository.save(post);
-        return PostResponse.from(savedPost);
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost));
+        return withAuthor(PostResponse.from(savedPost));
     }
 
     // 게시글 내용 수정
@@ -47,7 +92,8 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_POST));
         post.updateContent(request.content());
-        return PostResponse.from(post);
+        eventPublisher.publishEvent(new PostUpdatedEvent(post));
+        return withAuthor(PostResponse.from(post));
     }
 
     // 게시글 삭제
@@ -56,5 +102,21 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_POST));
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostDeletedEvent(post.getId()));
+    }
+
+    // 작성자 닉네임 채우기 - 캐시(게시글 단건 캐시 포함)에는 닉네임 없이 두고 응답할 때 붙인다
+    private PostResponse withAuthor(PostResponse post) {
+        return withAuthors(List.of(post)).getFirst();
+    }
+
+    private List<PostResponse> withAuthors(List<PostResponse> posts) {
+        Map<Long, AuthorProfile> authors = loadAuthors(posts);
+        return posts.stream().map(post -> post.withAuthor(authors)).toList();
+    }
+
+    // 페이지의 작성자들을 한 번에 조회 (페이지 크기와 무관하게 쿼리 최대 1회)
+    private Map<Long, AuthorProfile> loadAuthors(List<PostResponse> posts) {
+        return authorProfileLoader.loadAll(posts.stream().map(PostResponse::authorId).toList());
     }
 }
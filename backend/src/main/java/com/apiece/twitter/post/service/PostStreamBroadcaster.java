@@ -0,0 +1,406 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.config.PostStreamProperties;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 새 게시글 실시간 브로드캐스터 (SSE)
+ * 연결은 서블릿 비동기 요청으로 유지되어 유휴 구독자는 스레드를 점유하지 않는다.
+ * 게시글은 커밋 후 한 번만 직렬화해 최근 게시글 링 버퍼에 순번과 함께 넣기만 하고(커밋 스레드는 구독자를 돌지 않는다),
+ * 분배 스레드 하나가 락 밖에서 구독자별 고정 크기 버퍼에 넣는다(막히지 않음). 버퍼에 이벤트가 있는 구독자만 가상 스레드에서 전송한다.
+ * 느린 구독자의 버퍼가 차면 밀린 이벤트를 버리고 reset 이벤트 하나로 합친다(클라이언트가 다시 조회).
+ * 분배가 밀려 링 버퍼에서 빠진 게시글이 있으면 구독자에게 reset 을 보낸다.
+ * Last-Event-ID 로 재연결하면 링 버퍼에서 놓친 게시글부터 이어서 보내고, 구독 시점 순번 이후 게시글만 분배로 받아 중복이 없다.
+ */
+@Slf4j
+@Component
+public class PostStreamBroadcaster implements SmartLifecycle {
+
+    static final String POST_EVENT = "post";
+    static final String RESET_EVENT = "reset";
+
+    private static final StreamEvent RESET = new StreamEvent(0, 0, SseEmitter.event().name(RESET_EVENT).data("{}").build());
+    private static final StreamEvent HEARTBEAT = new StreamEvent(0, 0, SseEmitter.event().comment("ping").build());
+
+    private final PostStreamProperties postStreamProperties;
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final Executor sender;
+
+    // 최근 게시글 (발행 순서) - lock 으로 보호, 구독 등록 시 재전송 범위와 구독 순번을 같은 락으로 정한다
+    private final ArrayDeque<StreamEvent> recent = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // 마지막으로 발행한 순번 / 분배까지 끝난 순번 (lock 으로 보호)
+    private long lastSeq;
+    private long dispatchedSeq;
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Counter resetCounter;
+    private ScheduledExecutorService heartbeatScheduler;
+    private volatile boolean running;
+
+    // 전송할 이벤트 - seq 는 발행 순번, id 는 게시글 ID (reset/heartbeat 은 둘 다 0), 내용은 미리 만든 SSE 프레임
+    private record StreamEvent(long seq, long id, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+
+    @Autowired
+    public PostStreamBroadcaster(PostStreamProperties postStreamProperties,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this(postStreamProperties, objectMapper, meterRegistry,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("post-stream-dispatch").daemon().factory()),
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    PostStreamBroadcaster(PostStreamProperties postStreamProperties,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          Executor dispatcher,
+                          Executor sender) {
+        this.postStreamProperties = postStreamProperties;
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.sender = sender;
+        meterRegistry.gaugeCollectionSize("post.stream.subscribers", Tags.empty(), subscribers);
+        this.resetCounter = meterRegistry.counter("post.stream.resets");
+    }
+
+    // 구독 - lastEventId 가 있으면 그 이후 게시글부터 재전송 (보관 범위를 벗어났으면 reset)
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(postStreamProperties.timeout().toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        if (subscribers.size() >= postStreamProperties.maxSubscribers()) {
+            throw new BusinessException(ErrorCode.STREAM_UNAVAILABLE);
+        }
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        lock.lock();
+        try {
+            for (StreamEvent event : missedSince(lastEventId)) {
+                subscriber.offer(event);
+            }
+            // 지금까지 발행된 게시글은 재전송 범위로 끝났으므로 그 이후 순번만 분배로 받는다
+            subscriber.afterSeq = lastSeq;
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    // 게시글 작성 커밋 후 링 버퍼에 넣고 분배 예약 (구독자 전송은 분배 스레드에서)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(PostResponse.from(event.post()));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize post {} for stream", event.post().getId(), e);
+            return;
+        }
+        long id = event.post().getId();
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .id(Long.toString(id))
+                .name(POST_EVENT)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+
+        lock.lock();
+        try {
+            recent.addLast(new StreamEvent(++lastSeq, id, frame));
+            if (recent.size() > postStreamProperties.replaySize()) {
+                recent.removeFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+        scheduleDispatch();
+    }
+
+    // 현재 구독자 수
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void start() {
+        long period = postStreamProperties.heartbeat().toMillis();
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-stream-heartbeat").daemon().factory());
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, period, period, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 유휴 구독자에게만 주석 전송 (보낼 이벤트가 밀려 있으면 그 전송이 연결 확인을 대신한다)
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerIfIdle(HEARTBEAT);
+        }
+    }
+
+    // 분배 작업은 한 번에 하나만 예약 (이미 예약돼 있으면 그 작업이 새 게시글까지 가져간다)
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::dispatch);
+            } catch (RejectedExecutionException e) {
+                // 멈추는 중 - 구독자는 곧 닫힌다
+                dispatchScheduled.set(false);
+            }
+        }
+    }
+
+    // 분배 스레드 - 아직 분배하지 않은 게시글을 락 안에서 꺼내고, 구독자 버퍼에 넣는 것은 락 밖에서 한다
+    private void dispatch() {
+        while (true) {
+            Pending pending = undispatched();
+            if (pending.events().isEmpty()) {
+                dispatchScheduled.set(false);
+                // 예약 해제 직전에 발행된 게시글이 있으면 다시 맡는다
+                if (!hasUndispatched() || !dispatchScheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.afterSeq < pending.missedUpTo()) {
+                    subscriber.offer(RESET);
+                    resetCounter.increment();
+                }
+                for (StreamEvent event : pending.events()) {
+                    if (event.seq() > subscriber.afterSeq) {
+                        subscriber.offer(event);
+                    }
+                }
+            }
+        }
+    }
+
+    // 분배할 게시글 - missedUpTo 는 분배 전에 링 버퍼에서 빠진 마지막 순번 (없으면 0)
+    private record Pending(List<StreamEvent> events, long missedUpTo) {
+    }
+
+    private Pending undispatched() {
+        lock.lock();
+        try {
+            List<StreamEvent> events = new ArrayList<>();
+            for (Iterator<StreamEvent> newestFirst = recent.descendingIterator(); newestFirst.hasNext(); ) {
+                StreamEvent event = newestFirst.next();
+                if (event.seq() <= dispatchedSeq) {
+                    break;
+                }
+                events.add(event);
+            }
+            long oldest = events.isEmpty() ? lastSeq + 1 : events.getLast().seq();
+            long missedUpTo = oldest - 1 > dispatchedSeq ? oldest - 1 : 0;
+            dispatchedSeq = lastSeq;
+            return new Pending(events.reversed(), missedUpTo);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasUndispatched() {
+        lock.lock();
+        try {
+            return lastSeq > dispatchedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lastEventId 이후 발행된 게시글 (lock 안에서 호출)
+    private List<StreamEvent> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return List.of(RESET);
+        }
+        // 발행 순서에서 마지막으로 받은 게시글의 다음부터 (커밋 순서와 ID 순서가 어긋나도 빠뜨리지 않는다)
+        List<StreamEvent> missed = new ArrayList<>();
+        Iterator<StreamEvent> newestFirst = recent.descendingIterator();
+        while (newestFirst.hasNext()) {
+            StreamEvent event = newestFirst.next();
+            if (event.id() == lastId) {
+                return missed.reversed();
+            }
+            missed.add(event);
+        }
+        // 보관 범위 안에 없음 - 보관 중인 가장 오래된 것보다 최신 ID 면 그 이후만, 아니면 놓친 게 있을 수 있으니 reset
+        if (!recent.isEmpty() && lastId >= recent.getFirst().id()) {
+            return recent.stream().filter(event -> event.id() > lastId).toList();
+        }
+        return List.of(RESET);
+    }
+
+    /**
+     * 구독자 - 미전송 이벤트 버퍼와 전송 예약 상태
+     * 버퍼에 이벤트가 생기면 한 번만 전송 작업을 예약하고, 전송 작업은 버퍼가 빌 때까지 보낸 뒤 끝난다.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<StreamEvent> buffer = new ArrayDeque<>();
+        private final ReentrantLock bufferLock = new ReentrantLock();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private boolean overflowed;
+        // 이 순번까지의 게시글은 구독 시 재전송 범위로 처리됐다 (등록 전에 lock 안에서 정한다)
+        private volatile long afterSeq;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(StreamEvent event) {
+            bufferLock.lock();
+            try {
+                if (event == RESET) {
+                    overflow();
+                } else if (buffer.size() >= postStreamProperties.bufferSize()) {
+                    overflow();
+                    resetCounter.increment();
+                } else {
+                    buffer.addLast(event);
+                }
+            } finally {
+                bufferLock.unlock();
+            }
+            schedule();
+        }
+
+        void offerIfIdle(StreamEvent event) {
+            bufferLock.lock();
+            try {
+                if (!buffer.isEmpty() || overflowed) {
+                    return;
+                }
+                buffer.addLast(event);
+            } finally {
+                bufferLock.unlock();
+            }
+            schedule();
+        }
+
+        // 밀린 이벤트를 버리고 reset 하나로 합친다
+        private void overflow() {
+            buffer.clear();
+            overflowed = true;
+        }
+
+        private StreamEvent next() {
+            bufferLock.lock();
+            try {
+                if (overflowed) {
+                    overflowed = false;
+                    return RESET;
+                }
+                return buffer.pollFirst();
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        private boolean isEmpty() {
+            bufferLock.lock();
+            try {
+                return buffer.isEmpty() && !overflowed;
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        // 버퍼가 빌 때까지 전송 (이 구독자의 느린 쓰기는 이 작업만 붙잡는다)
+        private void drain() {
+            while (true) {
+                StreamEvent event = next();
+                if (event == null) {
+                    scheduled.set(false);
+                    // 예약 해제 직전에 들어온 이벤트가 있으면 다시 맡는다
+                    if (isEmpty() || !scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    emitter.send(event.frame());
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
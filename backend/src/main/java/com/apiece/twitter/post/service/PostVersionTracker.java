@@ -0,0 +1,92 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.global.datasource.DataSourceRouting;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostUpdatedEvent;
+import com.apiece.twitter.post.event.PostsEnrichedEvent;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import com.apiece.twitter.post.repository.PostListVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 게시글 조회 응답의 조건부 GET 검증자 (ETag / Last-Modified)
+ * 목록: 게시글이 바뀔 때마다(작성/수정/삭제/일괄 등록/분석 반영) 커밋 후 올리는 버전.
+ * 버전은 DB 의 인스턴스별 행(post_list_versions)에 두고 ETag 는 주 DB 에서 읽은 전체 합이라, 어느 인스턴스에서 바뀌어도
+ * 모든 인스턴스의 목록 ETag 가 바뀐다 (프로세스 메모리 버전이면 변경을 처리하지 않은 인스턴스가 옛 목록에 304 를 준다).
+ * 합은 줄지 않으므로 재시작해도 예전 ETag 가 다시 나오지 않는다 (DB 를 새로 만드는 create-drop 환경 제외).
+ * 목록은 ETag 로만 검증한다 - HTTP 날짜는 초 단위라 같은 초 안의 두 번째 변경을 If-Modified-Since 로 구분할 수 없다.
+ * 단건: 게시글 ID + 수정 시간 + 분석 여부 - 분석은 수정 시간을 바꾸지 않으므로 분석 전에는 Last-Modified 를 주지 않는다.
+ */
+@Component
+public class PostVersionTracker {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PostListVersionRepository postListVersionRepository;
+    private final int nodeId;
+
+    public PostVersionTracker(PostListVersionRepository postListVersionRepository,
+                              @Value("${id.node-id:0}") int nodeId) {
+        this.postListVersionRepository = postListVersionRepository;
+        this.nodeId = nodeId;
+    }
+
+    // 목록 ETag (strong) - 목록 본문과 같이 주 DB 기준 (인스턴스 수만큼의 행 합계 조회)
+    public String listEtag() {
+        long version = DataSourceRouting.onPrimary(postListVersionRepository::sum);
+        return "\"" + Long.toString(version, 36) + "\"";
+    }
+
+    // 단건 ETag (strong)
+    public static String etagOf(PostResponse post) {
+        long modified = post.modifiedAt() != null ? ChronoUnit.NANOS.between(EPOCH, post.modifiedAt()) : 0;
+        return "\"" + post.id() + "-" + Long.toString(modified, 36) + (post.sentiment() != null ? "-e" : "") + "\"";
+    }
+
+    // 단건 Last-Modified (epoch millis) - 분석 전이면 -1 (ETag 로만 검증)
+    public static long lastModifiedOf(PostResponse post) {
+        if (post.sentiment() == null || post.modifiedAt() == null) {
+            return -1;
+        }
+        return post.modifiedAt().atZone(ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS).toInstant().toEpochMilli();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsImported(PostsImportedEvent event) {
+        bump();
+    }
+
+    @EventListener
+    public void onPostsEnriched(PostsEnrichedEvent event) {
+        bump();
+    }
+
+    // 커밋 후 자기 인스턴스 행만 올린다 (다른 인스턴스와 행 잠금을 다투지 않음)
+    private void bump() {
+        postListVersionRepository.increment(nodeId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.apiece.twitter.search.controller;
+
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.search.service.PostSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "검색 API")
+public class PostSearchController {
+
+    private final PostSearchService postSearchService;
+
+    // 게시글 검색 API
+    @GetMapping("/api/posts/search")
+    @Operation(summary = "게시글 검색", description = "검색어의 모든 단어(한글은 2글자 단위)를 포함한 게시글을 관련도순으로 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "검색어, 커서 또는 페이지 크기가 올바르지 않음")
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> search(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(postSearchService.search(q, cursor, size)));
+    }
+}
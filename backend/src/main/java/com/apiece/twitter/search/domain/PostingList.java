@@ -0,0 +1,158 @@
+package com.apiece.twitter.search.domain;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰의 posting 목록 - (게시글 ID, 출현 횟수, 세대) 항목을 ID 오름차순으로 압축 저장한다.
+ * ID 는 앞 항목과의 차이(delta), 나머지는 그대로 varint 로 인코딩해 byte[] 하나에 담는다.
+ * Snowflake ID 는 시간순이라 새 게시글은 대부분 끝에 붙고, 더 작은 ID(수정·재구성)는 pending 배열에 모았다가 병합한다.
+ * 세대(generation)가 문서의 현재 세대와 다른 항목은 수정/삭제로 무효가 된 것이며 compact 때 제거된다.
+ * thread-safe 하지 않다 (PostSearchIndex 가 락으로 보호).
+ */
+public class PostingList {
+
+    private static final int PENDING_LIMIT = 64;
+
+    private byte[] data = new byte[16];
+    private int length;
+    private int count;
+    private long lastId;
+
+    private long[] pendingIds = new long[0];
+    private int[] pendingFrequencies = new int[0];
+    private int[] pendingGenerations = new int[0];
+    private int pendingCount;
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long postId, int frequency, int generation);
+    }
+
+    @FunctionalInterface
+    public interface LiveCheck {
+        boolean isLive(long postId, int generation);
+    }
+
+    public void add(long postId, int frequency, int generation) {
+        if (count == 0 || postId >= lastId) {
+            append(postId, frequency, generation);
+            return;
+        }
+        if (pendingCount == pendingIds.length) {
+            int capacity = Math.max(8, pendingCount * 2);
+            pendingIds = Arrays.copyOf(pendingIds, capacity);
+            pendingFrequencies = Arrays.copyOf(pendingFrequencies, capacity);
+            pendingGenerations = Arrays.copyOf(pendingGenerations, capacity);
+        }
+        pendingIds[pendingCount] = postId;
+        pendingFrequencies[pendingCount] = frequency;
+        pendingGenerations[pendingCount] = generation;
+        pendingCount++;
+        if (pendingCount >= PENDING_LIMIT) {
+            compact((id, gen) -> true);
+        }
+    }
+
+    // 압축 구간 + pending 의 모든 항목 순회 (무효 항목 포함, 순서는 보장하지 않음)
+    public void forEach(Consumer consumer) {
+        int position = 0;
+        long postId = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            postId += delta;
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int generation = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                generation |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            consumer.accept(postId, frequency, generation);
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            consumer.accept(pendingIds[i], pendingFrequencies[i], pendingGenerations[i]);
+        }
+    }
+
+    // 무효 항목을 버리고 pending 을 병합해 다시 압축
+    public void compact(LiveCheck liveCheck) {
+        int total = count + pendingCount;
+        long[] ids = new long[total];
+        int[] frequencies = new int[total];
+        int[] generations = new int[total];
+        int[] size = {0};
+        forEach((postId, frequency, generation) -> {
+            if (liveCheck.isLive(postId, generation)) {
+                ids[size[0]] = postId;
+                frequencies[size[0]] = frequency;
+                generations[size[0]] = generation;
+                size[0]++;
+            }
+        });
+
+        Integer[] order = new Integer[size[0]];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+
+        data = new byte[Math.max(16, length)];
+        length = 0;
+        count = 0;
+        lastId = 0;
+        pendingCount = 0;
+        pendingIds = new long[0];
+        pendingFrequencies = new int[0];
+        pendingGenerations = new int[0];
+        for (int index : order) {
+            append(ids[index], frequencies[index], generations[index]);
+        }
+    }
+
+    // 무효 항목 포함 전체 항목 수
+    public int size() {
+        return count + pendingCount;
+    }
+
+    // 압축 데이터 크기 (byte)
+    public int encodedBytes() {
+        return length;
+    }
+
+    private void append(long postId, int frequency, int generation) {
+        ensureCapacity(10 + 5 + 5);
+        writeVarLong(postId - lastId);
+        writeVarLong(frequency);
+        writeVarLong(generation);
+        lastId = postId;
+        count++;
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.apiece.twitter.search.domain;
+
+/**
+ * 검색 결과 한 건 - 게시글 ID 와 BM25 점수
+ */
+public record SearchHit(long postId, double score) {
+}
@@ -0,0 +1,68 @@
+package com.apiece.twitter.search.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * 글자/숫자가 이어진 구간을 단위로, 한글(및 한자·가나)은 2글자 단위(bigram), 그 외(영문·숫자)는 단어 단위로 자른다.
+ * 한 글자짜리 한글 구간은 그 글자 하나를 토큰으로 쓴다.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                i += Character.charCount(codePoint);
+                continue;
+            }
+            boolean cjk = isCjk(codePoint);
+            int start = i;
+            while (i < length) {
+                int next = normalized.codePointAt(i);
+                if (!Character.isLetterOrDigit(next) || isCjk(next) != cjk) {
+                    break;
+                }
+                i += Character.charCount(next);
+            }
+            String run = normalized.substring(start, i);
+            if (cjk) {
+                addBigrams(run, tokens);
+            } else {
+                tokens.add(run);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
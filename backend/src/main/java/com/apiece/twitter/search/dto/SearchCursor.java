@@ -0,0 +1,38 @@
+package com.apiece.twitter.search.dto;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 검색 커서 - 마지막으로 조회한 결과의 점수와 게시글 ID (점수는 double 비트 그대로 담아 정확히 비교한다)
+ */
+public record SearchCursor(double score, long postId) {
+
+    public static final SearchCursor FIRST = new SearchCursor(Double.POSITIVE_INFINITY, Long.MAX_VALUE);
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2)
+                .putLong(Double.doubleToLongBits(score))
+                .putLong(postId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES * 2) {
+                throw new IllegalArgumentException("cursor length");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new SearchCursor(Double.longBitsToDouble(buffer.getLong()), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.apiece.twitter.search.service;
+
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostUpdatedEvent;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.search.domain.PostingList;
+import com.apiece.twitter.search.domain.SearchHit;
+import com.apiece.twitter.search.domain.Tokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 본문 역색인 (메모리)
+ * 토큰별 PostingList 와 게시글별 (토큰 수, 세대) 를 들고, 작성/수정/삭제 이벤트로 증분 갱신한다.
+ * 수정은 세대를 올려 새 항목을 추가하고, 삭제는 게시글 정보만 지운다 - 이전 항목은 검색 시 걸러지고 compact 때 정리된다.
+ * 검색은 모든 토큰을 포함한 게시글(AND)만 BM25 로 점수를 매긴다. 기동 시 DB 를 ID 순으로 읽어 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 무효 항목이 이 개수 이상이고 유효 항목보다 많아지면 compact
+    private static final int COMPACT_MIN_STALE = 32;
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+
+    // 재구성 중 삭제된 게시글 (재구성이 삭제 전 데이터를 다시 넣지 않도록)
+    private final Set<Long> removedWhileRebuilding = new HashSet<>();
+    private boolean rebuilding;
+
+    private record Doc(int length, int generation) {
+    }
+
+    // 게시글 작성 커밋 후 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        Post post = event.post();
+        index(post.getId(), post.getContent());
+    }
+
+    // 게시글 수정 커밋 후 재색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        Post post = event.post();
+        index(post.getId(), post.getContent());
+    }
+
+    // 게시글 삭제 커밋 후 색인에서 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        remove(event.postId());
+    }
+
+    // 일괄 등록된 게시글 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsImported(PostsImportedEvent event) {
+        for (int i = 0; i < event.postIds().size(); i++) {
+            index(event.postIds().get(i), event.contents().get(i));
+        }
+    }
+
+    // 기동 후 DB 의 모든 게시글로 색인 재구성 (요청 처리와 분리해 비동기 실행)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        setRebuilding(true);
+        try {
+            long lastId = 0;
+            int indexed = 0;
+            List<Post> batch;
+            do {
+                batch = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Post post : batch) {
+                    if (indexIfAbsent(post.getId(), post.getContent())) {
+                        indexed++;
+                    }
+                    lastId = post.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            log.info("Search index rebuilt: {} posts, {} terms", indexed, termCount());
+        } finally {
+            setRebuilding(false);
+        }
+    }
+
+    // 게시글 색인 (이미 있으면 세대를 올려 재색인)
+    public void index(long postId, String content) {
+        lock.writeLock().lock();
+        try {
+            Doc previous = docs.get(postId);
+            int generation = previous == null ? 0 : previous.generation() + 1;
+            if (previous != null) {
+                totalLength -= previous.length();
+            }
+            addDocument(postId, content, generation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인에 없을 때만 추가 (재구성용 - 그 사이 이벤트로 들어온 최신 내용을 덮어쓰지 않는다)
+    public boolean indexIfAbsent(long postId, String content) {
+        lock.writeLock().lock();
+        try {
+            if (docs.containsKey(postId) || removedWhileRebuilding.contains(postId)) {
+                return false;
+            }
+            addDocument(postId, content, 0);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글 제거
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            Doc removed = docs.remove(postId);
+            if (removed != null) {
+                totalLength -= removed.length();
+            }
+            if (rebuilding) {
+                removedWhileRebuilding.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 - 질의의 모든 토큰을 포함한 게시글을 점수 내림차순(같으면 ID 내림차순)으로 반환
+     * (afterScore, afterId) 가 주어지면 그 다음 순위부터 limit 건
+     */
+    public List<SearchHit> search(String query, double afterScore, long afterId, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        List<String> staleTerms = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<String> ordered = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                ordered.add(term);
+            }
+            // 짧은 목록부터 교집합을 좁힌다
+            ordered.sort(Comparator.comparingInt(term -> postings.get(term).size()));
+
+            int documentCount = docs.size();
+            double averageLength = documentCount == 0 ? 1 : Math.max(1.0, (double) totalLength / documentCount);
+            Map<Long, Double> scores = null;
+            for (String term : ordered) {
+                Map<Long, Integer> frequencies = new HashMap<>();
+                Map<Long, Double> candidates = scores;
+                int[] stale = {0};
+                postings.get(term).forEach((postId, frequency, generation) -> {
+                    Doc doc = docs.get(postId);
+                    if (doc == null || doc.generation() != generation) {
+                        stale[0]++;
+                    } else if (candidates == null || candidates.containsKey(postId)) {
+                        frequencies.put(postId, frequency);
+                    }
+                });
+                int live = postings.get(term).size() - stale[0];
+                if (stale[0] >= COMPACT_MIN_STALE && stale[0] > live) {
+                    staleTerms.add(term);
+                }
+
+                double idf = Math.log(1 + (documentCount - live + 0.5) / (live + 0.5));
+                Map<Long, Double> next = new HashMap<>(frequencies.size() * 2);
+                for (Map.Entry<Long, Integer> entry : frequencies.entrySet()) {
+                    long postId = entry.getKey();
+                    int frequency = entry.getValue();
+                    double norm = K1 * (1 - B + B * docs.get(postId).length() / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                    next.put(postId, (candidates == null ? 0 : candidates.get(postId)) + score);
+                }
+                scores = next;
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                double score = entry.getValue();
+                long postId = entry.getKey();
+                if (score < afterScore || (score == afterScore && postId < afterId)) {
+                    hits.add(new SearchHit(postId, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        compact(staleTerms);
+
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(Comparator.comparingLong(SearchHit::postId).reversed()));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    // 색인된 게시글 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 토큰 수
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(long postId, String content, int generation) {
+        List<String> tokens = Tokenizer.tokenize(content);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new PostingList()).add(postId, frequency, generation));
+        docs.put(postId, new Doc(tokens.size(), generation));
+        totalLength += tokens.size();
+    }
+
+    // 무효 항목이 많은 토큰 목록 정리 (비게 되면 토큰 자체를 제거)
+    private void compact(List<String> terms) {
+        if (terms.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                list.compact((postId, generation) -> {
+                    Doc doc = docs.get(postId);
+                    return doc != null && doc.generation() == generation;
+                });
+                if (list.size() == 0) {
+                    postings.remove(term);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setRebuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = value;
+            removedWhileRebuilding.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.apiece.twitter.search.service;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import com.apiece.twitter.search.domain.SearchHit;
+import com.apiece.twitter.search.dto.SearchCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 검색 - 색인에서 순위를 구하고 해당 페이지의 게시글만 DB 에서 읽는다
+ */
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final AuthorProfileLoader authorProfileLoader;
+
+    // 검색 (커서 기반, 관련도순)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> search(String query, String cursor, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_QUERY);
+        }
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+
+        List<SearchHit> hits = postSearchIndex.search(query, searchCursor.score(), searchCursor.postId(), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> page = hasNext ? hits.subList(0, size) : hits;
+
+        Map<Long, Post> posts = new HashMap<>();
+        postRepository.findAllById(page.stream().map(SearchHit::postId).toList())
+                .forEach(post -> posts.put(post.getId(), post));
+        // 색인 반영 전에 삭제된 게시글은 건너뛴다
+        List<Post> pagePosts = page.stream()
+                .map(hit -> posts.get(hit.postId()))
+                .filter(post -> post != null)
+                .toList();
+        // 작성자 닉네임은 페이지 단위로 한 번에 조회
+        Map<Long, AuthorProfile> authors = authorProfileLoader.loadAll(pagePosts.stream().map(Post::getAuthorId).toList());
+        List<PostResponse> content = pagePosts.stream()
+                .map(post -> PostResponse.from(post).withAuthor(authors))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            SearchHit last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(last.score(), last.postId()).encode();
+        }
+        return new CursorResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,26 @@
+package com.apiece.twitter.timeline.config;
+
+import com.apiece.twitter.global.cache.CacheMetrics;
+import com.apiece.twitter.timeline.domain.TimelineBuffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TimelineProperties.class)
+public class TimelineConfig {
+
+    // 사용자 ID -> 홈 타임라인 링 버퍼 (최대 개수 제한, 오래 조회되지 않으면 제거)
+    @Bean
+    public Cache<Long, TimelineBuffer> homeTimelines(TimelineProperties timelineProperties, MeterRegistry meterRegistry) {
+        Cache<Long, TimelineBuffer> cache = Caffeine.newBuilder()
+                .maximumSize(timelineProperties.maxTimelines())
+                .expireAfterAccess(timelineProperties.expireAfterAccess())
+                .recordStats()
+                .build();
+        return CacheMetrics.monitor(meterRegistry, cache, "home-timelines");
+    }
+}
@@ -0,0 +1,28 @@
+package com.apiece.twitter.timeline.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 홈 타임라인 설정 (timeline.*)
+ *
+ * @param capacity          사용자별 타임라인에 보관할 최대 게시글 수
+ * @param fanOutThreshold   팔로워 수가 이 값을 넘는 작성자는 fan-out 대신 조회 시 pull
+ * @param maxTimelines      메모리에 유지할 최대 타임라인 수 (초과분은 다음 조회 시 DB 에서 재구성)
+ * @param expireAfterAccess 조회되지 않은 타임라인을 메모리에서 내리는 시간
+ */
+@ConfigurationProperties(prefix = "timeline")
+public record TimelineProperties(
+        int capacity,
+        int fanOutThreshold,
+        long maxTimelines,
+        Duration expireAfterAccess
+) {
+    public TimelineProperties {
+        capacity = capacity > 0 ? capacity : 800;
+        fanOutThreshold = fanOutThreshold > 0 ? fanOutThreshold : 10_000;
+        maxTimelines = maxTimelines > 0 ? maxTimelines : 100_000;
+        expireAfterAccess = expireAfterAccess != null ? expireAfterAccess : Duration.ofHours(1);
+    }
+}
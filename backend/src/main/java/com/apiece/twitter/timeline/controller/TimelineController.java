@@ -0,0 +1,43 @@
+package com.apiece.twitter.timeline.controller;
+
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.global.security.CustomUserDetails;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.timeline.service.HomeTimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Timeline", description = "타임라인 API")
+public class TimelineController {
+
+    private final HomeTimelineService homeTimelineService;
+
+    // 홈 타임라인 조회 API
+    @GetMapping("/api/timeline/home")
+    @Operation(summary = "홈 타임라인 조회", description = "본인과 팔로우 중인 사용자의 게시글을 최신순으로 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 페이지 크기")
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<PostResponse>>> getHomeTimeline(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(homeTimelineService.getHomeTimeline(userDetails.getUserId(), cursor, size)));
+    }
+}
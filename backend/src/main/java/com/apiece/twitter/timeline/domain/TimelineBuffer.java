@@ -0,0 +1,116 @@
+package com.apiece.twitter.timeline.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 홈 타임라인 - 게시글 ID 를 담는 고정 크기 링 버퍼
+ * ID 오름차순으로 유지하며, 가득 차면 가장 오래된(작은) ID 부터 밀려난다.
+ * fan-out 이 가상 스레드에서 실행될 수 있어 synchronized 대신 ReentrantLock 을 사용한다 (경합 시 캐리어 고정 방지).
+ */
+public class TimelineBuffer {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] ids;
+    private int head;
+    private int size;
+
+    public TimelineBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ids = new long[capacity];
+    }
+
+    // 게시글 ID 추가 (중복 무시, 대부분 최신 ID 라 끝에 붙는다)
+    public void add(long postId) {
+        lock.lock();
+        try {
+            addLocked(postId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // beforeId 보다 작은 ID 를 최신순으로 최대 limit 개 반환 - O(log n + limit)
+    public long[] readBefore(long beforeId, int limit) {
+        lock.lock();
+        try {
+            return readBeforeLocked(beforeId, limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return ids.length;
+    }
+
+    @Override
+    public String toString() {
+        return "TimelineBuffer" + Arrays.toString(readBefore(Long.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    private long[] readBeforeLocked(long beforeId, int limit) {
+        int index = indexOf(beforeId);
+        int end = index >= 0 ? index : -index - 1;
+        int count = Math.max(0, Math.min(limit, end));
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[physical(end - 1 - i)];
+        }
+        return result;
+    }
+
+    private void addLocked(long postId) {
+        int index = indexOf(postId);
+        if (index >= 0) {
+            return;
+        }
+        int insertion = -index - 1;
+        if (size == ids.length) {
+            if (insertion == 0) {
+                return;
+            }
+            head = (head + 1) % ids.length;
+            size--;
+            insertion--;
+        }
+        for (int i = size; i > insertion; i--) {
+            ids[physical(i)] = ids[physical(i - 1)];
+        }
+        ids[physical(insertion)] = postId;
+        size++;
+    }
+
+    // 논리 인덱스(오래된 순) 기준 이진 탐색, Arrays.binarySearch 와 같은 반환 규약
+    private int indexOf(long postId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = ids[physical(mid)];
+            if (value < postId) {
+                low = mid + 1;
+            } else if (value > postId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int physical(int logicalIndex) {
+        return (head + logicalIndex) % ids.length;
+    }
+}
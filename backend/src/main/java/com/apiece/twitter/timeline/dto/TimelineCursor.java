@@ -0,0 +1,32 @@
+package com.apiece.twitter.timeline.dto;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 홈 타임라인 커서 - 마지막으로 조회한 게시글 ID
+ */
+public record TimelineCursor(long beforeId) {
+
+    public static final TimelineCursor FIRST = new TimelineCursor(Long.MAX_VALUE);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(beforeId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new TimelineCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.apiece.twitter.timeline.service;
+
+import com.apiece.twitter.follow.event.FollowChangedEvent;
+import com.apiece.twitter.follow.repository.FollowRepository;
+import com.apiece.twitter.follow.service.FollowGraphService;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import com.apiece.twitter.timeline.config.TimelineProperties;
+import com.apiece.twitter.timeline.domain.TimelineBuffer;
+import com.apiece.twitter.timeline.dto.TimelineCursor;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 타임라인 (fan-out-on-write)
+ * 게시글 작성 시 팔로워들의 메모리 타임라인에 게시글 ID 를 밀어 넣고, 조회는 메모리에서 페이지 크기만큼만 읽는다.
+ * 팔로워가 많은 작성자는 fan-out 하지 않고 조회 시점에 DB 에서 당겨온다 (pull-on-read).
+ * 팔로워가 많은지는 상태로 들고 있지 않고 매번 팔로워 수로 판단한다 (재기동/다른 인스턴스와 관계없이 같은 결과).
+ */
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineService {
+
+    private final Cache<Long, TimelineBuffer> homeTimelines;
+    private final TimelineProperties timelineProperties;
+    private final FollowRepository followRepository;
+    private final FollowGraphService followGraphService;
+    private final PostRepository postRepository;
+    private final AuthorProfileLoader authorProfileLoader;
+
+    // 홈 타임라인 조회 (커서 기반, 최신순)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getHomeTimeline(Long userId, String cursor, int size) {
+        TimelineCursor timelineCursor = TimelineCursor.decode(cursor);
+        TimelineBuffer buffer = homeTimelines.get(userId, this::rebuild);
+
+        long[] pushed = buffer.readBefore(timelineCursor.beforeId(), size + 1);
+        long[] pulled = pullHighFollowerPosts(userId, timelineCursor.beforeId(), size + 1);
+        long[] ids = mergeDescending(pushed, pulled, size + 1);
+
+        boolean hasNext = ids.length > size;
+        List<Long> pageIds = Arrays.stream(ids, 0, Math.min(ids.length, size)).boxed().toList();
+
+        Map<Long, Post> posts = new HashMap<>();
+        postRepository.findAllById(pageIds).forEach(post -> posts.put(post.getId(), post));
+        // 삭제된 게시글은 건너뛴다
+        List<Post> pagePosts = pageIds.stream()
+                .map(posts::get)
+                .filter(post -> post != null)
+                .toList();
+        // 작성자 닉네임은 페이지 단위로 한 번에 조회
+        Map<Long, AuthorProfile> authors = authorProfileLoader.loadAll(pagePosts.stream().map(Post::getAuthorId).toList());
+        List<PostResponse> content = pagePosts.stream()
+                .map(post -> PostResponse.from(post).withAuthor(authors))
+                .toList();
+
+        String nextCursor = hasNext ? new TimelineCursor(pageIds.get(pageIds.size() - 1)).encode() : null;
+        return new CursorResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    // 게시글 작성 커밋 후 팔로워 타임라인으로 fan-out (요청 스레드와 분리해 비동기 실행)
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        Post post = event.post();
+        Long authorId = post.getAuthorId();
+        if (authorId == null) {
+            return;
+        }
+
+        push(authorId, post.getId());
+
+        // 팔로워 ID 는 fan-out 할 작성자만 읽는다
+        if (followGraphService.followerCount(authorId) > timelineProperties.fanOutThreshold()) {
+            return;
+        }
+        for (long followerId : followGraphService.followerIds(authorId)) {
+            push(followerId, post.getId());
+        }
+    }
+
+    // 팔로우 관계가 바뀌면 해당 사용자의 타임라인을 다음 조회 때 재구성
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        homeTimelines.invalidate(event.followerId());
+    }
+
+    // 메모리에 올라와 있는 타임라인에만 추가 (없으면 다음 조회 때 DB 에서 재구성되며 포함된다)
+    private void push(Long userId, long postId) {
+        homeTimelines.asMap().computeIfPresent(userId, (id, buffer) -> {
+            buffer.add(postId);
+            return buffer;
+        });
+    }
+
+    // 팔로우 중인 사용자 + 본인의 최신 게시글로 타임라인 재구성
+    private TimelineBuffer rebuild(Long userId) {
+        List<Long> authorIds = new ArrayList<>(followRepository.findFolloweeIds(userId));
+        authorIds.add(userId);
+
+        int capacity = timelineProperties.capacity();
+        List<Long> postIds = postRepository.findIdsByAuthorIds(authorIds, PageRequest.of(0, capacity));
+        TimelineBuffer buffer = new TimelineBuffer(capacity);
+        for (int i = postIds.size() - 1; i >= 0; i--) {
+            buffer.add(postIds.get(i));
+        }
+        return buffer;
+    }
+
+    // 팔로우 중인 고팔로워 작성자의 게시글을 조회 시점에 DB 에서 가져온다
+    private long[] pullHighFollowerPosts(Long userId, long beforeId, int limit) {
+        List<Long> authorIds = followGraphService.highFollowerFollowees(userId, timelineProperties.fanOutThreshold());
+        if (authorIds.isEmpty()) {
+            return new long[0];
+        }
+        return postRepository.findIdsByAuthorIdsBefore(authorIds, beforeId, PageRequest.of(0, limit)).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    // 내림차순 두 배열을 중복 없이 병합
+    static long[] mergeDescending(long[] left, long[] right, int limit) {
+        long[] merged = new long[Math.min(limit, left.length + right.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        long last = Long.MIN_VALUE;
+        while (k < merged.length && (i < left.length || j < right.length)) {
+            long next;
+            if (j >= right.length || (i < left.length && left[i] >= right[j])) {
+                next = left[i++];
+            } else {
+                next = right[j++];
+            }
+            if (k > 0 && next == last) {
+                continue;
+            }
+            merged[k++] = next;
+            last = next;
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+}
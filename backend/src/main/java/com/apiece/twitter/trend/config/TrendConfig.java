@@ -0,0 +1,18 @@
+package com.apiece.twitter.trend.config;
+
+import com.apiece.twitter.trend.domain.TrendTracker;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TrendProperties.class)
+public class TrendConfig {
+
+    // 해시태그 슬라이딩 윈도우 집계기 (메모리는 설정값으로 고정)
+    @Bean
+    public TrendTracker trendTracker(TrendProperties trendProperties) {
+        return new TrendTracker(trendProperties.bucket().toMillis(), trendProperties.bucketCount(),
+                trendProperties.sketchWidth(), trendProperties.sketchDepth(), trendProperties.topK());
+    }
+}
@@ -0,0 +1,36 @@
+package com.apiece.twitter.trend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 실시간 트렌드 설정 (trend.*)
+ *
+ * @param window      집계 구간 (이 시간 안에 쓰인 해시태그만 센다)
+ * @param bucket      구간을 나누는 단위 - 이 단위로 오래된 집계가 빠진다
+ * @param topK        노출할 트렌드 수
+ * @param sketchWidth count-min sketch 한 행의 카운터 수 (클수록 과대 추정이 줄어든다)
+ * @param sketchDepth count-min sketch 행(해시 함수) 수
+ */
+@ConfigurationProperties(prefix = "trend")
+public record TrendProperties(
+        Duration window,
+        Duration bucket,
+        int topK,
+        int sketchWidth,
+        int sketchDepth
+) {
+    public TrendProperties {
+        window = window != null ? window : Duration.ofHours(1);
+        bucket = bucket != null ? bucket : Duration.ofMinutes(1);
+        topK = topK > 0 ? topK : 10;
+        sketchWidth = sketchWidth > 0 ? sketchWidth : 2048;
+        sketchDepth = sketchDepth > 0 ? sketchDepth : 4;
+    }
+
+    // 구간을 이루는 버킷 수
+    public int bucketCount() {
+        return (int) Math.max(1, window.toMillis() / bucket.toMillis());
+    }
+}
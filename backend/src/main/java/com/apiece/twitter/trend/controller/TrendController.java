@@ -0,0 +1,33 @@
+package com.apiece.twitter.trend.controller;
+
+import com.apiece.twitter.global.response.ApiResponse;
+import com.apiece.twitter.trend.dto.TrendResponse;
+import com.apiece.twitter.trend.service.TrendService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Trend", description = "트렌드 API")
+public class TrendController {
+
+    private final TrendService trendService;
+
+    // 실시간 트렌드 조회 API
+    @GetMapping("/api/trends")
+    @Operation(summary = "실시간 트렌드 조회", description = "최근 집계 구간(기본 1시간)에 많이 쓰인 해시태그를 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponse<List<TrendResponse>>> getTrends() {
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(trendService.getTrends()));
+    }
+}
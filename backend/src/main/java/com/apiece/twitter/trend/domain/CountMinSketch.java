@@ -0,0 +1,63 @@
+package com.apiece.twitter.trend.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-min sketch - depth 개 행의 카운터 배열로 키별 빈도를 고정 메모리에 근사 집계한다.
+ * 추정치는 실제 값 이상이며(과대 추정만 있음), 같은 크기의 sketch 끼리 빼서 구간 합을 유지할 수 있다.
+ * thread-safe 하지 않다 (TrendTracker 가 락으로 보호).
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int[] counters;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = new int[width * depth];
+    }
+
+    public void add(long hash, int count) {
+        for (int row = 0; row < depth; row++) {
+            counters[index(hash, row)] += count;
+        }
+    }
+
+    public int estimate(long hash) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[index(hash, row)]);
+        }
+        return min;
+    }
+
+    // 다른 sketch 의 카운터를 뺀다 (같은 width/depth 여야 함)
+    public void subtract(CountMinSketch other) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] -= other.counters[i];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0);
+    }
+
+    // 키의 64비트 해시 (FNV-1a) - 행별 위치는 이 값을 둘로 나눈 이중 해싱으로 구한다
+    public static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+}
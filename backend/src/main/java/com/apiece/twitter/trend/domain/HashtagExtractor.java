@@ -0,0 +1,35 @@
+package com.apiece.twitter.trend.domain;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문에서 해시태그 추출 (#뒤의 글자/숫자/_ 연속, 소문자로 정규화, 게시글당 중복 제거)
+ */
+public final class HashtagExtractor {
+
+    public static final int MAX_TAG_LENGTH = 50;
+
+    private static final Pattern HASHTAG = Pattern.compile("#([\\p{L}\\p{N}_]+)");
+
+    private HashtagExtractor() {
+    }
+
+    public static Set<String> extract(String content) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (content == null) {
+            return tags;
+        }
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find()) {
+            String tag = matcher.group(1);
+            if (tag.length() <= MAX_TAG_LENGTH) {
+                tags.add(tag.toLowerCase(Locale.ROOT));
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,7 @@
+package com.apiece.twitter.trend.domain;
+
+/**
+ * 트렌드 한 건 - 해시태그와 집계 구간 내 (추정) 사용 횟수
+ */
+public record Trend(String tag, long count) {
+}
@@ -0,0 +1,159 @@
+package com.apiece.twitter.trend.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 해시태그 슬라이딩 윈도우 집계 (heavy hitter)
+ * 시간 버킷마다 count-min sketch 를 두고, 구간 전체 합계 sketch 에 더했다가 버킷이 구간을 벗어나면 빼낸다.
+ * 상위 후보는 최소 힙(고정 크기)으로만 추적하고, 정렬된 상위 topK 는 변경 시점에 미리 만들어 두어 조회는 참조 반환뿐이다.
+ * 메모리는 (버킷 수 + 1) x width x depth 카운터와 후보 수로 고정되며 태그 종류 수와 무관하다.
+ */
+public class TrendTracker {
+
+    // 추적할 후보 수 (topK 의 배수 - 경계에 걸친 태그가 밀려나지 않도록 여유를 둔다)
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private static final Comparator<Candidate> BY_COUNT = Comparator.comparingLong((Candidate c) -> c.count)
+            .thenComparing(c -> c.tag, Comparator.reverseOrder());
+
+    private final long bucketMillis;
+    private final int topK;
+    private final int candidateCapacity;
+
+    private final CountMinSketch[] buckets;
+    private final CountMinSketch window;
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(BY_COUNT);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile long currentBucket = Long.MIN_VALUE;
+    private volatile List<Trend> snapshot = List.of();
+
+    private static final class Candidate {
+        private final String tag;
+        private final long hash;
+        private long count;
+
+        private Candidate(String tag, long hash, long count) {
+            this.tag = tag;
+            this.hash = hash;
+            this.count = count;
+        }
+    }
+
+    public TrendTracker(long bucketMillis, int bucketCount, int sketchWidth, int sketchDepth, int topK) {
+        this.bucketMillis = bucketMillis;
+        this.topK = topK;
+        this.candidateCapacity = topK * CANDIDATE_FACTOR;
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(sketchWidth, sketchDepth);
+        }
+        this.window = new CountMinSketch(sketchWidth, sketchDepth);
+    }
+
+    // 해시태그 사용 기록
+    public void record(Collection<String> tags, long nowMillis) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            advance(nowMillis);
+            CountMinSketch bucket = buckets[slot(currentBucket)];
+            for (String tag : tags) {
+                long hash = CountMinSketch.hash(tag);
+                bucket.add(hash, 1);
+                window.add(hash, 1);
+                offer(tag, hash, window.estimate(hash));
+            }
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 구간의 상위 topK (버킷이 바뀌지 않았으면 미리 만든 목록을 그대로 반환)
+    public List<Trend> top(long nowMillis) {
+        if (Math.floorDiv(nowMillis, bucketMillis) != currentBucket) {
+            lock.lock();
+            try {
+                advance(nowMillis);
+                publish();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    // 현재 시각의 버킷까지 이동하며 구간을 벗어난 버킷을 합계에서 빼고 비운다, 이동했으면 후보 추정치를 다시 계산
+    private void advance(long nowMillis) {
+        long target = Math.floorDiv(nowMillis, bucketMillis);
+        if (currentBucket == Long.MIN_VALUE || target - currentBucket >= buckets.length) {
+            for (CountMinSketch bucket : buckets) {
+                bucket.clear();
+            }
+            window.clear();
+        } else if (target > currentBucket) {
+            for (long next = currentBucket + 1; next <= target; next++) {
+                CountMinSketch expired = buckets[slot(next)];
+                window.subtract(expired);
+                expired.clear();
+            }
+        } else {
+            return;
+        }
+        currentBucket = target;
+
+        heap.clear();
+        candidates.values().removeIf(candidate -> {
+            candidate.count = window.estimate(candidate.hash);
+            return candidate.count == 0;
+        });
+        heap.addAll(candidates.values());
+    }
+
+    // 후보 갱신 - 이미 후보면 추정치를 올리고, 아니면 자리가 있거나 최솟값보다 클 때 최솟값을 밀어내고 들어간다
+    private void offer(String tag, long hash, long count) {
+        Candidate candidate = candidates.get(tag);
+        if (candidate != null) {
+            heap.remove(candidate);
+            candidate.count = count;
+            heap.add(candidate);
+            return;
+        }
+        if (candidates.size() >= candidateCapacity) {
+            Candidate min = heap.peek();
+            if (min == null || min.count >= count) {
+                return;
+            }
+            heap.poll();
+            candidates.remove(min.tag);
+        }
+        candidate = new Candidate(tag, hash, count);
+        candidates.put(tag, candidate);
+        heap.add(candidate);
+    }
+
+    // 후보를 사용 횟수 내림차순(같으면 태그순)으로 정렬해 상위 topK 를 공개
+    private void publish() {
+        List<Trend> trends = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates.values()) {
+            trends.add(new Trend(candidate.tag, candidate.count));
+        }
+        trends.sort(Comparator.comparingLong(Trend::count).reversed().thenComparing(Trend::tag));
+        snapshot = List.copyOf(trends.subList(0, Math.min(topK, trends.size())));
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+}
@@ -0,0 +1,17 @@
+package com.apiece.twitter.trend.dto;
+
+import com.apiece.twitter.trend.domain.Trend;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "트렌드 응답")
+public record TrendResponse(
+        @Schema(description = "해시태그 (# 제외, 소문자)", example = "스프링")
+        String tag,
+
+        @Schema(description = "집계 구간 내 사용 횟수 (근사값, 실제 이상)", example = "42")
+        long count
+) {
+    public static TrendResponse from(Trend trend) {
+        return new TrendResponse(trend.tag(), trend.count());
+    }
+}
@@ -0,0 +1,47 @@
+package com.apiece.twitter.trend.service;
+
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import com.apiece.twitter.trend.domain.HashtagExtractor;
+import com.apiece.twitter.trend.domain.TrendTracker;
+import com.apiece.twitter.trend.dto.TrendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 실시간 트렌드 - 작성된 게시글의 해시태그를 슬라이딩 윈도우로 집계한다
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendService {
+
+    private final TrendTracker trendTracker;
+
+    // 트렌드 조회 (상위 topK, 사용 횟수 내림차순)
+    public List<TrendResponse> getTrends() {
+        return trendTracker.top(System.currentTimeMillis()).stream()
+                .map(TrendResponse::from)
+                .toList();
+    }
+
+    // 게시글 작성 커밋 후 해시태그 집계
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        record(event.post().getContent());
+    }
+
+    // 일괄 등록된 게시글의 해시태그 집계 (등록 시점 기준)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsImported(PostsImportedEvent event) {
+        event.contents().forEach(this::record);
+    }
+
+    private void record(String content) {
+        Set<String> tags = HashtagExtractor.extract(content);
+        trendTracker.record(tags, System.currentTimeMillis());
+    }
+}
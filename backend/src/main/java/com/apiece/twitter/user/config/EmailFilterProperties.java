@@ -0,0 +1,20 @@
+package com.apiece.twitter.user.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 가입 이메일 Bloom filter 설정 (user.email-filter.*)
+ *
+ * @param expectedInsertions 예상 가입자 수 - 넘어서면 오탐률이 목표보다 올라간다 (user.email.filter.fpp 지표로 확인)
+ * @param falsePositiveRate  목표 오탐률 (0~1, 오탐이면 기존처럼 중복 조회를 한 번 더 한다)
+ */
+@ConfigurationProperties(prefix = "user.email-filter")
+public record EmailFilterProperties(
+        long expectedInsertions,
+        double falsePositiveRate
+) {
+    public EmailFilterProperties {
+        expectedInsertions = expectedInsertions > 0 ? expectedInsertions : 1_000_000;
+        falsePositiveRate = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : 0.01;
+    }
+}
@@ -1,6 +1,7 @@
 package com.apiece.twitter.user.domain;
 
 import com.apiece.twitter.global.jpa.entity.BaseEntity;
+import com.apiece.twitter.global.jpa.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,10 @@
+package com.apiece.twitter.user.dto;
+
+/**
+ * 게시글 응답에 붙이는 작성자 프로필 (users 에서 id, nickname 만 읽는다)
+ */
+public record AuthorProfile(
+        Long id,
+        String nickname
+) {
+}
@@ -1,11 +1,15 @@
 package com.apiece.twitter.user.dto;
 
 import com.apiece.twitter.user.domain.User;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "사용자 응답")
 public record UserResponse(
-        @Schema(description = "사용자 ID", example = "1")
+        // 64비트 Snowflake ID 는 JS Number(2^53) 범위를 넘으므로 문자열로 직렬화
+        @Schema(description = "사용자 ID", type = "string", example = "1234567890123456789")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "이메일", example = "test@example.com")
@@ -0,0 +1,8 @@
+package com.apiece.twitter.user.event;
+
+/**
+ * 사용자 정보(비밀번호, 닉네임 등)가 생성/변경되었음을 알리는 이벤트
+ * 커밋 이후 인증 주체 캐시 등 사용자 정보를 들고 있는 곳에서 무효화에 사용한다.
+ */
+public record UserChangedEvent(String email) {
+}
@@ -1,8 +1,16 @@
 package com.apiece.twitter.user.repository;
 
 import com.apiece.twitter.user.domain.User;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +18,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 작성자 프로필 일괄 조회 (게시글 페이지의 작성자들을 IN 쿼리 한 번으로)
+    @Query("select new com.apiece.twitter.user.dto.AuthorProfile(u.id, u.nickname) from User u where u.id in :ids")
+    List<AuthorProfile> findProfilesByIdIn(@Param("ids") Collection<? extends Long> ids);
+
+    // id 오름차순 순회 (가입 이메일 필터 적재용, PK 범위 탐색)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 비밀번호 해시 교체 - 읽은 뒤 다른 곳에서 바뀌었으면 덮어쓰지 않는다 (변경된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,70 @@
+package com.apiece.twitter.user.service;
+
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 작성자 프로필 일괄 로더
+ * 한 페이지의 작성자 ID 를 모아 캐시에 없는 것만 IN 쿼리 한 번으로 읽는다 - 페이지 크기와 무관하게 페이지당 쿼리는 최대 1회.
+ * 요청 처리 중이면 읽은 프로필을 요청 속성에 담아 같은 요청 안에서는 다시 찾지 않는다 (요청 범위).
+ * 요청 밖(비동기 작업 등)에서는 공유 캐시만 쓰며, 공유 캐시는 짧게 유지해 닉네임 변경을 곧 따라간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorProfileLoader {
+
+    private static final String REQUEST_ATTRIBUTE = AuthorProfileLoader.class.getName() + ".profiles";
+
+    private final Cache<Long, AuthorProfile> authorProfileCache;
+    private final UserRepository userRepository;
+
+    // 작성자 ID -> 프로필 (null ID 는 무시, 없는 사용자는 결과에 없다)
+    public Map<Long, AuthorProfile> loadAll(Collection<Long> authorIds) {
+        Map<Long, AuthorProfile> profiles = requestProfiles();
+        List<Long> missing = authorIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !profiles.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            profiles.putAll(authorProfileCache.getAll(missing, this::query));
+        }
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    // 캐시 미스인 ID 들을 IN 쿼리 한 번으로 조회
+    private Map<Long, AuthorProfile> query(Set<? extends Long> authorIds) {
+        return userRepository.findProfilesByIdIn(authorIds).stream()
+                .collect(Collectors.toMap(AuthorProfile::id, Function.identity()));
+    }
+
+    // 요청 중이면 요청 속성의 맵, 아니면 이번 호출용 맵
+    @SuppressWarnings("unchecked")
+    private static Map<Long, AuthorProfile> requestProfiles() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+        Map<Long, AuthorProfile> profiles = (Map<Long, AuthorProfile>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (profiles == null) {
+            profiles = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, profiles, RequestAttributes.SCOPE_REQUEST);
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,100 @@
+package com.apiece.twitter.user.service;
+
+import com.apiece.twitter.user.config.EmailFilterProperties;
+import com.apiece.twitter.user.domain.BloomFilter;
+import com.apiece.twitter.user.domain.User;
+import com.apiece.twitter.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가입된 이메일 Bloom filter - 필터에 없는 이메일은 확실히 새 이메일이므로 가입 시 중복 조회를 건너뛴다.
+ * 기동 후 users 를 ID 순으로 읽어 채우고(그 전까지는 항상 DB 조회), 가입할 때마다 추가한다.
+ * 다른 인스턴스에서 가입한 이메일은 이 필터에 없으므로 최종 판정은 users.email unique 제약이 한다 (AuthService).
+ * MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 넣고 찾는다.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private volatile boolean loaded;
+
+    private final Counter skippedCounter;
+    private final Counter duplicateCounter;
+    private final Counter falsePositiveCounter;
+
+    public RegisteredEmailFilter(UserRepository userRepository, EmailFilterProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(properties.expectedInsertions(), properties.falsePositiveRate());
+        Gauge.builder("user.email.filter.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+                .description("Expected false-positive rate of the registered email filter")
+                .register(meterRegistry);
+        Gauge.builder("user.email.filter.bytes", filter, f -> f.bitSize() / 8.0)
+                .description("Memory used by the registered email filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.skippedCounter = meterRegistry.counter("user.email.filter.checks", "result", "new");
+        this.duplicateCounter = meterRegistry.counter("user.email.filter.checks", "result", "duplicate");
+        this.falsePositiveCounter = meterRegistry.counter("user.email.filter.checks", "result", "false_positive");
+    }
+
+    // 가입된 이메일인지 - 필터에 없으면 조회 없이 false, 있을 수 있으면 DB 로 확인 (확인 결과로 실제 오탐 수를 센다)
+    public boolean exists(String email) {
+        if (loaded && !filter.mightContain(key(email))) {
+            skippedCounter.increment();
+            return false;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        if (loaded) {
+            (exists ? duplicateCounter : falsePositiveCounter).increment();
+        }
+        return exists;
+    }
+
+    // 가입된 이메일 추가 (가입 저장 후, 또는 unique 제약에 걸린 이메일)
+    public void add(String email) {
+        filter.put(key(email));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 기동 후 가입된 모든 이메일로 필터 채우기 (요청 처리와 분리해 비동기 실행)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0;
+        long count = 0;
+        List<User> batch;
+        do {
+            batch = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (User user : batch) {
+                add(user.getEmail());
+                lastId = user.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        loaded = true;
+        log.info("Registered email filter loaded: {} emails, {} KiB, expected fpp {}",
+                count, filter.bitSize() / 8 / 1024, String.format("%.4f", filter.expectedFalsePositiveRate()));
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
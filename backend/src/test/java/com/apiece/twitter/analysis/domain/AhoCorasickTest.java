@@ -0,0 +1,52 @@
+package com.apiece.twitter.analysis.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AhoCorasick 테스트")
+class AhoCorasickTest {
+
+    @Test
+    @DisplayName("겹치거나 다른 키워드 안에 포함된 키워드까지 한 번의 순회로 모두 찾는다")
+    void scan_overlapping() {
+        // given
+        Map<String, List<String>> patterns = new LinkedHashMap<>();
+        patterns.put("he", List.of("he"));
+        patterns.put("she", List.of("she"));
+        patterns.put("his", List.of("his"));
+        patterns.put("hers", List.of("hers"));
+        AhoCorasick<String> automaton = AhoCorasick.compile(patterns);
+
+        // when
+        List<String> found = new ArrayList<>();
+        automaton.scan("ushers", found::add);
+
+        // then
+        assertThat(found).containsExactly("she", "he", "hers");
+    }
+
+    @Test
+    @DisplayName("한글 키워드, 반복 출현, 같은 키워드의 여러 값")
+    void scan_korean() {
+        // given
+        Map<String, List<Integer>> patterns = new LinkedHashMap<>();
+        patterns.put("최고", List.of(1, 2));
+        patterns.put("고", List.of(3));
+        AhoCorasick<Integer> automaton = AhoCorasick.compile(patterns);
+
+        // when
+        List<Integer> found = new ArrayList<>();
+        automaton.scan("최고최고", found::add);
+
+        // then
+        assertThat(found).containsExactly(1, 2, 3, 1, 2, 3);
+        assertThat(automaton.size()).isEqualTo(4);
+    }
+}
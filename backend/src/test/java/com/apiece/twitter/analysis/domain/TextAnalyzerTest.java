@@ -0,0 +1,52 @@
+package com.apiece.twitter.analysis.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextAnalyzer 테스트")
+class TextAnalyzerTest {
+
+    // ai/scripts/export_analysis_fixtures.py 가 AI 서비스 결과로 만든 입력/기대값
+    private record Fixture(String content, String sentiment, double score, String emoji, List<String> hashtags) {
+    }
+
+    @Test
+    @DisplayName("공유 fixture 전체에서 AI 서비스와 같은 감정/점수/해시태그")
+    void analyze_matchesAiService() throws IOException {
+        // given
+        List<Fixture> fixtures;
+        try (InputStream in = getClass().getResourceAsStream("/analysis/fixtures.json")) {
+            fixtures = new ObjectMapper().readValue(in, new TypeReference<>() {
+            });
+        }
+
+        // when & then
+        assertThat(fixtures).isNotEmpty();
+        for (Fixture fixture : fixtures) {
+            Analysis analysis = TextAnalyzer.analyze(fixture.content());
+            assertThat(analysis.sentiment().getValue()).as(fixture.content()).isEqualTo(fixture.sentiment());
+            assertThat(analysis.sentiment().getEmoji()).as(fixture.content()).isEqualTo(fixture.emoji());
+            assertThat(analysis.score()).as(fixture.content()).isEqualTo(fixture.score());
+            // Python 은 set 순서라 순서는 비교하지 않는다
+            assertThat(analysis.hashtags()).as(fixture.content()).containsExactlyInAnyOrderElementsOf(fixture.hashtags());
+        }
+    }
+
+    @Test
+    @DisplayName("해시태그 추천은 본문 태그 출현 순, 키워드 태그 정의 순으로 최대 5개")
+    void analyze_hashtagLimit() {
+        // when
+        Analysis analysis = TextAnalyzer.analyze("#a #b #c 날씨 커피 여행");
+
+        // then
+        assertThat(analysis.hashtags()).containsExactly("a", "b", "c", "날씨", "음식");
+    }
+}
@@ -0,0 +1,178 @@
+package com.apiece.twitter.auth.service;
+
+import com.apiece.twitter.auth.dto.LoginRequest;
+import com.apiece.twitter.auth.dto.SignUpRequest;
+import com.apiece.twitter.auth.dto.TokenResponse;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.global.security.PasswordHasher;
+import com.apiece.twitter.global.security.jwt.JwtTokenProvider;
+import com.apiece.twitter.user.domain.User;
+import com.apiece.twitter.user.event.UserChangedEvent;
+import com.apiece.twitter.user.repository.UserRepository;
+import com.apiece.twitter.user.service.RegisteredEmailFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService 테스트")
+class AuthServiceTest {
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    private final User user = User.builder()
+            .email("test@example.com")
+            .password("$2a$10$legacy")
+            .nickname("테스터")
+            .build();
+
+    private final SignUpRequest signUpRequest = new SignUpRequest("test@example.com", "password123", "테스터");
+
+    @Test
+    @DisplayName("회원가입 - 필터에 없는 이메일은 중복 조회 없이 저장")
+    void signUp_NewEmail() {
+        // given
+        given(registeredEmailFilter.exists("test@example.com")).willReturn(false);
+        given(passwordHasher.encode("password123")).willReturn("{bcrypt}hash");
+        given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        authService.signUp(signUpRequest);
+
+        // then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(registeredEmailFilter).add("test@example.com");
+        verify(eventPublisher).publishEvent(new UserChangedEvent("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("회원가입 - 가입된 이메일")
+    void signUp_DuplicateEmail() {
+        // given
+        given(registeredEmailFilter.exists("test@example.com")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signUp(signUpRequest))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_EMAIL));
+        verify(passwordHasher, never()).encode(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 - 저장 중 unique 제약 위반은 이메일 중복으로 응답")
+    void signUp_UniqueViolation() {
+        // given
+        given(registeredEmailFilter.exists("test@example.com")).willReturn(false);
+        given(passwordHasher.encode("password123")).willReturn("{bcrypt}hash");
+        given(userRepository.saveAndFlush(any(User.class))).willThrow(new DataIntegrityViolationException("uk_users_email"));
+        given(userRepository.existsByEmail("test@example.com")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signUp(signUpRequest))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_EMAIL));
+        verify(registeredEmailFilter).add("test@example.com");
+        verify(eventPublisher, never()).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("로그인 - 현재 정책의 해시면 다시 해싱하지 않음")
+    void login_CurrentEncoding() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("password123", "$2a$10$legacy")).willReturn(true);
+        given(passwordHasher.upgradeEncoding("$2a$10$legacy")).willReturn(false);
+        given(jwtTokenProvider.createAccessToken("test@example.com")).willReturn("token");
+
+        // when
+        TokenResponse response = authService.login(new LoginRequest("test@example.com", "password123"));
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("token");
+        verify(passwordHasher, never()).encode(any());
+        verify(userRepository, never()).updatePassword(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 - 해시 정책이 바뀌었으면 새 해시로 교체하고 인증 캐시 무효화")
+    void login_Rehash() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("password123", "$2a$10$legacy")).willReturn(true);
+        given(passwordHasher.upgradeEncoding("$2a$10$legacy")).willReturn(true);
+        given(passwordHasher.encode("password123")).willReturn("{bcrypt}$2a$12$new");
+        given(userRepository.updatePassword(user.getId(), "$2a$10$legacy", "{bcrypt}$2a$12$new")).willReturn(1);
+        given(jwtTokenProvider.createAccessToken("test@example.com")).willReturn("token");
+
+        // when
+        authService.login(new LoginRequest("test@example.com", "password123"));
+
+        // then
+        verify(userRepository).updatePassword(user.getId(), "$2a$10$legacy", "{bcrypt}$2a$12$new");
+        verify(eventPublisher).publishEvent(new UserChangedEvent("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("로그인 - 다시 해싱이 거절돼도 로그인은 성공")
+    void login_RehashRejected() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("password123", "$2a$10$legacy")).willReturn(true);
+        given(passwordHasher.upgradeEncoding("$2a$10$legacy")).willReturn(true);
+        given(passwordHasher.encode("password123")).willThrow(new BusinessException(ErrorCode.AUTH_BUSY));
+        given(jwtTokenProvider.createAccessToken("test@example.com")).willReturn("token");
+
+        // when
+        TokenResponse response = authService.login(new LoginRequest("test@example.com", "password123"));
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("token");
+        verify(userRepository, never()).updatePassword(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호 불일치")
+    void login_InvalidPassword() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("wrong", "$2a$10$legacy")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("test@example.com", "wrong")))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_PASSWORD));
+        verify(passwordHasher, never()).upgradeEncoding(any());
+    }
+}
@@ -0,0 +1,187 @@
+package com.apiece.twitter.engagement.service;
+
+import com.apiece.twitter.engagement.config.EngagementProperties;
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import com.apiece.twitter.engagement.domain.EngagementType;
+import com.apiece.twitter.engagement.repository.EngagementCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementCounter 테스트")
+class EngagementCounterTest {
+
+    @Mock
+    private EngagementCountRepository engagementCountRepository;
+
+    private EngagementCounter engagementCounter;
+
+    @BeforeEach
+    void setUp() {
+        engagementCounter = new EngagementCounter(engagementCountRepository,
+                new EngagementProperties(Duration.ofSeconds(1), 10_000), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("증감은 반영 전까지 조회에 보이고, 반영하면 게시글별 합계를 한 번에 넘긴다")
+    @SuppressWarnings("unchecked")
+    void flush_batchesDeltas() {
+        // given
+        engagementCounter.add(2L, EngagementType.LIKE, 1);
+        engagementCounter.add(2L, EngagementType.LIKE, 1);
+        engagementCounter.add(2L, EngagementType.REPOST, 1);
+        engagementCounter.add(1L, EngagementType.LIKE, 1);
+        engagementCounter.add(1L, EngagementType.LIKE, -1);
+        assertThat(engagementCounter.pending(2L)).isEqualTo(new EngagementCounts(2, 1));
+
+        // when
+        engagementCounter.flush();
+
+        // then - 합이 0 인 게시글은 UPDATE 하지 않는다
+        ArgumentCaptor<Map<Long, EngagementCounts>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(engagementCountRepository).addAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(Map.entry(2L, new EngagementCounts(2, 1)));
+        assertThat(engagementCounter.pending(2L)).isEqualTo(EngagementCounts.ZERO);
+    }
+
+    @Test
+    @DisplayName("쌓인 증감이 없으면 UPDATE 하지 않는다")
+    void flush_empty() {
+        // when
+        engagementCounter.flush();
+
+        // then
+        verify(engagementCountRepository, never()).addAll(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 증감을 되돌려 쌓고 다음 반영 때 다시 보낸다")
+    @SuppressWarnings("unchecked")
+    void flush_failureRetried() {
+        // given
+        engagementCounter.add(1L, EngagementType.LIKE, 3);
+        willThrow(new QueryTimeoutException("timeout")).willAnswer(invocation -> null)
+                .given(engagementCountRepository).addAll(anyMap());
+
+        // when
+        engagementCounter.flush();
+        engagementCounter.add(1L, EngagementType.LIKE, 1);
+        engagementCounter.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, EngagementCounts>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(engagementCountRepository, times(2)).addAll(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactly(Map.entry(1L, new EngagementCounts(4, 0)));
+    }
+
+    @Test
+    @DisplayName("반영이 커밋된 뒤 flushing 을 비우기 전에 조회해도 증감을 두 번 더하지 않는다")
+    void counts_duringFlush() throws Exception {
+        // given - 저장된 수는 10, 반영은 커밋까지 한 뒤 멈춘다
+        AtomicReference<EngagementCounts> stored = new AtomicReference<>(new EngagementCounts(10, 0));
+        given(engagementCountRepository.findCounts(2L)).willAnswer(invocation -> Optional.of(stored.get()));
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            Map<Long, EngagementCounts> deltas = invocation.getArgument(0);
+            stored.updateAndGet(counts -> counts.plus(deltas.get(2L)));
+            committed.countDown();
+            resume.await();
+            return null;
+        }).given(engagementCountRepository).addAll(anyMap());
+        engagementCounter.add(2L, EngagementType.LIKE, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<?> flush = executor.submit(engagementCounter::flush);
+        committed.await();
+        Future<Optional<EngagementCounts>> read = executor.submit(() -> engagementCounter.counts(2L));
+        Thread.sleep(100);
+        boolean readDoneBeforeFlush = read.isDone();
+        resume.countDown();
+        flush.get();
+        executor.shutdown();
+
+        // then - 반영이 끝날 때까지 기다렸다가 저장된 수만 본다 (12, 14 가 아님)
+        assertThat(readDoneBeforeFlush).isFalse();
+        assertThat(read.get()).contains(new EngagementCounts(12, 0));
+        assertThat(engagementCounter.counts(2L)).contains(new EngagementCounts(12, 0));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 더하는 동안 반복 반영해도 증감이 빠지거나 두 번 세지지 않는다")
+    void add_concurrentWithFlush() throws Exception {
+        // given - 반영된 증감을 게시글별로 합산
+        Map<Long, Long> persisted = new ConcurrentHashMap<>();
+        willAnswer(invocation -> {
+            Map<Long, EngagementCounts> deltas = invocation.getArgument(0);
+            deltas.forEach((postId, delta) -> persisted.merge(postId, delta.likes(), Long::sum));
+            return null;
+        }).given(engagementCountRepository).addAll(anyMap());
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+
+        // when - 게시글 3개에 몰아서 더하는 동안 다른 스레드가 계속 반영
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    engagementCounter.add((long) (i % 3), EngagementType.LIKE, 1);
+                }
+                return null;
+            }));
+        }
+        Thread flusher = new Thread(() -> {
+            while (adding.get()) {
+                engagementCounter.flush();
+            }
+        });
+        flusher.start();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        adding.set(false);
+        flusher.join();
+        engagementCounter.flush();
+        executor.shutdown();
+
+        // then
+        long total = persisted.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * perThread);
+        assertThat(engagementCounter.pending(0L)).isEqualTo(EngagementCounts.ZERO);
+    }
+}
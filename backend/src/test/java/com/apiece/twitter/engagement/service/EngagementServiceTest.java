@@ -0,0 +1,134 @@
+package com.apiece.twitter.engagement.service;
+
+import com.apiece.twitter.engagement.domain.Engagement;
+import com.apiece.twitter.engagement.domain.EngagementCounts;
+import com.apiece.twitter.engagement.domain.EngagementType;
+import com.apiece.twitter.engagement.dto.EngagementResponse;
+import com.apiece.twitter.engagement.repository.EngagementRepository;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementService 테스트")
+class EngagementServiceTest {
+
+    @InjectMocks
+    private EngagementService engagementService;
+
+    @Mock
+    private EngagementRepository engagementRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private EngagementCounter engagementCounter;
+
+    @Test
+    @DisplayName("좋아요 - 처음이면 기록하고 +1")
+    void like_Success() {
+        // given
+        given(postRepository.existsById(10L)).willReturn(true);
+        given(engagementRepository.existsByUserIdAndPostIdAndType(1L, 10L, EngagementType.LIKE)).willReturn(false);
+
+        // when
+        engagementService.like(1L, 10L);
+
+        // then
+        verify(engagementRepository).saveAndFlush(any(Engagement.class));
+        verify(engagementCounter).add(10L, EngagementType.LIKE, 1);
+    }
+
+    @Test
+    @DisplayName("좋아요 - 이미 좋아요한 게시글이면 아무것도 바꾸지 않는다")
+    void like_AlreadyLiked() {
+        // given
+        given(postRepository.existsById(10L)).willReturn(true);
+        given(engagementRepository.existsByUserIdAndPostIdAndType(1L, 10L, EngagementType.LIKE)).willReturn(true);
+
+        // when
+        engagementService.like(1L, 10L);
+
+        // then
+        verify(engagementRepository, never()).saveAndFlush(any(Engagement.class));
+        verify(engagementCounter, never()).add(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 - 동시에 같은 요청이 먼저 저장되면 세지 않는다")
+    void like_ConcurrentDuplicate() {
+        // given
+        given(postRepository.existsById(10L)).willReturn(true);
+        given(engagementRepository.existsByUserIdAndPostIdAndType(1L, 10L, EngagementType.LIKE)).willReturn(false);
+        given(engagementRepository.saveAndFlush(any(Engagement.class)))
+                .willThrow(new DataIntegrityViolationException("uk_engagements_user_post_type"));
+
+        // when
+        engagementService.like(1L, 10L);
+
+        // then
+        verify(engagementCounter, never()).add(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 - 존재하지 않는 게시글")
+    void like_PostNotFound() {
+        // given
+        given(postRepository.existsById(10L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> engagementService.like(1L, 10L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_POST));
+    }
+
+    @Test
+    @DisplayName("리포스트 취소 - 기록이 지워졌을 때만 -1")
+    void unrepost() {
+        // given
+        given(engagementRepository.deleteByUserIdAndPostIdAndType(1L, 10L, EngagementType.REPOST)).willReturn(1, 0);
+
+        // when
+        engagementService.unrepost(1L, 10L);
+        engagementService.unrepost(1L, 10L);
+
+        // then
+        verify(engagementCounter).add(10L, EngagementType.REPOST, -1);
+    }
+
+    @Test
+    @DisplayName("반응 현황 - 저장된 수에 반영 대기 증감을 더한다")
+    void getEngagement() {
+        // given
+        given(engagementCounter.counts(10L)).willReturn(Optional.of(new EngagementCounts(103, 4)));
+        given(engagementRepository.findTypes(1L, 10L)).willReturn(List.of(EngagementType.LIKE));
+
+        // when
+        EngagementResponse response = engagementService.getEngagement(10L, 1L);
+
+        // then
+        assertThat(response.likeCount()).isEqualTo(103);
+        assertThat(response.repostCount()).isEqualTo(4);
+        assertThat(response.liked()).isTrue();
+        assertThat(response.reposted()).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.apiece.twitter.enrichment.repository;
+
+import com.apiece.twitter.analysis.domain.Sentiment;
+import com.apiece.twitter.enrichment.domain.EnrichmentResult;
+import com.apiece.twitter.enrichment.domain.EnrichmentTask;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PostEnrichmentRepository.class)
+@DisplayName("PostEnrichmentRepository 테스트")
+class PostEnrichmentRepositoryTest {
+
+    @Autowired
+    private PostEnrichmentRepository postEnrichmentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("분석 결과 일괄 저장 - 본문이 그대로인 게시글만 갱신")
+    void updateAll() {
+        // given
+        Post kept = postRepository.save(Post.builder().content("오늘 최고").author("홍길동").build());
+        Post edited = postRepository.save(Post.builder().content("수정 후").author("홍길동").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        postEnrichmentRepository.updateAll(List.of(
+                new EnrichmentResult(kept.getId(), "오늘 최고", Sentiment.POSITIVE, 1.0, "일상"),
+                new EnrichmentResult(edited.getId(), "수정 전", Sentiment.NEUTRAL, 0.5, "")
+        ));
+
+        // then
+        Post keptAfter = postRepository.findById(kept.getId()).orElseThrow();
+        assertThat(keptAfter.getSentiment()).isEqualTo(Sentiment.POSITIVE);
+        assertThat(keptAfter.getSentimentScore()).isEqualTo(1.0);
+        assertThat(keptAfter.getHashtags()).isEqualTo("일상");
+        assertThat(postRepository.findById(edited.getId()).orElseThrow().getSentiment()).isNull();
+    }
+
+    @Test
+    @DisplayName("미분석 게시글 조회 - afterId 이후를 id 오름차순으로")
+    void findPending() {
+        // given
+        Post first = postRepository.save(Post.builder().content("첫 번째").author("홍길동").build());
+        Post second = postRepository.save(Post.builder().content("두 번째").author("홍길동").build());
+        Post third = postRepository.save(Post.builder().content("세 번째").author("홍길동").build());
+        entityManager.flush();
+        postEnrichmentRepository.updateAll(List.of(
+                new EnrichmentResult(second.getId(), "두 번째", Sentiment.NEUTRAL, 0.5, "")));
+
+        // when
+        List<EnrichmentTask> pending = postEnrichmentRepository.findPending(0, 3, 10);
+        List<EnrichmentTask> afterFirst = postEnrichmentRepository.findPending(first.getId(), 3, 10);
+
+        // then
+        assertThat(pending).containsExactly(
+                new EnrichmentTask(first.getId(), "첫 번째"),
+                new EnrichmentTask(third.getId(), "세 번째"));
+        assertThat(afterFirst).extracting(EnrichmentTask::postId).containsExactly(third.getId());
+    }
+
+    @Test
+    @DisplayName("미분석 게시글 조회 - 저장 실패가 maxAttempts 에 닿은 게시글은 건너뛴다")
+    void findPending_SkipsFailedPosts() {
+        // given
+        Post failing = postRepository.save(Post.builder().content("실패").author("홍길동").build());
+        Post retried = postRepository.save(Post.builder().content("재시도").author("홍길동").build());
+        entityManager.flush();
+        postEnrichmentRepository.markFailed(failing.getId());
+        postEnrichmentRepository.markFailed(failing.getId());
+        postEnrichmentRepository.markFailed(retried.getId());
+
+        // when
+        List<EnrichmentTask> pending = postEnrichmentRepository.findPending(0, 2, 10);
+
+        // then
+        assertThat(pending).extracting(EnrichmentTask::postId).containsExactly(retried.getId());
+    }
+
+    @Test
+    @DisplayName("게시글 하나 갱신 - 본문이 바뀌었으면 갱신하지 않는다")
+    void update() {
+        // given
+        Post post = postRepository.save(Post.builder().content("오늘 최고").author("홍길동").build());
+        entityManager.flush();
+
+        // when
+        int updated = postEnrichmentRepository.update(
+                new EnrichmentResult(post.getId(), "오늘 최고", Sentiment.POSITIVE, 1.0, "일상"));
+        int stale = postEnrichmentRepository.update(
+                new EnrichmentResult(post.getId(), "수정 전", Sentiment.NEGATIVE, 0.0, ""));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(stale).isZero();
+    }
+}
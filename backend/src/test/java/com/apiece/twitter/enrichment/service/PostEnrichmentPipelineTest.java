@@ -0,0 +1,156 @@
+package com.apiece.twitter.enrichment.service;
+
+import com.apiece.twitter.analysis.domain.Sentiment;
+import com.apiece.twitter.enrichment.config.EnrichmentProperties;
+import com.apiece.twitter.enrichment.domain.EnrichmentResult;
+import com.apiece.twitter.enrichment.domain.EnrichmentTask;
+import com.apiece.twitter.enrichment.repository.PostEnrichmentRepository;
+import com.apiece.twitter.post.event.PostsEnrichedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostEnrichmentPipeline 테스트")
+class PostEnrichmentPipelineTest {
+
+    private PostEnrichmentPipeline pipeline;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private PostEnrichmentRepository postEnrichmentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 작업 스레드는 시작하지 않는다 (start 미호출)
+        pipeline = new PostEnrichmentPipeline(postEnrichmentRepository, eventPublisher,
+                new EnrichmentProperties(2, 1, 10, 3), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 버린다")
+    void enqueue_dropsWhenFull() {
+        // when
+        boolean first = pipeline.enqueue(new EnrichmentTask(1, "a"));
+        boolean second = pipeline.enqueue(new EnrichmentTask(2, "b"));
+        boolean third = pipeline.enqueue(new EnrichmentTask(3, "c"));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(pipeline.queueSize()).isEqualTo(2);
+        assertThat(meterRegistry.counter("enrichment.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 처리 - 분석 결과를 한 번에 저장하고 반영 이벤트 발행")
+    @SuppressWarnings("unchecked")
+    void process() {
+        // when
+        pipeline.process(List.of(
+                new EnrichmentTask(1, "오늘 날씨 최고"),
+                new EnrichmentTask(2, "진짜 최악")));
+
+        // then
+        ArgumentCaptor<List<EnrichmentResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postEnrichmentRepository).updateAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new EnrichmentResult(1, "오늘 날씨 최고", Sentiment.POSITIVE, 1.0, "날씨,일상"),
+                new EnrichmentResult(2, "진짜 최악", Sentiment.NEGATIVE, 0.0, ""));
+        verify(eventPublisher).publishEvent(new PostsEnrichedEvent(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("게시글 하나 저장 실패 시 실패 횟수를 올리고 반영 이벤트를 발행하지 않는다")
+    void process_failure() {
+        // given
+        willThrow(new QueryTimeoutException("timeout")).given(postEnrichmentRepository).updateAll(anyList());
+
+        // when
+        pipeline.process(List.of(new EnrichmentTask(1, "a")));
+
+        // then
+        verify(postEnrichmentRepository, never()).update(any());
+        verify(postEnrichmentRepository).markFailed(1);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(meterRegistry.counter("enrichment.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 시 게시글별로 다시 저장 - 실패한 게시글만 실패 횟수를 올리고 나머지는 반영")
+    void process_retriesOneByOne() {
+        // given
+        willThrow(new DataIntegrityViolationException("batch")).given(postEnrichmentRepository).updateAll(anyList());
+        given(postEnrichmentRepository.update(any())).willAnswer(invocation -> {
+            EnrichmentResult result = invocation.getArgument(0);
+            if (result.postId() == 2) {
+                throw new DataIntegrityViolationException("row");
+            }
+            return 1;
+        });
+
+        // when
+        pipeline.process(List.of(
+                new EnrichmentTask(1, "오늘 날씨 최고"),
+                new EnrichmentTask(2, "진짜 최악"),
+                new EnrichmentTask(3, "그냥 그래")));
+
+        // then
+        verify(postEnrichmentRepository, times(3)).update(any());
+        verify(postEnrichmentRepository).markFailed(2);
+        verify(postEnrichmentRepository, never()).markFailed(1);
+        verify(postEnrichmentRepository, never()).markFailed(3);
+        verify(eventPublisher).publishEvent(new PostsEnrichedEvent(List.of(1L, 3L)));
+        assertThat(meterRegistry.counter("enrichment.enriched").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 횟수 표시까지 실패해도(DB 장애) 작업 스레드로 예외가 새지 않는다")
+    void process_markFailedFailure() {
+        // given
+        willThrow(new QueryTimeoutException("timeout")).given(postEnrichmentRepository).updateAll(anyList());
+        willThrow(new QueryTimeoutException("timeout")).given(postEnrichmentRepository).markFailed(1);
+
+        // when & then
+        assertThatCode(() -> pipeline.process(List.of(new EnrichmentTask(1, "a")))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("backfill - 미분석 게시글을 id 순으로 읽어 대기열에 넣는다")
+    void backfill() throws InterruptedException {
+        // given
+        given(postEnrichmentRepository.findPending(0, 3, 10))
+                .willReturn(List.of(new EnrichmentTask(5, "a"), new EnrichmentTask(7, "b")));
+
+        // when
+        pipeline.backfill();
+
+        // then
+        assertThat(pipeline.queueSize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,260 @@
+package com.apiece.twitter.follow.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FollowGraph 테스트")
+class FollowGraphTest {
+
+    @Test
+    @DisplayName("팔로우 추가/제거 시 양방향 목록이 정렬된 상태로 유지된다")
+    void addAndRemove() {
+        // given
+        FollowGraph graph = new FollowGraph();
+
+        // when
+        assertThat(graph.add(1L, 30L)).isTrue();
+        assertThat(graph.add(1L, 10L)).isTrue();
+        assertThat(graph.add(1L, 20L)).isTrue();
+        assertThat(graph.add(1L, 20L)).isFalse();
+        assertThat(graph.add(2L, 10L)).isTrue();
+        assertThat(graph.remove(1L, 30L)).isTrue();
+        assertThat(graph.remove(1L, 30L)).isFalse();
+
+        // then
+        assertThat(graph.following(1L)).containsExactly(10L, 20L);
+        assertThat(graph.followers(10L)).containsExactly(1L, 2L);
+        assertThat(graph.followers(30L)).isEmpty();
+        assertThat(graph.follows(1L, 20L)).isTrue();
+        assertThat(graph.follows(20L, 1L)).isFalse();
+        assertThat(graph.edgeCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("맞팔로우 - 팔로우하면서 팔로워이기도 한 사용자")
+    void mutuals() {
+        // given
+        FollowGraph graph = new FollowGraph();
+        graph.add(1L, 2L);
+        graph.add(2L, 1L);
+        graph.add(1L, 3L);
+        graph.add(4L, 1L);
+        graph.add(1L, 5L);
+        graph.add(5L, 1L);
+
+        // when & then
+        assertThat(graph.mutuals(1L)).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @DisplayName("교집합 - 길이가 크게 달라도 선형 병합과 같은 결과")
+    void intersect_matchesNaive() {
+        // given
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            long[] small = randomSorted(random, random.nextInt(20), 10_000);
+            long[] large = randomSorted(random, random.nextInt(5_000), 10_000);
+
+            // when
+            long[] result = FollowGraph.intersect(small, large);
+
+            // then
+            TreeSet<Long> expected = new TreeSet<>();
+            Arrays.stream(small).forEach(expected::add);
+            expected.retainAll(Arrays.stream(large).boxed().toList());
+            assertThat(result).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+            assertThat(FollowGraph.intersect(large, small)).containsExactly(result);
+        }
+    }
+
+    @Test
+    @DisplayName("gallop - from 이후 id 이상인 첫 위치")
+    void gallop() {
+        // given
+        long[] ids = {1, 3, 5, 7, 9, 11, 13, 15, 17};
+
+        // when & then
+        assertThat(FollowGraph.gallop(ids, 0, 0)).isEqualTo(0);
+        assertThat(FollowGraph.gallop(ids, 0, 1)).isEqualTo(0);
+        assertThat(FollowGraph.gallop(ids, 0, 12)).isEqualTo(6);
+        assertThat(FollowGraph.gallop(ids, 2, 13)).isEqualTo(6);
+        assertThat(FollowGraph.gallop(ids, 3, 17)).isEqualTo(8);
+        assertThat(FollowGraph.gallop(ids, 0, 18)).isEqualTo(ids.length);
+    }
+
+    @Test
+    @DisplayName("after - 커서 다음부터 limit 개")
+    void after() {
+        // given
+        long[] ids = {10, 20, 30, 40};
+
+        // when & then
+        assertThat(FollowGraph.after(ids, Long.MIN_VALUE, 2)).containsExactly(10L, 20L);
+        assertThat(FollowGraph.after(ids, 20, 2)).containsExactly(30L, 40L);
+        assertThat(FollowGraph.after(ids, 25, 10)).containsExactly(30L, 40L);
+        assertThat(FollowGraph.after(ids, 40, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 적재 - 중복 간선은 한 번만, 결과는 하나씩 추가한 것과 같다")
+    void builder() {
+        // given
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        FollowGraph expected = new FollowGraph();
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            long follower = random.nextInt(100);
+            long followee = random.nextInt(100);
+            builder.add(follower, followee);
+            expected.add(follower, followee);
+        }
+
+        // when
+        FollowGraph graph = builder.build();
+
+        // then
+        assertThat(graph.edgeCount()).isEqualTo(expected.edgeCount());
+        for (long user = 0; user < 100; user++) {
+            assertThat(graph.following(user)).containsExactly(expected.following(user));
+            assertThat(graph.followers(user)).containsExactly(expected.followers(user));
+        }
+    }
+
+    @Test
+    @DisplayName("간선 100만 개 - 간선당 약 40바이트 이하 (간선 객체 없이 양방향 long 두 개 + 사용자별 배열/맵 항목)")
+    void footprint_millionEdges() {
+        // given - 사용자 10만 명, 평균 팔로우 10명
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        Random random = new Random(1);
+        for (int i = 0; i < 1_000_000; i++) {
+            builder.add(i % 100_000, random.nextInt(100_000));
+        }
+
+        // when
+        FollowGraph.Footprint footprint = builder.build().footprint();
+
+        // then
+        assertThat(footprint.edges()).isGreaterThan(990_000);
+        assertThat(footprint.arrayBytes()).isLessThan(footprint.edges() * 16 + 200_000L * 16 + 1);
+        assertThat(footprint.bytesPerEdge()).isLessThan(40);
+    }
+
+    @Test
+    @DisplayName("팔로워 100만 명인 사용자 - 하나씩 추가/제거해도 목록이 정렬된 채로 유지되고 커서 페이지가 블록 경계를 넘어 이어진다")
+    void highFollowerTarget_addAndRemove() {
+        // given - 사용자 0 을 짝수 ID 100만 명이 팔로우
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        BitSet expected = new BitSet();
+        for (int follower = 2; follower <= 2_000_000; follower += 2) {
+            builder.add(follower, 0L);
+            expected.set(follower);
+        }
+        FollowGraph graph = builder.build();
+
+        // when - 홀수 ID 추가, 짝수 ID 제거를 섞어서
+        Random random = new Random(3);
+        for (int i = 0; i < 20_000; i++) {
+            int follower = 1 + random.nextInt(2_000_000);
+            if (follower % 2 == 1) {
+                assertThat(graph.add(follower, 0L)).isEqualTo(!expected.get(follower));
+                expected.set(follower);
+            } else {
+                assertThat(graph.remove(follower, 0L)).isEqualTo(expected.get(follower));
+                expected.clear(follower);
+            }
+        }
+
+        // then
+        long[] all = expected.stream().asLongStream().toArray();
+        assertThat(graph.followerCount(0L)).isEqualTo(all.length);
+        assertThat(graph.edgeCount()).isEqualTo(all.length);
+        assertThat(graph.followers(0L)).containsExactly(all);
+        assertThat(graph.follows(all[all.length / 2], 0L)).isTrue();
+        assertThat(graph.follows(expected.nextClearBit(1), 0L)).isFalse();
+        long afterId = all[FollowGraph.BLOCK_SIZE - 3];
+        assertThat(graph.followersAfter(0L, afterId, 10))
+                .containsExactly(Arrays.copyOfRange(all, FollowGraph.BLOCK_SIZE - 2, FollowGraph.BLOCK_SIZE + 8));
+        assertThat(graph.followersAfter(0L, all[all.length - 2], 10)).containsExactly(all[all.length - 1]);
+    }
+
+    @Test
+    @DisplayName("블록 나누기/합치기 - 커졌다가 비워져도 목록은 하나씩 반영한 것과 같다")
+    void blocks_growAndShrink() {
+        // given
+        FollowGraph graph = new FollowGraph();
+        BitSet expected = new BitSet();
+        Random random = new Random(11);
+
+        // when & then - BLOCK_SIZE 의 몇 배까지 키운 뒤 대부분 지우고, 마지막엔 모두 지운다
+        for (int i = 0; i < FollowGraph.BLOCK_SIZE * 6; i++) {
+            int id = random.nextInt(FollowGraph.BLOCK_SIZE * 8);
+            graph.add(1L, id);
+            expected.set(id);
+        }
+        assertThat(graph.following(1L)).containsExactly(expected.stream().asLongStream().toArray());
+        for (int i = 0; i < FollowGraph.BLOCK_SIZE * 20; i++) {
+            int id = random.nextInt(FollowGraph.BLOCK_SIZE * 8);
+            assertThat(graph.remove(1L, id)).isEqualTo(expected.get(id));
+            expected.clear(id);
+        }
+        assertThat(graph.following(1L)).containsExactly(expected.stream().asLongStream().toArray());
+        assertThat(graph.followingAfter(1L, Long.MIN_VALUE, Integer.MAX_VALUE))
+                .containsExactly(expected.stream().asLongStream().toArray());
+        expected.stream().forEach(id -> graph.remove(1L, id));
+        assertThat(graph.following(1L)).isEmpty();
+        assertThat(graph.edgeCount()).isZero();
+        assertThat(graph.adjacencyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자를 여러 스레드가 동시에 팔로우해도 빠짐없이 반영된다")
+    void add_concurrentFollowersOfSameTarget() throws Exception {
+        // given
+        FollowGraph graph = new FollowGraph();
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    graph.add(1L + offset + (long) i * threads, 0L);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(graph.followerCount(0L)).isEqualTo(threads * perThread);
+        assertThat(graph.followers(0L)).isSorted().doesNotHaveDuplicates().hasSize(threads * perThread);
+        assertThat(graph.edgeCount()).isEqualTo(threads * perThread);
+    }
+
+    private static long[] randomSorted(Random random, int size, int bound) {
+        return random.longs(size, 0, bound).sorted().distinct().toArray();
+    }
+}
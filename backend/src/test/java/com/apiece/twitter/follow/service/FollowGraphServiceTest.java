@@ -0,0 +1,126 @@
+package com.apiece.twitter.follow.service;
+
+import com.apiece.twitter.follow.domain.Follow;
+import com.apiece.twitter.follow.dto.FollowUserResponse;
+import com.apiece.twitter.follow.event.FollowChangedEvent;
+import com.apiece.twitter.follow.repository.FollowRepository;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowGraphService 테스트")
+class FollowGraphServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private AuthorProfileLoader authorProfileLoader;
+
+    private FollowGraphService followGraphService;
+
+    @BeforeEach
+    void setUp() {
+        followGraphService = new FollowGraphService(followRepository, authorProfileLoader, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB 로 조회한다")
+    void beforeLoad_usesDatabase() {
+        // given
+        given(followRepository.findFollowerIds(1L)).willReturn(List.of(30L, 10L, 20L));
+
+        // when
+        CursorResponse<FollowUserResponse> result = followGraphService.getFollowers(1L, null, 2);
+
+        // then
+        assertThat(result.content()).extracting(FollowUserResponse::id).containsExactly(10L, 20L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(followGraphService.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 후에는 DB 를 거치지 않고 커서로 이어서 조회한다")
+    void afterLoad_pagesWithCursor() {
+        // given
+        given(followRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(follow(1L, 10L, 1L), follow(2L, 20L, 1L), follow(3L, 30L, 1L)));
+        given(authorProfileLoader.loadAll(anyCollection()))
+                .willReturn(Map.of(10L, new AuthorProfile(10L, "닉네임10")));
+        followGraphService.load();
+
+        // when
+        CursorResponse<FollowUserResponse> first = followGraphService.getFollowers(1L, null, 2);
+        CursorResponse<FollowUserResponse> second = followGraphService.getFollowers(1L, first.nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).extracting(FollowUserResponse::id).containsExactly(10L, 20L);
+        assertThat(first.content().getFirst().nickname()).isEqualTo("닉네임10");
+        assertThat(second.content()).extracting(FollowUserResponse::id).containsExactly(30L);
+        assertThat(second.hasNext()).isFalse();
+        verify(followRepository, never()).findFollowerIds(anyLong());
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 팔로우/언팔로우는 적재한 그래프에 다시 적용된다")
+    void changesDuringLoad_replayed() {
+        // given - 팔로우 행을 읽는 사이 (10 -> 1) 언팔로우, (40 -> 1) 팔로우가 커밋된다
+        willAnswer(invocation -> {
+            followGraphService.onFollowChanged(new FollowChangedEvent(10L, 1L, false));
+            followGraphService.onFollowChanged(new FollowChangedEvent(40L, 1L, true));
+            return List.of(follow(1L, 10L, 1L), follow(2L, 20L, 1L));
+        }).given(followRepository).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+
+        // when
+        followGraphService.load();
+        followGraphService.onFollowChanged(new FollowChangedEvent(20L, 1L, false));
+
+        // then
+        assertThat(followGraphService.isFollowing(10L, 1L)).isFalse();
+        assertThat(followGraphService.isFollowing(20L, 1L)).isFalse();
+        assertThat(followGraphService.isFollowing(40L, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("맞팔로우 조회")
+    void getMutuals() {
+        // given
+        given(followRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(follow(1L, 1L, 2L), follow(2L, 2L, 1L), follow(3L, 1L, 3L), follow(4L, 4L, 1L)));
+        followGraphService.load();
+
+        // when
+        CursorResponse<FollowUserResponse> result = followGraphService.getMutuals(1L, null, 10);
+
+        // then
+        assertThat(result.content()).extracting(FollowUserResponse::id).containsExactly(2L);
+    }
+
+    private static Follow follow(Long id, Long followerId, Long followeeId) {
+        Follow follow = Follow.builder().followerId(followerId).followeeId(followeeId).build();
+        ReflectionTestUtils.setField(follow, "id", id);
+        return follow;
+    }
+}
@@ -0,0 +1,89 @@
+package com.apiece.twitter.follow.service;
+
+import com.apiece.twitter.follow.domain.Follow;
+import com.apiece.twitter.follow.event.FollowChangedEvent;
+import com.apiece.twitter.follow.repository.FollowRepository;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowService 테스트")
+class FollowServiceTest {
+
+    @InjectMocks
+    private FollowService followService;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("팔로우 - 성공")
+    void follow_Success() {
+        // given
+        given(userRepository.existsById(2L)).willReturn(true);
+        given(followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).willReturn(false);
+
+        // when
+        followService.follow(1L, 2L);
+
+        // then
+        verify(followRepository).save(any(Follow.class));
+        verify(eventPublisher).publishEvent(new FollowChangedEvent(1L, 2L, true));
+    }
+
+    @Test
+    @DisplayName("팔로우 - 자기 자신")
+    void follow_Self() {
+        // when & then
+        assertThatThrownBy(() -> followService.follow(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.SELF_FOLLOW));
+    }
+
+    @Test
+    @DisplayName("팔로우 - 이미 팔로우 중")
+    void follow_AlreadyFollowing() {
+        // given
+        given(userRepository.existsById(2L)).willReturn(true);
+        given(followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> followService.follow(1L, 2L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.ALREADY_FOLLOWING));
+    }
+
+    @Test
+    @DisplayName("언팔로우 - 팔로우 중이 아님")
+    void unfollow_NotFollowing() {
+        // given
+        given(followRepository.findByFollowerIdAndFolloweeId(1L, 2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> followService.unfollow(1L, 2L))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.NOT_FOLLOWING));
+    }
+}
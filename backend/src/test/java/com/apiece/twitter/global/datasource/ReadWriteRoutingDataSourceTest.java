@@ -0,0 +1,199 @@
+package com.apiece.twitter.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private DataSource primary;
+    private DataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+
+    // 서로 다른 H2 메모리 DB 두 개 - 어느 DB 로 갔는지 node 테이블 값으로 구분
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary", "primary");
+        replica = h2("routing-replica", "replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖은 주 DB")
+    void routesByTransactionReadOnly() {
+        // given
+        Routing routing = routing(replica, Duration.ZERO);
+
+        // when & then
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+        assertThat(routing.jdbcTemplate.queryForObject("select name from node", String.class)).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing.connections", "target", "replica").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션을 얻지 못하면 주 DB 로 읽고, replicaRetry 가 지나면 다시 복제본을 시도한다")
+    void fallsBackToPrimaryWhenReplicaDown() {
+        // given
+        FlakyDataSource flakyReplica = new FlakyDataSource(replica);
+        flakyReplica.down = true;
+        Routing routing = routing(flakyReplica, Duration.ZERO);
+
+        // when
+        String whileDown = routing.read();
+        flakyReplica.down = false;
+        String beforeRetry = routing.read();
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        String afterRetry = routing.read();
+
+        // then
+        assertThat(whileDown).isEqualTo("primary");
+        assertThat(beforeRetry).isEqualTo("primary");
+        assertThat(afterRetry).isEqualTo("replica");
+        assertThat(flakyReplica.attempts).isEqualTo(2);
+        assertThat(meterRegistry.counter("datasource.routing.replica.fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 readYourWrites 동안 주 DB 에서 읽는다")
+    void readYourWrites() {
+        // given
+        Routing routing = routing(replica, Duration.ofSeconds(2));
+        DataSourceRouting.asUser(1L, routing::write);
+
+        // when
+        String writerRead = DataSourceRouting.asUser(1L, routing::read);
+        String otherRead = DataSourceRouting.asUser(2L, routing::read);
+        String anonymousRead = routing.read();
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        String writerReadAfterWindow = DataSourceRouting.asUser(1L, routing::read);
+
+        // then
+        assertThat(writerRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+        assertThat(anonymousRead).isEqualTo("replica");
+        assertThat(writerReadAfterWindow).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("여러 작성자의 쓰기를 한 트랜잭션으로 커밋하면(요청 밖 스레드) 작성자 모두 read-your-writes 대상이 된다")
+    void readYourWrites_ExplicitWriters() throws InterruptedException {
+        // given - 보안 컨텍스트가 없는 별도 스레드에서 커밋
+        Routing routing = routing(replica, Duration.ofSeconds(2));
+        Thread committer = Thread.ofPlatform().start(() -> DataSourceRouting.asUsers(List.of(1L, 2L), routing::write));
+        committer.join();
+
+        // when & then
+        assertThat(DataSourceRouting.asUser(1L, routing::read)).isEqualTo("primary");
+        assertThat(DataSourceRouting.asUser(2L, routing::read)).isEqualTo("primary");
+        assertThat(DataSourceRouting.asUser(3L, routing::read)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 대상이 아니다")
+    void readYourWrites_IgnoresRollback() {
+        // given
+        Routing routing = routing(replica, Duration.ofSeconds(2));
+        DataSourceRouting.asUser(1L, () -> routing.writeTemplate.execute(status -> {
+            routing.jdbcTemplate.update("update node set name = name");
+            status.setRollbackOnly();
+            return null;
+        }));
+
+        // when & then
+        assertThat(DataSourceRouting.asUser(1L, routing::read)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 읽기 전용 트랜잭션은 주 DB 에서 읽는다")
+    void onPrimary() {
+        // given
+        Routing routing = routing(replica, Duration.ZERO);
+
+        // when & then
+        assertThat(DataSourceRouting.onPrimary(routing::read)).isEqualTo("primary");
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    private Routing routing(DataSource replicaDataSource, Duration readYourWrites) {
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties(
+                true, readYourWrites, Duration.ofSeconds(5), null);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, replicaDataSource, properties, meterRegistry, clock::get));
+        return new Routing(dataSource);
+    }
+
+    private static DataSource h2(String name, String node) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(20))");
+        jdbcTemplate.update("delete from node");
+        jdbcTemplate.update("insert into node values (?)", node);
+        return dataSource;
+    }
+
+    private static final class Routing {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readTemplate;
+        private final TransactionTemplate writeTemplate;
+
+        private Routing(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readTemplate = new TransactionTemplate(transactionManager);
+            this.readTemplate.setReadOnly(true);
+            this.writeTemplate = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+        }
+
+        private String write() {
+            return writeTemplate.execute(status -> {
+                jdbcTemplate.update("update node set name = name");
+                return jdbcTemplate.queryForObject("select name from node", String.class);
+            });
+        }
+    }
+
+    // 복제본 장애 흉내 - down 이면 커넥션 획득 실패
+    private static final class FlakyDataSource extends DelegatingDataSource {
+        private volatile boolean down;
+        private int attempts;
+
+        private FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts++;
+            if (down) {
+                throw new SQLTransientConnectionException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+}
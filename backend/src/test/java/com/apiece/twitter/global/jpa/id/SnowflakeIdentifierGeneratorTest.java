@@ -0,0 +1,39 @@
+package com.apiece.twitter.global.jpa.id;
+
+import com.apiece.twitter.global.config.IdConfig;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "id.node-id=7")
+@Import(IdConfig.class)
+@DisplayName("SnowflakeIdentifierGenerator 테스트")
+class SnowflakeIdentifierGeneratorTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("엔티티 저장 시 스프링 빈(Snowflake)으로 ID 를 할당한다 - 노드 번호와 생성 시각이 ID 에 담긴다")
+    void persist_assignsSnowflakeId() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .content("스노우플레이크 ID")
+                .author("홍길동")
+                .build());
+
+        // then - 빈 컨테이너를 거치지 않았다면 노드 0 으로 만들어진다
+        long id = post.getId();
+        assertThat(Snowflake.nodeOf(id)).isEqualTo(7);
+        assertThat(Snowflake.timestampOf(id)).isBetween(before, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,115 @@
+package com.apiece.twitter.global.jpa.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Snowflake 테스트")
+class SnowflakeTest {
+
+    private final AtomicLong clock = new AtomicLong(Snowflake.EPOCH + 1_000);
+
+    @Test
+    @DisplayName("ID 에 생성 시각과 노드 번호가 담긴다")
+    void compose() {
+        // given
+        Snowflake snowflake = new Snowflake(7, clock::get);
+
+        // when
+        long id = snowflake.nextId();
+
+        // then
+        assertThat(Snowflake.timestampOf(id)).isEqualTo(Snowflake.EPOCH + 1_000);
+        assertThat(Snowflake.nodeOf(id)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 ms 에서는 시퀀스가 증가하고, 시간이 지나면 더 큰 ID")
+    void monotonic() {
+        // given
+        Snowflake snowflake = new Snowflake(1, clock::get);
+
+        // when
+        long first = snowflake.nextId();
+        long second = snowflake.nextId();
+        clock.addAndGet(1);
+        long third = snowflake.nextId();
+
+        // then
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(third).isGreaterThan(second);
+        assertThat(Snowflake.timestampOf(third)).isEqualTo(Snowflake.EPOCH + 1_001);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID 는 감소하지 않는다")
+    void clockRollback() {
+        // given
+        Snowflake snowflake = new Snowflake(1, clock::get);
+        long before = snowflake.nextId();
+
+        // when
+        clock.addAndGet(-500);
+        long after = snowflake.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+        assertThat(Snowflake.timestampOf(after)).isEqualTo(Snowflake.timestampOf(before));
+    }
+
+    @Test
+    @DisplayName("한 ms 에 시퀀스(4096개)를 다 쓰면 다음 ms 로 넘어간다")
+    void sequenceOverflow() {
+        // given
+        Snowflake snowflake = new Snowflake(1, clock::get);
+        long last = 0;
+
+        // when
+        for (int i = 0; i <= Snowflake.SEQUENCE_MASK; i++) {
+            last = snowflake.nextId();
+        }
+        long overflow = snowflake.nextId();
+
+        // then
+        assertThat(overflow).isGreaterThan(last);
+        assertThat(Snowflake.timestampOf(overflow)).isEqualTo(Snowflake.timestampOf(last) + 1);
+        assertThat(Snowflake.nodeOf(overflow)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성해도 중복이 없다")
+    void concurrent() throws InterruptedException {
+        // given
+        Snowflake snowflake = new Snowflake(3, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(snowflake.nextId());
+                    }
+                });
+            }
+        }
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("노드 번호는 0~1023")
+    void invalidNode() {
+        assertThatThrownBy(() -> new Snowflake(1024, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.apiece.twitter.global.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 초기 20, 하한 10, 상한 100
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            new ConcurrencyLimitProperties(true, 20, 10, 100, 1.5, 0.2, 100), meterRegistry);
+
+    @Test
+    @DisplayName("지연 시간이 그대로면 한도가 상한까지 늘어난다")
+    void steadyLatency_growsLimit() {
+        // when
+        for (int i = 0; i < 500; i++) {
+            limiter.update(10 * MILLIS, limiter.getLimit());
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 크게 늘면 한도가 하한까지 줄어든다")
+    void risingLatency_shrinksLimit() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            limiter.update(10 * MILLIS, limiter.getLimit());
+        }
+        int before = limiter.getLimit();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limiter.update(100 * MILLIS, limiter.getLimit());
+        }
+
+        // then
+        assertThat(before).isGreaterThan(20);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("처리 중 요청이 한도의 절반에 못 미치면 한도를 바꾸지 않는다")
+    void appLimited_keepsLimit() {
+        // when
+        for (int i = 0; i < 500; i++) {
+            limiter.update(10 * MILLIS, 1);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("한도에 가까워지면 게시글 조회부터 거절하고 로그인은 한도까지 받는다")
+    void tryAcquire_priority() {
+        // when - 한도 20: 조회는 15, 쓰기는 18, 로그인은 20 까지
+        int reads = acquireAll(RequestPriority.SHEDDABLE);
+        int writes = acquireAll(RequestPriority.NORMAL);
+        int logins = acquireAll(RequestPriority.CRITICAL);
+
+        // then
+        assertThat(reads).isEqualTo(15);
+        assertThat(writes).isEqualTo(3);
+        assertThat(logins).isEqualTo(2);
+        assertThat(limiter.getInflight()).isEqualTo(20);
+        assertThat(meterRegistry.get("concurrency.rejected").tag("priority", "sheddable").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("concurrency.limit").gauge().value()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("반납하면 다시 받는다")
+    void release_freesPermit() {
+        // given
+        acquireAll(RequestPriority.CRITICAL);
+
+        // when
+        limiter.releaseWithoutSample();
+
+        // then
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isFalse();
+    }
+
+    private int acquireAll(RequestPriority priority) {
+        int acquired = 0;
+        while (limiter.tryAcquire(priority)) {
+            acquired++;
+        }
+        return acquired;
+    }
+}
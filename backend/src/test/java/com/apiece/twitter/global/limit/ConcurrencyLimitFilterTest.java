@@ -0,0 +1,102 @@
+package com.apiece.twitter.global.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter 테스트")
+class ConcurrencyLimitFilterTest {
+
+    // 한도 1 고정
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(true, 1, 1, 1, 1.5, 0.2, 100);
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, properties, new ObjectMapper());
+
+    @Test
+    @DisplayName("한도 안의 요청은 통과시키고 끝나면 자리를 반납")
+    void doFilter_admitted() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        int[] inflightDuringChain = new int[1];
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                inflightDuringChain[0] = limiter.getInflight();
+            }
+        };
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(inflightDuringChain[0]).isEqualTo(1);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 응답은 비동기 처리가 끝날 때까지 자리를 잡고 있다가 한 번만 반납")
+    void doFilter_asyncHoldsPermitUntilComplete() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/export");
+        request.setAsyncSupported(true);
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                req.startAsync();
+            }
+        };
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(limiter.getInflight()).isEqualTo(1);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("client gone")));
+        }
+        asyncContext.complete();
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 체인을 타지 않고 503 공통 응답")
+    void doFilter_rejected() throws Exception {
+        // given
+        limiter.tryAcquire(RequestPriority.CRITICAL);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"code\":\"503\"");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 조회는 SHEDDABLE, 로그인은 CRITICAL, 그 외는 NORMAL")
+    void priorityOf() {
+        assertThat(RequestPriority.of(new MockHttpServletRequest("GET", "/api/posts"))).isEqualTo(RequestPriority.SHEDDABLE);
+        assertThat(RequestPriority.of(new MockHttpServletRequest("GET", "/api/posts/1"))).isEqualTo(RequestPriority.SHEDDABLE);
+        assertThat(RequestPriority.of(new MockHttpServletRequest("POST", "/api/auth/login"))).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(RequestPriority.of(new MockHttpServletRequest("POST", "/api/posts"))).isEqualTo(RequestPriority.NORMAL);
+    }
+}
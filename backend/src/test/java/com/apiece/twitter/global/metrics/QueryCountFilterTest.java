@@ -0,0 +1,57 @@
+package com.apiece.twitter.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryCountFilter 테스트")
+class QueryCountFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountFilter queryCountFilter = new QueryCountFilter(meterRegistry);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("요청 중 실행된 쿼리 수를 경로 패턴별로 기록")
+    void recordsQueriesPerRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts/{id}");
+            }
+        };
+
+        // when
+        queryCountFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        DistributionSummary summary = meterRegistry.get("http.server.requests.queries")
+                .tag("method", "GET")
+                .tag("uri", "/api/posts/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 쿼리는 세지 않음")
+    void ignoresQueriesOutsideRequest() {
+        // when
+        inspector.inspect("select 1");
+
+        // then
+        assertThat(QueryCountInspector.stop()).isZero();
+    }
+}
@@ -0,0 +1,120 @@
+package com.apiece.twitter.global.security;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.user.domain.User;
+import com.apiece.twitter.user.event.UserChangedEvent;
+import com.apiece.twitter.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomUserDetailsService 테스트")
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private Cache<String, UserDetails> principalCache;
+    private SimpleMeterRegistry meterRegistry;
+    private CustomUserDetailsService customUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = Caffeine.newBuilder().build();
+        meterRegistry = new SimpleMeterRegistry();
+        customUserDetailsService = new CustomUserDetailsService(userRepository, principalCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환하고 DB 를 조회하지 않는다")
+    void loadUserByUsername_CacheHit() {
+        // given
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(createUser("{bcrypt}old")));
+
+        // when
+        UserDetails first = customUserDetailsService.loadUserByUsername(EMAIL);
+        UserDetails second = customUserDetailsService.loadUserByUsername(EMAIL);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getUsername()).isEqualTo(EMAIL);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertThat(meterRegistry.timer("user.lookup").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 등 사용자 변경이 커밋되면 캐시를 비워 다음 조회에서 다시 읽는다")
+    void onUserChanged_EvictsAndReloads() {
+        // given
+        given(userRepository.findByEmail(EMAIL))
+                .willReturn(Optional.of(createUser("{bcrypt}old")))
+                .willReturn(Optional.of(createUser("{bcrypt}new")));
+        assertThat(customUserDetailsService.loadUserByUsername(EMAIL).getPassword()).isEqualTo("{bcrypt}old");
+
+        // when
+        customUserDetailsService.onUserChanged(new UserChangedEvent(EMAIL));
+        UserDetails reloaded = customUserDetailsService.loadUserByUsername(EMAIL);
+
+        // then
+        assertThat(reloaded.getPassword()).isEqualTo("{bcrypt}new");
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 변경은 캐시된 인증 주체를 비우지 않는다")
+    void onUserChanged_OtherUserKeepsEntry() {
+        // given
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(createUser("{bcrypt}old")));
+        customUserDetailsService.loadUserByUsername(EMAIL);
+
+        // when
+        customUserDetailsService.onUserChanged(new UserChangedEvent("other@example.com"));
+        customUserDetailsService.loadUserByUsername(EMAIL);
+
+        // then
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 USER_NOT_FOUND 이고 캐시하지 않는다")
+    void loadUserByUsername_NotFoundIsNotCached() {
+        // given
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername(EMAIL))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND));
+        }
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+        assertThat(principalCache.getIfPresent(EMAIL)).isNull();
+    }
+
+    private static User createUser(String password) {
+        return User.builder()
+                .email(EMAIL)
+                .password(password)
+                .nickname("테스트")
+                .build();
+    }
+}
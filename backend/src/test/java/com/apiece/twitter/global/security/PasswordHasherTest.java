@@ -0,0 +1,138 @@
+package com.apiece.twitter.global.security;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해싱하고 결과를 돌려준다")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(delegating(4), new PasswordHashingProperties(4, 1, 10), meterRegistry);
+
+        // when
+        String encoded = passwordHasher.encode("password123");
+
+        // then
+        assertThat(encoded).startsWith("{bcrypt}$2a$04$");
+        assertThat(passwordHasher.matches("password123", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("executor.pool.max").tag("name", "password.hash").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 해시와 낮은 cost 해시는 다시 해싱 대상")
+    void upgradeEncoding() {
+        // given
+        passwordHasher = new PasswordHasher(delegating(5), new PasswordHashingProperties(5, 1, 10), meterRegistry);
+        String legacy = new BCryptPasswordEncoder(5).encode("password123");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123");
+        String current = passwordHasher.encode("password123");
+
+        // when & then
+        assertThat(passwordHasher.matches("password123", legacy)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(legacy)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(weaker)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 AUTH_BUSY")
+    void encode_rejectedWhenQueueFull() throws Exception {
+        // given - 스레드 1개, 대기열 1개
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(blocking(started, release), new PasswordHashingProperties(4, 1, 1), meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        awaitQueued(1);
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.AUTH_BUSY));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-b");
+    }
+
+    @Test
+    @DisplayName("threads=0 이면 호출 스레드에서 해싱")
+    void encode_inline() {
+        // given
+        passwordHasher = new PasswordHasher(delegating(4), new PasswordHashingProperties(4, 0, 10), meterRegistry);
+
+        // when
+        String encoded = passwordHasher.encode("password123");
+
+        // then
+        assertThat(passwordHasher.matches("password123", encoded)).isTrue();
+        assertThat(meterRegistry.find("executor.pool.max").gauge()).isNull();
+    }
+
+    private static PasswordEncoder delegating(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    // 첫 호출이 release 될 때까지 해싱 스레드를 붙잡는 encoder
+    private static PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hash").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("task was not queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
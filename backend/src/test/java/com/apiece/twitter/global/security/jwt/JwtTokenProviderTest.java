@@ -0,0 +1,98 @@
+package com.apiece.twitter.global.security.jwt;
+
+import com.apiece.twitter.global.cache.CacheProperties;
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Cache<String, VerifiedToken> verifiedTokenCache;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new CacheProperties.Spec(100, null)
+                .toBuilder()
+                .expireAfter(VerifiedToken.untilExpiration())
+                .build();
+        JwtProperties jwtProperties = new JwtProperties("test-secret-key-must-be-at-least-32-characters-long-for-testing", 3_600_000);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, mock(UserDetailsService.class), verifiedTokenCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 검증된 토큰은 캐시되고 같은 claims 를 반환")
+    void verify_CachesVerifiedToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("test@example.com");
+
+        // when
+        Claims first = jwtTokenProvider.verify(token);
+        Claims second = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("test@example.com");
+        assertThat(second).isSameAs(first);
+        assertThat(verifiedTokenCache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 파싱 시간과 캐시 적중 여부별 검증 시간을 기록")
+    void verify_RecordsTimers() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("test@example.com");
+
+        // when
+        jwtTokenProvider.verify(token);
+        jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(meterRegistry.get("jwt.parse").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("cache", "miss").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("cache", "hit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 서명은 같지만 payload 가 변조된 토큰은 캐시를 통과하지 못함")
+    void verify_RejectsTamperedPayloadWithCachedSignature() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("test@example.com");
+        jwtTokenProvider.verify(token);
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"admin@example.com\",\"exp\":9999999999}".getBytes(StandardCharsets.UTF_8));
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(forged))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+        assertThat(verifiedTokenCache.asMap().values())
+                .allSatisfy(verified -> assertThat(verified.token()).isEqualTo(token));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 형식이 잘못된 토큰")
+    void verify_MalformedToken() {
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.verify("not.a.jwt"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -1,8 +1,14 @@
 package com.apiece.twitter.post.controller;
 
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.post.dto.PostExportFormat;
 import com.apiece.twitter.post.dto.PostRequest;
 import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.service.PostBulkService;
+import com.apiece.twitter.post.service.PostExportService;
 import com.apiece.twitter.post.service.PostService;
+import com.apiece.twitter.post.service.PostStreamBroadcaster;
+import com.apiece.twitter.post.service.PostVersionTracker;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,17 +22,28 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -43,6 +60,18 @@ class PostControllerTest {
     @MockitoBean
     private PostService postService;
 
+    @MockitoBean
+    private PostBulkService postBulkService;
+
+    @MockitoBean
+    private PostExportService postExportService;
+
+    @MockitoBean
+    private PostStreamBroadcaster postStreamBroadcaster;
+
+    @Autowired
+    private PostVersionTracker postVersionTracker;
+
     @Test
     @DisplayName("GET /api/posts - 게시글 전체 조회")
     void getAllPosts() throws Exception {
@@ -65,6 +94,44 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.content[0].content").value("게시글 1"));
     }
 
+    @Test
+    @DisplayName("GET /api/posts?cursor= - 게시글 커서 조회")
+    void getPostsByCursor() throws Exception {
+        // given
+        List<PostResponse> posts = List.of(
+                createPostResponse(2L, "게시글 2", "작성자2"),
+                createPostResponse(1L, "게시글 1", "작성자1")
+        );
+        CursorResponse<PostResponse> response = new CursorResponse<>(posts, posts.size(), true, "next-cursor");
+        given(postService.getPostsByCursor(eq(""), anyInt())).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/posts")
+                        .param("cursor", "")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.content[0].content").value("게시글 2"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?cursor= - 페이지 크기가 1~100 을 벗어나면 조회 없이 400")
+    void getPostsByCursor_InvalidSize() throws Exception {
+        // when & then
+        for (String size : List.of("0", "101")) {
+            mockMvc.perform(get("/api/posts")
+                            .param("cursor", "")
+                            .param("size", size))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("400"));
+        }
+        then(postService).should(never()).getPostsByCursor(any(), anyInt());
+    }
+
     @Test
     @DisplayName("GET /api/posts/{id} - 게시글 단건 조회")
     void getPost() throws Exception {
@@ -78,10 +145,57 @@ class PostControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("200"))
-                .andExpect(jsonPath("$.data.id").value(postId))
+                .andExpect(jsonPath("$.data.id").value(String.valueOf(postId)))
                 .andExpect(jsonPath("$.data.content").value("테스트 게시글"));
     }
 
+    @Test
+    @DisplayName("GET /api/posts/{id} - ETag 가 일치하면 304")
+    void getPost_NotModified() throws Exception {
+        // given
+        Long postId = 1L;
+        PostResponse response = createPostResponse(postId, "테스트 게시글", "홍길동");
+        given(postService.getPost(postId)).willReturn(response);
+        String etag = mockMvc.perform(get("/api/posts/{id}", postId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}", postId).header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - 목록 ETag 가 일치하면 DB 조회 없이 304")
+    void getAllPosts_NotModified() throws Exception {
+        // given
+        String etag = postVersionTracker.listEtag();
+
+        // when & then
+        mockMvc.perform(get("/api/posts").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+        then(postService).should(never()).getAllPosts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - 목록은 Last-Modified 를 주지 않고 If-Modified-Since 만으로는 304 를 주지 않는다")
+    void getAllPosts_IgnoresIfModifiedSince() throws Exception {
+        // given
+        given(postService.getAllPosts(any(Pageable.class))).willReturn(new PageImpl<>(List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/posts").header("If-Modified-Since", "Fri, 31 Dec 2100 23:59:59 GMT"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(header().exists("ETag"));
+    }
+
     @Test
     @DisplayName("POST /api/posts - 게시글 작성")
     @WithMockUser
@@ -89,7 +203,7 @@ class PostControllerTest {
         // given
         PostRequest request = new PostRequest("새 게시글", "홍길동");
         PostResponse response = createPostResponse(1L, "새 게시글", "홍길동");
-        given(postService.createPost(any(PostRequest.class))).willReturn(response);
+        given(postService.createPost(any(PostRequest.class), any())).willReturn(response);
 
         // when & then
         mockMvc.perform(post("/api/posts")
@@ -101,6 +215,78 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.content").value("새 게시글"));
     }
 
+    @Test
+    @DisplayName("POST /api/posts/bulk - 게시글 일괄 등록 (NDJSON 스트리밍)")
+    @WithMockUser
+    void createPosts() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"line\":1,\"status\":\"CREATED\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(postBulkService).ingest(any(InputStream.class), any(), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/posts/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"content\":\"게시글\",\"author\":\"홍길동\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"line\":1,\"status\":\"CREATED\"}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/export - CSV 내보내기 스트리밍")
+    @WithMockUser
+    void exportPosts() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,content\r\n1,게시글\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).given(postExportService).export(eq(PostExportFormat.CSV), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/posts/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"posts.csv\""))
+                .andExpect(content().string("id,content\r\n1,게시글\r\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/export - 인증 없이 요청하면 401")
+    void exportPosts_Unauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/posts/export"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/export - 지원하지 않는 형식")
+    @WithMockUser
+    void exportPosts_InvalidFormat() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/posts/export").param("format", "xml"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("지원하지 않는 내보내기 형식입니다. (ndjson, csv)"));
+    }
+
     @Test
     @DisplayName("PUT /api/posts/{id} - 게시글 수정")
     @WithMockUser
@@ -138,6 +324,6 @@ class PostControllerTest {
 
     // 테스트용 PostResponse 생성 헬퍼 메서드
     private PostResponse createPostResponse(Long id, String content, String author) {
-        return new PostResponse(id, content, author, LocalDateTime.now(), LocalDateTime.now());
+        return new PostResponse(id, content, author, null, null, null, null, null, LocalDateTime.now(), LocalDateTime.now());
     }
 }
@@ -0,0 +1,47 @@
+package com.apiece.twitter.post.repository;
+
+import com.apiece.twitter.global.config.IdConfig;
+import com.apiece.twitter.post.domain.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PostBulkRepository.class, IdConfig.class})
+@DisplayName("PostBulkRepository 테스트")
+class PostBulkRepositoryTest {
+
+    @Autowired
+    private PostBulkRepository postBulkRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("JDBC 배치로 일괄 저장 - Snowflake ID 할당, 작성자 ID, 생성 시간 포함")
+    void insertAll() {
+        // given
+        List<Post> posts = List.of(
+                Post.builder().content("게시글 1").author("홍길동").authorId(1L).build(),
+                Post.builder().content("게시글 2").author("김철수").build()
+        );
+
+        // when
+        long[] ids = postBulkRepository.insertAll(posts);
+
+        // then
+        assertThat(ids).hasSize(2);
+        assertThat(ids[0]).isLessThan(ids[1]);
+        assertThat(postRepository.findById(ids[0])).get().extracting(Post::getContent).isEqualTo("게시글 1");
+        List<Post> saved = postRepository.findAll();
+        assertThat(saved).extracting(Post::getContent).containsExactlyInAnyOrder("게시글 1", "게시글 2");
+        assertThat(saved).extracting(Post::getAuthorId).containsExactlyInAnyOrder(1L, null);
+        assertThat(saved).allSatisfy(post -> assertThat(post.getCreatedAt()).isNotNull());
+    }
+}
@@ -0,0 +1,33 @@
+package com.apiece.twitter.post.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PostListVersionRepository.class)
+@DisplayName("PostListVersionRepository 테스트")
+class PostListVersionRepositoryTest {
+
+    @Autowired
+    private PostListVersionRepository postListVersionRepository;
+
+    @Test
+    @DisplayName("인스턴스별 행을 만들고 올리며, 합은 모든 인스턴스 버전을 더한 값")
+    void incrementAndSum() {
+        // given
+        assertThat(postListVersionRepository.sum()).isZero();
+
+        // when
+        postListVersionRepository.increment(1);
+        postListVersionRepository.increment(1);
+        postListVersionRepository.increment(2);
+
+        // then
+        assertThat(postListVersionRepository.sum()).isEqualTo(3);
+    }
+}
@@ -7,8 +7,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -76,6 +80,37 @@ class PostRepositoryTest {
         assertThat(postPage.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("게시글 커서 조회 - id seek으로 중복/누락 없이 최신순 순회")
+    void findLatestBefore() {
+        // given
+        for (int i = 1; i <= 15; i++) {
+            postRepository.save(Post.builder()
+                    .content("게시글 " + i)
+                    .author("작성자" + i)
+                    .build());
+        }
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // when
+        Slice<Post> firstSlice = postRepository.findLatest(pageRequest);
+        Post last = firstSlice.getContent().get(firstSlice.getContent().size() - 1);
+        Slice<Post> secondSlice = postRepository.findLatestBefore(last.getId(), pageRequest);
+
+        // then
+        assertThat(firstSlice.getContent()).hasSize(10);
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(secondSlice.getContent()).hasSize(5);
+        assertThat(secondSlice.hasNext()).isFalse();
+
+        List<Long> ids = new ArrayList<>();
+        firstSlice.forEach(post -> ids.add(post.getId()));
+        secondSlice.forEach(post -> ids.add(post.getId()));
+        assertThat(ids).doesNotHaveDuplicates().hasSize(15);
+        assertThat(ids).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(firstSlice.getContent().get(0).getContent()).isEqualTo("게시글 15");
+    }
+
     @Test
     @DisplayName("게시글 삭제")
     void delete() {
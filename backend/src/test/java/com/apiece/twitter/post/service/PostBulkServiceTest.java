@@ -0,0 +1,151 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.post.config.PostBulkProperties;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import com.apiece.twitter.post.repository.PostBulkRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostBulkService 테스트")
+class PostBulkServiceTest {
+
+    private PostBulkService postBulkService;
+
+    @Mock
+    private PostBulkRepository postBulkRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<List<Post>> batches = new ArrayList<>();
+    private long nextId = 100;
+
+    @BeforeEach
+    void setUp() {
+        postBulkService = new PostBulkService(postBulkRepository, new PostBulkProperties(2, 100), new ObjectMapper(),
+                eventPublisher);
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - batchSize 단위로 나눠 저장하고 줄별 결과(생성 ID 포함)를 순서대로 반환")
+    void ingest_batches() throws IOException {
+        // given
+        recordBatches();
+        String body = """
+                {"content":"게시글 1","author":"홍길동"}
+                {"content":"게시글 2","author":"홍길동"}
+
+                {"content":"게시글 3","author":"홍길동"}
+                """;
+
+        // when
+        List<String> results = ingest(body, 7L);
+
+        // then
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(Post::getContent).containsExactly("게시글 1", "게시글 2");
+        assertThat(batches.get(1)).extracting(Post::getContent).containsExactly("게시글 3");
+        assertThat(batches.get(0)).extracting(Post::getAuthorId).containsOnly(7L);
+        assertThat(results).containsExactly(
+                "{\"line\":1,\"status\":\"CREATED\",\"id\":\"100\"}",
+                "{\"line\":2,\"status\":\"CREATED\",\"id\":\"101\"}",
+                "{\"line\":4,\"status\":\"CREATED\",\"id\":\"102\"}"
+        );
+        verify(eventPublisher).publishEvent(new PostsImportedEvent(List.of(100L, 101L), List.of("게시글 1", "게시글 2")));
+        verify(eventPublisher).publishEvent(new PostsImportedEvent(List.of(102L), List.of("게시글 3")));
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 280자 초과, 잘못된 JSON, 작성자 누락, 너무 긴 줄은 거절하고 나머지는 저장")
+    void ingest_rejectsInvalidLines() throws IOException {
+        // given
+        recordBatches();
+        String body = String.join("\n",
+                "{\"content\":\"" + "가".repeat(281) + "\",\"author\":\"홍길동\"}",
+                "{\"content\":",
+                "{\"content\":\"작성자 없음\"}",
+                "x".repeat(101),
+                "{\"content\":\"" + "가".repeat(50) + "\",\"author\":\"홍길동\"}"
+        );
+
+        // when
+        List<String> results = ingest(body, null);
+
+        // then
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0)).contains("\"status\":\"REJECTED\"", "\"code\":\"P002\"");
+        assertThat(results.get(1)).contains("\"status\":\"REJECTED\"", "\"code\":\"P005\"");
+        assertThat(results.get(2)).contains("\"status\":\"REJECTED\"", "\"code\":\"P005\"");
+        assertThat(results.get(3)).contains("\"line\":4", "\"status\":\"REJECTED\"");
+        assertThat(results.get(4)).isEqualTo("{\"line\":5,\"status\":\"CREATED\",\"id\":\"100\"}");
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 배치 저장 실패 시 해당 배치의 줄은 FAILED")
+    void ingest_batchFailure() throws IOException {
+        // given
+        willThrow(new DataIntegrityViolationException("boom")).given(postBulkRepository).insertAll(anyList());
+        String body = "{\"content\":\"게시글\",\"author\":\"홍길동\"}\n";
+
+        // when
+        List<String> results = ingest(body, null);
+
+        // then
+        assertThat(results).containsExactly(
+                "{\"line\":1,\"status\":\"FAILED\",\"code\":\"P006\",\"message\":\"게시글 일괄 저장에 실패했습니다.\"}");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 저장할 게시글이 없으면 DB 를 호출하지 않음")
+    void ingest_nothingToInsert() throws IOException {
+        // when
+        List<String> results = ingest("{\"content\":\"\",\"author\":\"홍길동\"}", null);
+
+        // then
+        assertThat(results).hasSize(1);
+        verify(postBulkRepository, never()).insertAll(anyList());
+    }
+
+    // insertAll 에 넘어온 배치를 복사해 기록 (서비스가 배치 리스트를 재사용하므로)
+    private void recordBatches() {
+        willAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            batches.add(List.copyOf(posts));
+            return LongStream.range(0, posts.size()).map(i -> nextId++).toArray();
+        }).given(postBulkRepository).insertAll(anyList());
+    }
+
+    private List<String> ingest(String body, Long authorId) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postBulkService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), authorId, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.analysis.domain.Sentiment;
+import com.apiece.twitter.enrichment.domain.EnrichmentResult;
+import com.apiece.twitter.enrichment.repository.PostEnrichmentRepository;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostExportFormat;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PostExportService.class, PostEnrichmentRepository.class})
+@DisplayName("PostExportService 테스트")
+class PostExportServiceTest {
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostEnrichmentRepository postEnrichmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - id 오름차순, 한 줄에 게시글 하나")
+    void exportNdjson() throws Exception {
+        // given
+        Post first = postRepository.save(Post.builder().content("오늘 최고").author("홍길동").authorId(7L).build());
+        Post second = postRepository.save(Post.builder().content("줄\n바꿈 \"따옴표\"").author("김철수").build());
+        entityManager.flush();
+        postEnrichmentRepository.updateAll(List.of(
+                new EnrichmentResult(first.getId(), "오늘 최고", Sentiment.POSITIVE, 1.0, "일상,오늘")));
+        entityManager.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = postExportService.export(PostExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2).allMatch(line -> line.startsWith("{"));
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertThat(firstLine.get("id").asText()).isEqualTo(String.valueOf(first.getId()));
+        assertThat(firstLine.get("authorId").asText()).isEqualTo("7");
+        assertThat(firstLine.get("sentiment").asText()).isEqualTo("positive");
+        assertThat(firstLine.get("sentimentScore").asDouble()).isEqualTo(1.0);
+        assertThat(firstLine.get("hashtags")).hasSize(2);
+        JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertThat(secondLine.get("id").asText()).isEqualTo(String.valueOf(second.getId()));
+        assertThat(secondLine.get("content").asText()).isEqualTo("줄\n바꿈 \"따옴표\"");
+        assertThat(secondLine.get("sentiment").isNull()).isTrue();
+        assertThat(secondLine.get("hashtags").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더와 RFC 4180 따옴표 처리")
+    void exportCsv() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder().content("안녕, \"세상\"").author("홍길동").build());
+        entityManager.flush();
+        entityManager.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = postExportService.export(PostExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(count).isEqualTo(1);
+        assertThat(lines[0]).isEqualTo("id,content,author,authorId,sentiment,sentimentScore,hashtags,createdAt,modifiedAt");
+        assertThat(lines[1]).startsWith(post.getId() + ",\"안녕, \"\"세상\"\"\",홍길동,,,,,");
+    }
+
+    @Test
+    @DisplayName("내보낸 엔티티는 영속성 컨텍스트에 남지 않는다")
+    void export_DetachesEntities() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            postRepository.save(Post.builder().content("게시글 " + i).author("홍길동").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        postExportService.export(PostExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        // then
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
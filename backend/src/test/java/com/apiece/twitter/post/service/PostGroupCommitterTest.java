@@ -0,0 +1,246 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.config.PostGroupCommitProperties;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostRequest;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PostGroupCommitter 테스트")
+class PostGroupCommitterTest {
+
+    private final AtomicLong ids = new AtomicLong();
+    private PostGroupCommitter committer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AuthorProfileLoader authorProfileLoader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        // "실패" 내용이 섞인 배치는 저장 실패, 나머지는 ID 를 채워 반환
+        given(postRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            if (posts.stream().anyMatch(post -> post.getContent().equals("실패"))) {
+                throw new DataIntegrityViolationException("too long");
+            }
+            posts.forEach(post -> setId(post, ids.incrementAndGet()));
+            return posts;
+        });
+        // 작성 이벤트는 커밋한 스레드에서 바로 발행 (리스너 스레드 전환은 따로 검증)
+        committer = new PostGroupCommitter(postRepository, transactionManager, eventPublisher,
+                new PostGroupCommitProperties(true, Duration.ofSeconds(5), 3, 10), authorProfileLoader, meterRegistry,
+                Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        committer.stop();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청은 maxBatchSize 까지 모아 한 트랜잭션으로 저장하고 각자 자기 결과를 받는다")
+    void submit_coalescesIntoOneTransaction() throws Exception {
+        // given
+        committer.start();
+
+        // when
+        CompletableFuture<PostResponse> first = committer.submit(new PostRequest("첫 번째", "홍길동"), 1L);
+        CompletableFuture<PostResponse> second = committer.submit(new PostRequest("두 번째", "김철수"), 2L);
+        CompletableFuture<PostResponse> third = committer.submit(new PostRequest("세 번째", "이영희"), null);
+
+        // then - window(5초)를 기다리지 않고 3건이 차자마자 저장
+        assertThat(first.get(1, TimeUnit.SECONDS).content()).isEqualTo("첫 번째");
+        assertThat(second.get(1, TimeUnit.SECONDS).author()).isEqualTo("김철수");
+        assertThat(third.get(1, TimeUnit.SECONDS).id()).isNotNull();
+        assertThat(List.of(first.get().id(), second.get().id(), third.get().id())).doesNotHaveDuplicates();
+        verify(postRepository, times(1)).saveAll(anyList());
+        verify(transactionManager, times(1)).commit(any());
+        verify(eventPublisher, times(3)).publishEvent(any(PostCreatedEvent.class));
+        // 지표는 future 완료 뒤에 기록되므로 커밋 스레드를 멈춘(join) 뒤 확인
+        committer.stop();
+        assertThat(meterRegistry.summary("post.group.commit.batch.size").max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 요청별로 다시 저장해 문제가 된 요청만 실패한다")
+    void commit_fallsBackToPerRequest() {
+        // given
+        PostGroupCommitter.PendingPost ok = pending("정상");
+        PostGroupCommitter.PendingPost bad = pending("실패");
+
+        // when
+        committer.commit(List.of(ok, bad));
+
+        // then
+        assertThat(ok.future().join().content()).isEqualTo("정상");
+        assertThat(bad.future()).isCompletedExceptionally();
+        assertThatThrownBy(bad.future()::join).hasCauseInstanceOf(DataIntegrityViolationException.class);
+        // 배치 1번 + 요청별 2번
+        verify(postRepository, times(3)).saveAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(PostCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 요청은 대기열에 넣지 않고 그 요청만 바로 실패한다")
+    void submit_rejectsInvalidBeforeQueue() throws Exception {
+        // given
+        committer.start();
+
+        // when
+        CompletableFuture<PostResponse> blank = committer.submit(new PostRequest(" ", "홍길동"), 1L);
+        CompletableFuture<PostResponse> tooLong = committer.submit(new PostRequest("가".repeat(281), "홍길동"), 1L);
+        CompletableFuture<PostResponse> noAuthor = committer.submit(new PostRequest("내용", null), 1L);
+        CompletableFuture<PostResponse> first = committer.submit(new PostRequest("첫 번째", "홍길동"), 1L);
+        CompletableFuture<PostResponse> second = committer.submit(new PostRequest("두 번째", "홍길동"), 1L);
+        CompletableFuture<PostResponse> third = committer.submit(new PostRequest("세 번째", "홍길동"), 1L);
+
+        // then - 잘못된 요청은 바로 실패하고, 나머지 3건은 한 번의 배치로 저장 (요청별 재시도 없음)
+        assertThat(errorCode(blank)).isEqualTo(ErrorCode.INVALID_POST_CONTENT);
+        assertThat(errorCode(tooLong)).isEqualTo(ErrorCode.INVALID_POST_CONTENT);
+        assertThat(errorCode(noAuthor)).isEqualTo(ErrorCode.INVALID_POST_AUTHOR);
+        assertThat(first.get(1, TimeUnit.SECONDS).content()).isEqualTo("첫 번째");
+        assertThat(second.get(1, TimeUnit.SECONDS).content()).isEqualTo("두 번째");
+        assertThat(third.get(1, TimeUnit.SECONDS).content()).isEqualTo("세 번째");
+        verify(postRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("작성 이벤트는 커밋 후 리스너 스레드에서 발행하고, 커밋 결과는 리스너를 기다리지 않는다")
+    void commit_publishesOnListenerThread() throws Exception {
+        // given - 리스너가 끝나지 않아도 저장 결과는 완료되어야 한다
+        ExecutorService listenerExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("test-listener").daemon().factory());
+        committer = new PostGroupCommitter(postRepository, transactionManager, eventPublisher,
+                new PostGroupCommitProperties(true, Duration.ofSeconds(5), 3, 10), authorProfileLoader, meterRegistry,
+                listenerExecutor);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> listenerThreads = new CopyOnWriteArrayList<>();
+        List<Long> authorIds = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> {
+            listenerThreads.add(Thread.currentThread().getName());
+            authorIds.add(invocation.<PostCreatedEvent>getArgument(0).post().getAuthorId());
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).given(eventPublisher).publishEvent(any(PostCreatedEvent.class));
+        PostGroupCommitter.PendingPost first = pending("첫 번째", 1L);
+        PostGroupCommitter.PendingPost second = pending("두 번째", 2L);
+
+        // when
+        committer.commit(List.of(first, second));
+
+        // then
+        assertThat(first.future().get(1, TimeUnit.SECONDS).content()).isEqualTo("첫 번째");
+        assertThat(second.future().get(1, TimeUnit.SECONDS).content()).isEqualTo("두 번째");
+        release.countDown();
+        listenerExecutor.shutdown();
+        assertThat(listenerExecutor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(listenerThreads).containsOnly("test-listener");
+        assertThat(authorIds).containsExactly(1L, 2L);
+        InOrder inOrder = inOrder(transactionManager, eventPublisher);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(eventPublisher, times(2)).publishEvent(any(PostCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("동작 중이 아니면 POST_WRITE_BUSY 로 바로 실패")
+    void create_rejectsWhenNotRunning() {
+        // when & then
+        assertThatThrownBy(() -> committer.create(new PostRequest("내용", "홍길동"), null))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.POST_WRITE_BUSY));
+    }
+
+    @Test
+    @DisplayName("멈출 때 대기 중인 요청은 마저 저장한다")
+    void stop_flushesPending() throws Exception {
+        // given
+        committer = new PostGroupCommitter(postRepository, transactionManager, eventPublisher,
+                new PostGroupCommitProperties(true, Duration.ofSeconds(5), 10, 10), authorProfileLoader, meterRegistry);
+        committer.start();
+        CompletableFuture<PostResponse> future = committer.submit(new PostRequest("내용", "홍길동"), null);
+
+        // when
+        committer.stop();
+
+        // then - 리스너 스레드로 넘긴 작성 이벤트도 멈추기 전에 발행된다
+        assertThat(future.get(1, TimeUnit.SECONDS).content()).isEqualTo("내용");
+        verify(eventPublisher, times(1)).publishEvent(any(PostCreatedEvent.class));
+    }
+
+    private static PostGroupCommitter.PendingPost pending(String content) {
+        return pending(content, null);
+    }
+
+    private static PostGroupCommitter.PendingPost pending(String content, Long authorId) {
+        return new PostGroupCommitter.PendingPost(new PostRequest(content, "홍길동"), authorId, new CompletableFuture<>());
+    }
+
+    private static ErrorCode errorCode(CompletableFuture<PostResponse> future) {
+        assertThat(future).isCompletedExceptionally();
+        return future.handle((response, e) -> ((BusinessException) e).getErrorCode()).join();
+    }
+
+    private static void setId(Post post, long id) {
+        try {
+            Field idField = Post.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(post, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostReadCache 테스트")
+class PostReadCacheTest {
+
+    private final PostReadCache postReadCache = new PostReadCache(Caffeine.newBuilder().maximumSize(100).build());
+
+    @Test
+    @DisplayName("동시 미스 - 같은 키는 loader 를 한 번만 실행")
+    void get_ConcurrentMissesLoadOnce() throws Exception {
+        // given
+        int threads = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<PostResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return postReadCache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    sleep();
+                    return createPostResponse(id);
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<PostResponse> result : results) {
+            assertThat(result.get().id()).isEqualTo(1L);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트 - 캐시 무효화 후 다시 조회")
+    void onPostDeleted_Invalidates() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        postReadCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return createPostResponse(id);
+        });
+
+        // when
+        postReadCache.onPostDeleted(new PostDeletedEvent(1L));
+        postReadCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return createPostResponse(id);
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PostResponse createPostResponse(Long id) {
+        return new PostResponse(id, "게시글", "홍길동", null, null, null, null, null, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
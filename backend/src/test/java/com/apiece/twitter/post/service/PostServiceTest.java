@@ -1,21 +1,32 @@
 package com.apiece.twitter.post.service;
 
+import com.apiece.twitter.global.datasource.DataSourceRouting;
 import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.CursorResponse;
 import com.apiece.twitter.global.response.ErrorCode;
 import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostCursor;
 import com.apiece.twitter.post.dto.PostRequest;
 import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostUpdatedEvent;
 import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,7 +34,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +49,15 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AuthorProfileLoader authorProfileLoader;
+
+    @Spy
+    private PostReadCache postReadCache = new PostReadCache(Caffeine.newBuilder().build());
+
     @Test
     @DisplayName("게시글 전체 조회 - 페이징")
     void getAllPosts() {
@@ -56,6 +78,57 @@ class PostServiceTest {
         assertThat(result.getContent().get(0).content()).isEqualTo("게시글 1");
     }
 
+    @Test
+    @DisplayName("게시글 커서 조회 - 첫 페이지")
+    void getPostsByCursor_FirstPage() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        List<Post> posts = List.of(
+                createPost(2L, "게시글 2", "작성자2"),
+                createPost(1L, "게시글 1", "작성자1")
+        );
+        given(postRepository.findLatest(pageable)).willReturn(new SliceImpl<>(posts, pageable, true));
+
+        // when
+        CursorResponse<PostResponse> result = postService.getPostsByCursor("", 2);
+
+        // then
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 커서 이후 페이지")
+    void getPostsByCursor_NextPage() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        String cursor = new PostCursor(5L).encode();
+        List<Post> posts = List.of(createPost(4L, "게시글 4", "작성자4"));
+        given(postRepository.findLatestBefore(eq(5L), eq(pageable)))
+                .willReturn(new SliceImpl<>(posts, pageable, false));
+
+        // when
+        CursorResponse<PostResponse> result = postService.getPostsByCursor(cursor, 10);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 잘못된 커서")
+    void getPostsByCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> postService.getPostsByCursor("not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> {
+                    BusinessException be = (BusinessException) e;
+                    assertThat(be.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+                });
+    }
+
     @Test
     @DisplayName("게시글 단건 조회 - 성공")
     void getPost_Success() {
@@ -72,6 +145,45 @@ class PostServiceTest {
         assertThat(result.content()).isEqualTo("테스트 게시글");
     }
 
+    @Test
+    @DisplayName("게시글 단건 조회 - 두 번째 조회는 캐시에서 응답")
+    void getPost_Cached() {
+        // given
+        Long postId = 1L;
+        Post post = createPost(postId, "테스트 게시글", "홍길동");
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+
+        // when
+        PostResponse first = postService.getPost(postId);
+        PostResponse second = postService.getPost(postId);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(postRepository, times(1)).findById(postId);
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 - 수정 후 무효화된 캐시는 복제본이 옛 내용이어도 주 DB 의 새 내용으로 채운다")
+    void getPost_RefillsFromPrimaryAfterUpdate() {
+        // given - 복제본은 아직 수정 전 내용, 주 DB 는 수정된 내용
+        Long postId = 1L;
+        Post stale = createPost(postId, "원래 내용", "홍길동");
+        Post updated = createPost(postId, "수정된 내용", "홍길동");
+        given(postRepository.findById(postId))
+                .willAnswer(invocation -> Optional.of(DataSourceRouting.isOnPrimary() ? updated : stale));
+        postReadCache.get(postId, id -> PostResponse.from(stale));
+        postReadCache.onPostUpdated(new PostUpdatedEvent(updated));
+
+        // when
+        PostResponse first = postService.getPost(postId);
+        PostResponse second = postService.getPost(postId);
+
+        // then
+        assertThat(first.content()).isEqualTo("수정된 내용");
+        assertThat(second.content()).isEqualTo("수정된 내용");
+        verify(postRepository, times(1)).findById(postId);
+    }
+
     @Test
     @DisplayName("게시글 단건 조회 - 존재하지 않는 게시글")
     void getPost_NotFound() {
@@ -103,6 +215,7 @@ class PostServiceTest {
         assertThat(result.content()).isEqualTo("새 게시글");
         assertThat(result.author()).isEqualTo("홍길동");
         verify(postRepository).save(any(Post.class));
+        verify(eventPublisher).publishEvent(any(PostCreatedEvent.class));
     }
 
     @Test
@@ -119,6 +232,7 @@ class PostServiceTest {
 
         // then
         assertThat(result.content()).isEqualTo("수정된 내용");
+        verify(eventPublisher).publishEvent(any(PostUpdatedEvent.class));
     }
 
     @Test
@@ -134,6 +248,7 @@ class PostServiceTest {
 
         // then
         verify(postRepository).delete(post);
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(postId));
     }
 
     // 테스트용 Post 엔티티 생성 헬퍼 메서드
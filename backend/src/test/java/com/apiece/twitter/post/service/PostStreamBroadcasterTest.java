@@ -0,0 +1,219 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.global.exception.BusinessException;
+import com.apiece.twitter.global.response.ErrorCode;
+import com.apiece.twitter.post.config.PostStreamProperties;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostStreamBroadcaster 테스트")
+class PostStreamBroadcasterTest {
+
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private final List<Runnable> pendingDispatches = new ArrayList<>();
+
+    @Test
+    @DisplayName("새 게시글을 모든 구독자에게 post 이벤트(id = 게시글 ID)로 전송")
+    void broadcast() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(10, 10, Runnable::run);
+        RecordingEmitter first = subscribe(broadcaster, null);
+        RecordingEmitter second = subscribe(broadcaster, null);
+
+        // when
+        publish(broadcaster, 1L);
+
+        // then
+        assertThat(first.frames).singleElement().asString()
+                .startsWith("id:1\nevent:post\ndata:").contains("\"id\":\"1\"");
+        assertThat(second.frames).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 그 이후 게시글부터 재전송")
+    void subscribe_resume() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(10, 10, Runnable::run);
+        publish(broadcaster, 1L);
+        publish(broadcaster, 2L);
+        publish(broadcaster, 3L);
+
+        // when
+        RecordingEmitter emitter = subscribe(broadcaster, "1");
+
+        // then
+        assertThat(emitter.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n')))
+                .containsExactly("id:2", "id:3");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 가 보관 범위보다 오래됐으면 reset")
+    void subscribe_resumeTooOld() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(2, 10, Runnable::run);
+        publish(broadcaster, 10L);
+        publish(broadcaster, 11L);
+        publish(broadcaster, 12L);
+
+        // when
+        RecordingEmitter emitter = subscribe(broadcaster, "10");
+
+        // then
+        assertThat(emitter.frames).singleElement().asString().startsWith("event:reset");
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 버퍼가 차면 밀린 게시글을 버리고 reset 하나로 합친다")
+    void slowSubscriber_coalesced() {
+        // given - 전송 작업을 바로 실행하지 않아 버퍼가 쌓이게 한다
+        PostStreamBroadcaster broadcaster = broadcaster(10, 2, pendingSends::add);
+        RecordingEmitter emitter = subscribe(broadcaster, null);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            publish(broadcaster, id);
+        }
+        pendingSends.forEach(Runnable::run);
+
+        // then
+        assertThat(emitter.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n')))
+                .containsExactly("event:reset", "id:4", "id:5");
+    }
+
+    @Test
+    @DisplayName("구독자 수 상한을 넘으면 503")
+    void subscribe_limit() {
+        // given
+        PostStreamBroadcaster broadcaster = new PostStreamBroadcaster(
+                new PostStreamProperties(10, 10, 1, Duration.ofSeconds(30), Duration.ofMinutes(1)),
+                new ObjectMapper(), new SimpleMeterRegistry(), Runnable::run, Runnable::run);
+        subscribe(broadcaster, null);
+
+        // when & then
+        assertThatThrownBy(() -> subscribe(broadcaster, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.STREAM_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 유휴 구독자에게만 주석으로 전송")
+    void heartbeat() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(10, 10, Runnable::run);
+        RecordingEmitter emitter = subscribe(broadcaster, null);
+
+        // when
+        broadcaster.heartbeat();
+
+        // then
+        assertThat(emitter.frames).containsExactly(":ping\n\n");
+    }
+
+    @Test
+    @DisplayName("커밋 스레드는 링 버퍼에 넣기만 하고 구독자 분배는 분배 스레드에서 한다")
+    void onPostCreated_dispatchedOffCommitThread() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(10, 10, pendingDispatches::add, Runnable::run);
+        RecordingEmitter emitter = subscribe(broadcaster, null);
+
+        // when
+        publish(broadcaster, 1L);
+        publish(broadcaster, 2L);
+        List<String> beforeDispatch = List.copyOf(emitter.frames);
+        pendingDispatches.forEach(Runnable::run);
+
+        // then - 분배는 한 번만 예약되고 발행 순서대로 보낸다
+        assertThat(beforeDispatch).isEmpty();
+        assertThat(pendingDispatches).hasSize(1);
+        assertThat(emitter.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n')))
+                .containsExactly("id:1", "id:2");
+    }
+
+    @Test
+    @DisplayName("분배 전에 재연결한 구독자는 재전송으로 받은 게시글을 분배로 또 받지 않는다")
+    void subscribe_beforeDispatch_noDuplicate() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(10, 10, pendingDispatches::add, Runnable::run);
+        publish(broadcaster, 1L);
+        pendingDispatches.forEach(Runnable::run);
+        pendingDispatches.clear();
+        RecordingEmitter live = subscribe(broadcaster, null);
+        publish(broadcaster, 2L);
+
+        // when
+        RecordingEmitter resumed = subscribe(broadcaster, "1");
+        pendingDispatches.forEach(Runnable::run);
+
+        // then
+        assertThat(live.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n'))).containsExactly("id:2");
+        assertThat(resumed.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n'))).containsExactly("id:2");
+    }
+
+    @Test
+    @DisplayName("분배가 밀려 링 버퍼에서 빠진 게시글이 있으면 reset 을 먼저 보낸다")
+    void dispatch_lagging_reset() {
+        // given
+        PostStreamBroadcaster broadcaster = broadcaster(2, 10, pendingDispatches::add, Runnable::run);
+        RecordingEmitter emitter = subscribe(broadcaster, null);
+
+        // when
+        publish(broadcaster, 1L);
+        publish(broadcaster, 2L);
+        publish(broadcaster, 3L);
+        pendingDispatches.forEach(Runnable::run);
+
+        // then
+        assertThat(emitter.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n')))
+                .containsExactly("event:reset", "id:2", "id:3");
+    }
+
+    private static PostStreamBroadcaster broadcaster(int replaySize, int bufferSize, Executor sender) {
+        return broadcaster(replaySize, bufferSize, Runnable::run, sender);
+    }
+
+    private static PostStreamBroadcaster broadcaster(int replaySize, int bufferSize, Executor dispatcher, Executor sender) {
+        return new PostStreamBroadcaster(
+                new PostStreamProperties(replaySize, bufferSize, 100, Duration.ofSeconds(30), Duration.ofMinutes(1)),
+                new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry(), dispatcher, sender);
+    }
+
+    private static RecordingEmitter subscribe(PostStreamBroadcaster broadcaster, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    private static void publish(PostStreamBroadcaster broadcaster, Long id) {
+        Post post = Post.builder().content("게시글 " + id).author("홍길동").build();
+        ReflectionTestUtils.setField(post, "id", id);
+        broadcaster.onPostCreated(new PostCreatedEvent(post));
+    }
+
+    // 전송된 SSE 프레임을 문자열로 기록
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+    }
+}
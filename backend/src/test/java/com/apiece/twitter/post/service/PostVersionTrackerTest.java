@@ -0,0 +1,98 @@
+package com.apiece.twitter.post.service;
+
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostsEnrichedEvent;
+import com.apiece.twitter.post.repository.PostListVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PostVersionTracker 테스트")
+class PostVersionTrackerTest {
+
+    @Test
+    @DisplayName("게시글 변경 이벤트마다 목록 ETag 가 바뀐다")
+    void listEtag_ChangesOnEvents() {
+        // given
+        PostVersionTracker tracker = new PostVersionTracker(sharedVersions(), 1);
+        String initial = tracker.listEtag();
+
+        // when
+        tracker.onPostDeleted(new PostDeletedEvent(1L));
+        String afterDelete = tracker.listEtag();
+        tracker.onPostsEnriched(new PostsEnrichedEvent(List.of(2L)));
+
+        // then
+        assertThat(afterDelete).isNotEqualTo(initial);
+        assertThat(tracker.listEtag()).isNotEqualTo(afterDelete).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 게시글이 바뀌어도 이 인스턴스의 목록 ETag 가 바뀐다")
+    void listEtag_ChangesOnOtherNodeWrites() {
+        // given - 같은 DB 를 쓰는 인스턴스 두 개
+        PostListVersionRepository versions = sharedVersions();
+        PostVersionTracker nodeA = new PostVersionTracker(versions, 1);
+        PostVersionTracker nodeB = new PostVersionTracker(versions, 2);
+        String fromB = nodeB.listEtag();
+
+        // when
+        nodeA.onPostDeleted(new PostDeletedEvent(1L));
+
+        // then
+        assertThat(nodeB.listEtag()).isNotEqualTo(fromB).isEqualTo(nodeA.listEtag());
+        verify(versions).increment(1);
+        verify(versions, never()).increment(2);
+    }
+
+    @Test
+    @DisplayName("단건 ETag 는 수정 시간과 분석 여부가 바뀌면 달라진다")
+    void etagOf_ReflectsModificationAndEnrichment() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_789);
+        PostResponse raw = new PostResponse(1L, "내용", "작성자", null, null, null, null, null, modifiedAt, modifiedAt);
+        PostResponse enriched = new PostResponse(1L, "내용", "작성자", null, null, "positive", 0.8, List.of("태그"), modifiedAt, modifiedAt);
+        PostResponse edited = new PostResponse(1L, "수정", "작성자", null, null, null, null, null, modifiedAt, modifiedAt.plusNanos(1000));
+
+        // when & then
+        assertThat(PostVersionTracker.etagOf(raw)).isEqualTo(PostVersionTracker.etagOf(raw));
+        assertThat(PostVersionTracker.etagOf(enriched)).isNotEqualTo(PostVersionTracker.etagOf(raw));
+        assertThat(PostVersionTracker.etagOf(edited)).isNotEqualTo(PostVersionTracker.etagOf(raw));
+    }
+
+    @Test
+    @DisplayName("분석 전 게시글은 Last-Modified 를 주지 않는다")
+    void lastModifiedOf_OnlyWhenEnriched() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 500_000_000);
+        PostResponse raw = new PostResponse(1L, "내용", "작성자", null, null, null, null, null, modifiedAt, modifiedAt);
+        PostResponse enriched = new PostResponse(1L, "내용", "작성자", null, null, "positive", 0.8, List.of(), modifiedAt, modifiedAt);
+
+        // when & then
+        assertThat(PostVersionTracker.lastModifiedOf(raw)).isEqualTo(-1);
+        assertThat(PostVersionTracker.lastModifiedOf(enriched) % 1000).isZero();
+    }
+
+    // 인스턴스별 버전을 메모리에 두는 저장소 (post_list_versions 대신)
+    private static PostListVersionRepository sharedVersions() {
+        Map<Integer, Long> rows = new ConcurrentHashMap<>();
+        PostListVersionRepository versions = mock(PostListVersionRepository.class);
+        willAnswer(invocation -> rows.merge(invocation.<Integer>getArgument(0), 1L, Long::sum))
+                .given(versions).increment(anyInt());
+        given(versions.sum()).willAnswer(invocation -> rows.values().stream().mapToLong(Long::longValue).sum());
+        return versions;
+    }
+}
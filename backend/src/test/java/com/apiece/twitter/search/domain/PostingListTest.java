@@ -0,0 +1,59 @@
+package com.apiece.twitter.search.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostingList 테스트")
+class PostingListTest {
+
+    @Test
+    @DisplayName("추가한 항목을 그대로 읽고, 순서대로 추가하면 delta-varint 로 압축")
+    void add_and_read() {
+        // given
+        PostingList list = new PostingList();
+        long base = 1L << 60;
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            list.add(base + i, i % 3 + 1, 0);
+        }
+
+        // then
+        List<long[]> entries = read(list);
+        assertThat(entries).hasSize(100);
+        assertThat(entries.get(0)).containsExactly(base, 1, 0);
+        assertThat(entries.get(99)).containsExactly(base + 99, 1, 0);
+        // 첫 항목 이후는 (delta, tf, generation) 각 1바이트
+        assertThat(list.encodedBytes()).isLessThan(9 + 99 * 3 + 3);
+    }
+
+    @Test
+    @DisplayName("순서가 어긋난 항목도 보관하고, compact 하면 ID 순으로 병합하며 무효 항목을 제거")
+    void compact_mergesAndDropsStale() {
+        // given
+        PostingList list = new PostingList();
+        list.add(10, 1, 0);
+        list.add(30, 1, 0);
+        list.add(20, 2, 0);
+        list.add(10, 1, 1);
+
+        // when
+        list.compact((postId, generation) -> !(postId == 10 && generation == 0));
+
+        // then
+        assertThat(read(list)).extracting(entry -> entry[0]).containsExactly(10L, 20L, 30L);
+        assertThat(read(list).get(0)).containsExactly(10, 1, 1);
+        assertThat(list.size()).isEqualTo(3);
+    }
+
+    private static List<long[]> read(PostingList list) {
+        List<long[]> entries = new ArrayList<>();
+        list.forEach((postId, frequency, generation) -> entries.add(new long[]{postId, frequency, generation}));
+        return entries;
+    }
+}
@@ -0,0 +1,35 @@
+package com.apiece.twitter.search.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tokenizer 테스트")
+class TokenizerTest {
+
+    @Test
+    @DisplayName("한글은 2글자 단위, 영문/숫자는 소문자 단어 단위로 자른다")
+    void tokenize_mixed() {
+        // when & then
+        assertThat(Tokenizer.tokenize("오늘 Spring Boot3 공부!"))
+                .containsExactly("오늘", "spring", "boot3", "공부");
+        assertThat(Tokenizer.tokenize("대한민국"))
+                .containsExactly("대한", "한민", "민국");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 경계에서 나누고, 한 글자 한글은 그대로 토큰")
+    void tokenize_boundaries() {
+        // when & then
+        assertThat(Tokenizer.tokenize("JPA를 씀")).containsExactly("jpa", "를", "씀");
+    }
+
+    @Test
+    @DisplayName("구두점/공백만 있거나 null 이면 토큰 없음")
+    void tokenize_empty() {
+        // when & then
+        assertThat(Tokenizer.tokenize("  !!, ")).isEmpty();
+        assertThat(Tokenizer.tokenize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package com.apiece.twitter.search.service;
+
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.event.PostDeletedEvent;
+import com.apiece.twitter.post.event.PostsImportedEvent;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.search.domain.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchIndex 테스트")
+class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(postRepository);
+    }
+
+    @Test
+    @DisplayName("검색 - 모든 토큰을 포함한 게시글만, 관련도 높은 순으로 반환")
+    void search_andRanked() {
+        // given
+        postSearchIndex.index(1, "스프링 공부 중");
+        postSearchIndex.index(2, "스프링 스프링 스프링 부트");
+        postSearchIndex.index(3, "자바 공부");
+
+        // when
+        List<SearchHit> spring = postSearchIndex.search("스프링", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10);
+        List<SearchHit> both = postSearchIndex.search("스프링 공부", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(spring).extracting(SearchHit::postId).containsExactly(2L, 1L);
+        assertThat(both).extracting(SearchHit::postId).containsExactly(1L);
+        assertThat(postSearchIndex.search("파이썬", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - (점수, ID) 커서 다음 순위부터 이어서 반환")
+    void search_cursor() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            postSearchIndex.index(id, "hello world");
+        }
+
+        // when
+        List<SearchHit> first = postSearchIndex.search("hello", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 2);
+        SearchHit last = first.get(1);
+        List<SearchHit> second = postSearchIndex.search("hello", last.score(), last.postId(), 2);
+
+        // then
+        assertThat(first).extracting(SearchHit::postId).containsExactly(5L, 4L);
+        assertThat(second).extracting(SearchHit::postId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 내용으로는 검색되지 않고, 삭제하면 결과에서 빠진다")
+    void updateAndDelete() {
+        // given
+        postSearchIndex.index(1, "old content");
+        postSearchIndex.index(2, "old news");
+
+        // when
+        postSearchIndex.index(1, "new content");
+        postSearchIndex.onPostDeleted(new PostDeletedEvent(2L));
+
+        // then
+        assertThat(postSearchIndex.search("old", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10)).isEmpty();
+        assertThat(postSearchIndex.search("new", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10))
+                .extracting(SearchHit::postId).containsExactly(1L);
+        assertThat(postSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효 항목이 많아지면 검색 시 정리하고, 비게 된 토큰은 제거")
+    void search_compactsStaleEntries() {
+        // given
+        for (long id = 1; id <= 40; id++) {
+            postSearchIndex.index(id, "temp");
+            postSearchIndex.remove(id);
+        }
+
+        // when
+        List<SearchHit> hits = postSearchIndex.search("temp", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(hits).isEmpty();
+        assertThat(postSearchIndex.termCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 등록 이벤트의 게시글을 색인")
+    void onPostsImported() {
+        // when
+        postSearchIndex.onPostsImported(new PostsImportedEvent(List.of(10L, 11L), List.of("bulk one", "bulk two")));
+
+        // then
+        assertThat(postSearchIndex.search("bulk", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10))
+                .extracting(SearchHit::postId).containsExactly(11L, 10L);
+    }
+
+    @Test
+    @DisplayName("재구성 - DB 게시글을 ID 순으로 읽어 색인하되, 이미 이벤트로 들어온 최신 내용은 유지")
+    void rebuild() {
+        // given
+        postSearchIndex.index(2, "edited text");
+        given(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(post(1L, "original text"), post(2L, "original text")));
+
+        // when
+        postSearchIndex.rebuild();
+
+        // then
+        assertThat(postSearchIndex.search("original", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10))
+                .extracting(SearchHit::postId).containsExactly(1L);
+        assertThat(postSearchIndex.search("text", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 10))
+                .extracting(SearchHit::postId).containsExactly(2L, 1L);
+    }
+
+    private static Post post(Long id, String content) {
+        Post post = Post.builder().content(content).author("홍길동").build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
@@ -0,0 +1,61 @@
+package com.apiece.twitter.timeline.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimelineBuffer 테스트")
+class TimelineBufferTest {
+
+    @Test
+    @DisplayName("최신순 조회 - 중복 ID 는 한 번만 보관")
+    void readBefore_NewestFirst() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(10);
+        buffer.add(1L);
+        buffer.add(3L);
+        buffer.add(2L);
+        buffer.add(3L);
+
+        // when
+        long[] ids = buffer.readBefore(Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(ids).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("커서 이후 조회 - beforeId 보다 작은 ID 만 반환")
+    void readBefore_Cursor() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(10);
+        for (long id = 1; id <= 6; id++) {
+            buffer.add(id);
+        }
+
+        // when
+        long[] ids = buffer.readBefore(4L, 2);
+
+        // then
+        assertThat(ids).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버퍼 - 가장 오래된 ID 부터 밀려남")
+    void add_EvictsOldestWhenFull() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(3);
+        for (long id = 1; id <= 5; id++) {
+            buffer.add(id);
+        }
+
+        // when
+        buffer.add(2L);
+        long[] ids = buffer.readBefore(Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(ids).containsExactly(5L, 4L, 3L);
+    }
+}
@@ -0,0 +1,174 @@
+package com.apiece.twitter.timeline.service;
+
+import com.apiece.twitter.follow.repository.FollowRepository;
+import com.apiece.twitter.follow.service.FollowGraphService;
+import com.apiece.twitter.global.response.CursorResponse;
+import com.apiece.twitter.post.domain.Post;
+import com.apiece.twitter.post.dto.PostResponse;
+import com.apiece.twitter.post.event.PostCreatedEvent;
+import com.apiece.twitter.post.repository.PostRepository;
+import com.apiece.twitter.timeline.config.TimelineProperties;
+import com.apiece.twitter.timeline.domain.TimelineBuffer;
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.service.AuthorProfileLoader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HomeTimelineService 테스트")
+class HomeTimelineServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowGraphService followGraphService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private AuthorProfileLoader authorProfileLoader;
+
+    private Cache<Long, TimelineBuffer> homeTimelines;
+    private HomeTimelineService homeTimelineService;
+
+    @BeforeEach
+    void setUp() {
+        homeTimelines = Caffeine.newBuilder().build();
+        TimelineProperties timelineProperties = new TimelineProperties(100, 2, 1000, Duration.ofHours(1));
+        homeTimelineService = new HomeTimelineService(homeTimelines, timelineProperties, followRepository, followGraphService, postRepository, authorProfileLoader);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 메모리에 있는 팔로워 타임라인으로 fan-out")
+    void onPostCreated_FanOut() {
+        // given
+        homeTimelines.put(10L, new TimelineBuffer(100));
+        given(followGraphService.followerCount(1L)).willReturn(2L);
+        given(followGraphService.followerIds(1L)).willReturn(new long[]{10L, 11L});
+
+        // when
+        homeTimelineService.onPostCreated(new PostCreatedEvent(createPost(100L, 1L)));
+
+        // then
+        assertThat(homeTimelines.getIfPresent(10L).readBefore(Long.MAX_VALUE, 10)).containsExactly(100L);
+        assertThat(homeTimelines.getIfPresent(11L)).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 작성 - 팔로워가 임계치를 넘으면 fan-out 하지 않음")
+    void onPostCreated_HighFollowerAuthorSkipsFanOut() {
+        // given
+        homeTimelines.put(10L, new TimelineBuffer(100));
+        given(followGraphService.followerCount(1L)).willReturn(3L);
+
+        // when
+        homeTimelineService.onPostCreated(new PostCreatedEvent(createPost(100L, 1L)));
+
+        // then - 팔로워 ID 는 읽지 않는다
+        assertThat(homeTimelines.getIfPresent(10L).size()).isZero();
+        verify(followGraphService, never()).followerIds(1L);
+    }
+
+    @Test
+    @DisplayName("홈 타임라인 조회 - 팔로우 중인 고팔로워 작성자의 게시글은 작성 이벤트 없이도(재기동 후) 조회 시 당겨온다")
+    void getHomeTimeline_PullsHighFollowerAuthors() {
+        // given
+        homeTimelines.put(10L, new TimelineBuffer(100));
+        given(followGraphService.highFollowerFollowees(10L, 2)).willReturn(List.of(1L));
+        given(postRepository.findIdsByAuthorIdsBefore(eq(List.of(1L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(200L));
+        given(postRepository.findAllById(List.of(200L))).willReturn(List.of(createPost(200L, 1L)));
+
+        // when
+        CursorResponse<PostResponse> result = homeTimelineService.getHomeTimeline(10L, null, 10);
+
+        // then
+        assertThat(result.content()).extracting(PostResponse::id).containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("홈 타임라인 조회 - 메모리 타임라인에서 페이지 크기만큼 조회")
+    void getHomeTimeline() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(100);
+        buffer.add(101L);
+        buffer.add(102L);
+        buffer.add(103L);
+        homeTimelines.put(10L, buffer);
+        given(postRepository.findAllById(List.of(103L, 102L)))
+                .willReturn(List.of(createPost(102L, 1L), createPost(103L, 2L)));
+        given(authorProfileLoader.loadAll(anyCollection()))
+                .willReturn(Map.of(1L, new AuthorProfile(1L, "닉네임1"), 2L, new AuthorProfile(2L, "닉네임2")));
+
+        // when
+        CursorResponse<PostResponse> result = homeTimelineService.getHomeTimeline(10L, null, 2);
+
+        // then
+        assertThat(result.content()).extracting(PostResponse::id).containsExactly(103L, 102L);
+        assertThat(result.content()).extracting(PostResponse::authorNickname).containsExactly("닉네임2", "닉네임1");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("홈 타임라인 조회 - 메모리에 없으면 팔로우 목록으로 재구성")
+    void getHomeTimeline_Rebuild() {
+        // given
+        given(followRepository.findFolloweeIds(10L)).willReturn(List.of(1L));
+        given(postRepository.findIdsByAuthorIds(anyCollection(), any(Pageable.class))).willReturn(List.of(5L, 4L));
+        given(postRepository.findAllById(List.of(5L, 4L)))
+                .willReturn(List.of(createPost(4L, 1L), createPost(5L, 1L)));
+
+        // when
+        CursorResponse<PostResponse> result = homeTimelineService.getHomeTimeline(10L, null, 10);
+
+        // then
+        assertThat(result.content()).extracting(PostResponse::id).containsExactly(5L, 4L);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(homeTimelines.getIfPresent(10L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("병합 - 내림차순 두 목록을 중복 없이 병합")
+    void mergeDescending() {
+        assertThat(HomeTimelineService.mergeDescending(new long[]{9, 7, 5}, new long[]{8, 7, 1}, 10))
+                .containsExactly(9L, 8L, 7L, 5L, 1L);
+    }
+
+    private Post createPost(Long id, Long authorId) {
+        Post post = Post.builder()
+                .content("게시글 " + id)
+                .author("작성자" + authorId)
+                .authorId(authorId)
+                .build();
+        try {
+            java.lang.reflect.Field idField = Post.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(post, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return post;
+    }
+}
@@ -0,0 +1,27 @@
+package com.apiece.twitter.trend.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HashtagExtractor 테스트")
+class HashtagExtractorTest {
+
+    @Test
+    @DisplayName("한글/영문/숫자/_ 해시태그를 소문자로, 게시글당 한 번씩 추출")
+    void extract() {
+        // when & then
+        assertThat(HashtagExtractor.extract("오늘 #스프링 공부 #Spring_Boot3! #spring_boot3 #"))
+                .containsExactly("스프링", "spring_boot3");
+        assertThat(HashtagExtractor.extract("해시태그 없음")).isEmpty();
+        assertThat(HashtagExtractor.extract(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 해시태그는 무시")
+    void extract_tooLong() {
+        // when & then
+        assertThat(HashtagExtractor.extract("#" + "a".repeat(HashtagExtractor.MAX_TAG_LENGTH + 1))).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.apiece.twitter.trend.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TrendTracker 테스트")
+class TrendTrackerTest {
+
+    private static final long MINUTE = 60_000;
+
+    // 1분 버킷 x 5 = 5분 구간, 상위 2개
+    private final TrendTracker trendTracker = new TrendTracker(MINUTE, 5, 256, 4, 2);
+
+    @Test
+    @DisplayName("사용 횟수 내림차순으로 상위 topK 만 반환")
+    void top_ranked() {
+        // given
+        record("java", 3, 0);
+        record("spring", 5, 0);
+        record("kotlin", 1, 0);
+
+        // when
+        List<Trend> trends = trendTracker.top(0);
+
+        // then
+        assertThat(trends).containsExactly(new Trend("spring", 5), new Trend("java", 3));
+    }
+
+    @Test
+    @DisplayName("구간을 벗어난 버킷의 집계는 빠진다")
+    void top_slidingWindow() {
+        // given
+        record("old", 10, 0);
+        record("new", 2, 3 * MINUTE);
+
+        // when
+        List<Trend> within = trendTracker.top(4 * MINUTE);
+        List<Trend> afterOldExpired = trendTracker.top(5 * MINUTE);
+        List<Trend> afterAllExpired = trendTracker.top(60 * MINUTE);
+
+        // then
+        assertThat(within).containsExactly(new Trend("old", 10), new Trend("new", 2));
+        assertThat(afterOldExpired).containsExactly(new Trend("new", 2));
+        assertThat(afterAllExpired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태그 종류가 많아도 후보는 고정 크기 - 자주 쓰인 태그가 상위에 남는다")
+    void top_manyDistinctTags() {
+        // given
+        for (int i = 0; i < 10_000; i++) {
+            trendTracker.record(Set.of("tag" + i), 0);
+            if (i % 100 == 0) {
+                trendTracker.record(Set.of("hot"), 0);
+            }
+            if (i % 200 == 0) {
+                trendTracker.record(Set.of("warm"), 0);
+            }
+        }
+
+        // when
+        List<Trend> trends = trendTracker.top(0);
+
+        // then
+        assertThat(trends).extracting(Trend::tag).containsExactly("hot", "warm");
+        assertThat(trends.get(0).count()).isGreaterThanOrEqualTo(100);
+    }
+
+    private void record(String tag, int times, long nowMillis) {
+        for (int i = 0; i < times; i++) {
+            trendTracker.record(Set.of(tag), nowMillis);
+        }
+    }
+}
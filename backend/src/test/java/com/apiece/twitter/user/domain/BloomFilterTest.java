@@ -0,0 +1,62 @@
+package com.apiece.twitter.user.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 있다고 답한다")
+    void mightContain_noFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 넣으면 오탐률이 목표 근처")
+    void mightContain_falsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then - 목표 1%, 추정치도 실제와 비슷해야 한다
+        double observed = falsePositives / 100_000.0;
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(observed / 2, observed * 2);
+    }
+
+    @Test
+    @DisplayName("크기와 해시 수는 원소 수와 목표 오탐률로 정해진다")
+    void sizing() {
+        // when
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        // then - 원소당 약 9.6비트, 해시 7개
+        assertThat(filter.bitSize()).isBetween(9_500_000L, 9_700_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+    }
+}
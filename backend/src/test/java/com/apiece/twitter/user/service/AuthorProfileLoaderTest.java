@@ -0,0 +1,100 @@
+package com.apiece.twitter.user.service;
+
+import com.apiece.twitter.user.dto.AuthorProfile;
+import com.apiece.twitter.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthorProfileLoader 테스트")
+class AuthorProfileLoaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 무관하게 작성자들을 IN 쿼리 한 번으로 조회")
+    void loadAll_singleQueryPerPage() {
+        // given - 게시글 100개, 작성자 3명 + 인증 없이 작성된 게시글
+        AuthorProfileLoader loader = new AuthorProfileLoader(Caffeine.newBuilder().build(), userRepository);
+        stubProfiles();
+        List<Long> authorIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            authorIds.add(i % 10 == 0 ? null : (long) (i % 3 + 1));
+        }
+
+        // when
+        Map<Long, AuthorProfile> profiles = loader.loadAll(authorIds);
+
+        // then
+        assertThat(profiles).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(profiles.get(2L).nickname()).isEqualTo("닉네임2");
+        verify(userRepository, times(1)).findProfilesByIdIn(Set.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 작성자는 다시 조회하지 않고, 없는 작성자만 조회")
+    void loadAll_cached() {
+        // given
+        AuthorProfileLoader loader = new AuthorProfileLoader(Caffeine.newBuilder().build(), userRepository);
+        stubProfiles();
+        loader.loadAll(List.of(1L, 2L));
+
+        // when
+        Map<Long, AuthorProfile> profiles = loader.loadAll(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(profiles).containsOnlyKeys(1L, 2L, 3L);
+        verify(userRepository).findProfilesByIdIn(Set.of(1L, 2L));
+        verify(userRepository).findProfilesByIdIn(Set.of(3L));
+    }
+
+    @Test
+    @DisplayName("요청 중에는 공유 캐시가 비어도 같은 요청 안에서 다시 조회하지 않는다")
+    void loadAll_requestScoped() {
+        // given - 공유 캐시가 아무것도 담지 않는 상황
+        AuthorProfileLoader loader = new AuthorProfileLoader(Caffeine.newBuilder().maximumSize(0).executor(Runnable::run).build(), userRepository);
+        stubProfiles();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // when
+        loader.loadAll(List.of(1L, 2L));
+        Map<Long, AuthorProfile> profiles = loader.loadAll(List.of(2L, 1L));
+
+        // then
+        assertThat(profiles).containsOnlyKeys(1L, 2L);
+        verify(userRepository, times(1)).findProfilesByIdIn(anyCollection());
+    }
+
+    private void stubProfiles() {
+        given(userRepository.findProfilesByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new AuthorProfile(id, "닉네임" + id)).toList();
+        });
+    }
+}
@@ -10,21 +10,22 @@ export default function Home() {
   const [posts, setPosts] = useState<Post[]>([]);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState('');
-  const [page, setPage] = useState(0);
+  const [cursor, setCursor] = useState<string | null>(null);
   const [hasMore, setHasMore] = useState(true);
 
-  const fetchPosts = async (pageNum: number) => {
+  const fetchPosts = async (nextCursor: string | null) => {
     try {
-      const response = await postApi.getAll(pageNum);
+      const response = await postApi.getFeed(nextCursor ?? '');
       const newPosts = response.data.content;
 
-      if (pageNum === 0) {
+      if (nextCursor === null) {
         setPosts(newPosts);
       } else {
         setPosts((prev) => [...prev, ...newPosts]);
       }
 
-      setHasMore(response.data.number < response.data.totalPages - 1);
+      setCursor(response.data.nextCursor);
+      setHasMore(response.data.hasNext);
     } catch (err) {
       setError('게시글을 불러오는데 실패했습니다.');
       console.error(err);
@@ -34,14 +35,27 @@ export default function Home() {
   };
 
   useEffect(() => {
-    fetchPosts(0);
+    fetchPosts(null);
+  }, []);
+
+  // 새 게시글 실시간 수신 (재연결 시 브라우저가 Last-Event-ID 로 이어 받는다)
+  useEffect(() => {
+    const source = postApi.stream();
+    source.addEventListener('post', (event) => {
+      const newPost: Post = JSON.parse((event as MessageEvent).data);
+      setPosts((prev) => (prev.some((post) => post.id === newPost.id) ? prev : [newPost, ...prev]));
+    });
+    source.addEventListener('reset', () => {
+      fetchPosts(null);
+    });
+    return () => source.close();
   }, []);
 
   const handlePostCreated = (newPost: Post) => {
-    setPosts((prev) => [newPost, ...prev]);
+    setPosts((prev) => (prev.some((post) => post.id === newPost.id) ? prev : [newPost, ...prev]));
   };
 
-  const handlePostDeleted = (id: number) => {
+  const handlePostDeleted = (id: string) => {
     setPosts((prev) => prev.filter((post) => post.id !== id));
   };
 
@@ -52,9 +66,7 @@ export default function Home() {
   };
 
   const loadMore = () => {
-    const nextPage = page + 1;
-    setPage(nextPage);
-    fetchPosts(nextPage);
+    fetchPosts(cursor);
   };
 
   return (
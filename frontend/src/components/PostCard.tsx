@@ -6,7 +6,7 @@ import { postApi, aiApi } from '@/lib/api';
 
 interface PostCardProps {
   post: Post;
-  onDelete?: (id: number) => void;
+  onDelete?: (id: string) => void;
   onUpdate?: (post: Post) => void;
 }
 
@@ -30,7 +30,7 @@ export default function PostCard({ post, onDelete, onUpdate }: PostCardProps) {
     setIsAnalyzing(true);
     try {
       const result = await aiApi.analyze(post.content);
-      setAnalysis(result);
+      setAnalysis(result.data);
     } catch (error) {
       console.error('분석 실패:', error);
     } finally {
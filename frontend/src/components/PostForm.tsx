@@ -36,7 +36,7 @@ export default function PostForm({ onPostCreated }: PostFormProps) {
   const analyzeContent = async () => {
     try {
       const result = await aiApi.analyze(content);
-      setAnalysis(result);
+      setAnalysis(result.data);
     } catch (error) {
       console.error('분석 실패:', error);
     }
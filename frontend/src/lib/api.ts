@@ -6,12 +6,12 @@ import {
   Post,
   PostRequest,
   PageResponse,
+  CursorResponse,
   ApiResponse,
   AnalyzeResult,
 } from './types';
 
 const API_URL = process.env.NEXT_PUBLIC_API_URL || 'http://localhost:8080';
-const AI_URL = process.env.NEXT_PUBLIC_AI_URL || 'http://localhost:8000';
 
 // Token 관리
 export const getToken = (): string | null => {
@@ -80,7 +80,16 @@ export const postApi = {
     return fetchApi(`${API_URL}/api/posts?page=${page}&size=${size}`);
   },
 
-  getById: async (id: number): Promise<ApiResponse<Post>> => {
+  getFeed: async (cursor = '', size = 10): Promise<ApiResponse<CursorResponse<Post>>> => {
+    return fetchApi(`${API_URL}/api/posts?cursor=${encodeURIComponent(cursor)}&size=${size}`);
+  },
+
+  // 새 게시글 실시간 스트림 (SSE) - post: 새 게시글, reset: 놓친 게시글이 있어 목록 재조회 필요
+  stream: (): EventSource => {
+    return new EventSource(`${API_URL}/api/posts/stream`);
+  },
+
+  getById: async (id: string): Promise<ApiResponse<Post>> => {
     return fetchApi(`${API_URL}/api/posts/${id}`);
   },
 
@@ -91,24 +100,24 @@ export const postApi = {
     });
   },
 
-  update: async (id: number, data: PostRequest): Promise<ApiResponse<Post>> => {
+  update: async (id: string, data: PostRequest): Promise<ApiResponse<Post>> => {
     return fetchApi(`${API_URL}/api/posts/${id}`, {
       method: 'PUT',
       body: JSON.stringify(data),
     });
   },
 
-  delete: async (id: number): Promise<void> => {
+  delete: async (id: string): Promise<void> => {
     await fetchApi(`${API_URL}/api/posts/${id}`, {
       method: 'DELETE',
     });
   },
 };
 
-// AI API
+// 분석 API (감정 분석 + 해시태그 추천, 백엔드에서 처리)
 export const aiApi = {
-  analyze: async (content: string): Promise<AnalyzeResult> => {
-    return fetchApi(`${AI_URL}/api/analyze`, {
+  analyze: async (content: string): Promise<ApiResponse<AnalyzeResult>> => {
+    return fetchApi(`${API_URL}/api/analyze`, {
       method: 'POST',
       body: JSON.stringify({ content }),
     });
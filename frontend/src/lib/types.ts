@@ -15,16 +15,21 @@ export interface TokenResponse {
 }
 
 export interface UserResponse {
-  id: number;
+  // 64비트 Snowflake ID 라 number 정밀도(2^53)를 넘으므로 문자열로 받는다
+  id: string;
   email: string;
   nickname: string;
 }
 
 // Post Types
 export interface Post {
-  id: number;
+  id: string;
   content: string;
   author: string;
+  // 작성 후 비동기로 채워지는 분석 결과 (분석 전이면 null)
+  sentiment: 'positive' | 'negative' | 'neutral' | null;
+  sentimentScore: number | null;
+  hashtags: string[] | null;
   createdAt: string;
   modifiedAt: string;
 }
@@ -42,6 +47,13 @@ export interface PageResponse<T> {
   number: number;
 }
 
+export interface CursorResponse<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
+}
+
 export interface ApiResponse<T> {
   code: string;
   message: string;